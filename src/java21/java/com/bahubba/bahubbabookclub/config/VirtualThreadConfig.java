@@ -0,0 +1,56 @@
+package com.bahubba.bahubbabookclub.config;
+
+import java.util.concurrent.Executors;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.aop.interceptor.AsyncExecutionAspectSupport;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+/**
+ * Runs Tomcat request handling and async tasks on virtual threads. Only compiled into Java 21 builds (the java21 Maven
+ * profile) and only active when app.properties.virtual_threads_enabled is set, so requests blocked on JDBC or S3 no
+ * longer hold a platform thread from a fixed pool
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.properties.virtual_threads_enabled", havingValue = "true")
+@Log4j2
+public class VirtualThreadConfig {
+
+    /**
+     * Hands each request to a new virtual thread in place of Tomcat's worker pool. The security context still lives in
+     * a thread local on the thread running the request, so nothing changes for SecurityUtil
+     *
+     * @return TomcatProtocolHandlerCustomizer
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("Handling requests on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("request-", 0).factory()));
+    }
+
+    /**
+     * Replaces the auto-configured task executor, used for @Async methods and async request processing, with one
+     * starting a virtual thread per task
+     *
+     * @param securityContextTaskDecorator Propagates the caller's security context to the task
+     * @return AsyncTaskExecutor
+     */
+    @Bean(
+            name = {
+                TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+                AsyncExecutionAspectSupport.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+            })
+    public AsyncTaskExecutor applicationTaskExecutor(TaskDecorator securityContextTaskDecorator) {
+        TaskExecutorAdapter taskExecutor = new TaskExecutorAdapter(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-", 0).factory()));
+        taskExecutor.setTaskDecorator(securityContextTaskDecorator);
+        return taskExecutor;
+    }
+}
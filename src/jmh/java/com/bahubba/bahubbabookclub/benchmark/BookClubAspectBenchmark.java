@@ -0,0 +1,75 @@
+package com.bahubba.bahubbabookclub.benchmark;
+
+import com.bahubba.bahubbabookclub.aspect.BookClubAspect;
+import com.bahubba.bahubbabookclub.cache.PreSignedURLCache;
+import com.bahubba.bahubbabookclub.model.dto.BookClubDTO;
+import com.bahubba.bahubbabookclub.model.dto.S3ImageDTO;
+import com.bahubba.bahubbabookclub.service.impl.S3ServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * Cost of adding image URLs to a page of book clubs in the steady state, where every image's URL is already in the
+ * presigned URL cache. See PreSignBenchmark for a cold cache
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookClubAspectBenchmark {
+    @Param({"10", "50"})
+    public int pageSize;
+
+    private S3Presigner s3Presigner;
+    private S3ServiceImpl s3Service;
+    private BookClubAspect bookClubAspect;
+    private Page<BookClubDTO> page;
+
+    @Setup
+    public void setUp() {
+        s3Presigner = S3Presigner.builder()
+                .region(Region.US_EAST_1)
+                .credentialsProvider(
+                        StaticCredentialsProvider.create(AwsBasicCredentials.create("benchmark", "benchmark")))
+                .build();
+        s3Service = new S3ServiceImpl(null, s3Presigner, new PreSignedURLCache(1000, new SimpleMeterRegistry()), 4);
+        ReflectionTestUtils.setField(s3Service, "bucket", "benchmark");
+        bookClubAspect = new BookClubAspect(s3Service);
+
+        page = new PageImpl<>(IntStream.range(0, pageSize)
+                .mapToObj(i -> BookClubDTO.builder()
+                        .id(UUID.randomUUID())
+                        .name("Book Club " + i)
+                        .image(S3ImageDTO.builder().fileName("image-" + i + ".jpg").build())
+                        .build())
+                .toList());
+
+        // Fill the cache, so only the enrichment itself is measured
+        bookClubAspect.addPreSignedURL(null, page);
+    }
+
+    @TearDown
+    public void tearDown() {
+        s3Service.shutdown();
+        s3Presigner.close();
+    }
+
+    @Benchmark
+    public List<BookClubDTO> enrichPage() {
+        bookClubAspect.addPreSignedURL(null, page);
+        return page.getContent();
+    }
+}
@@ -0,0 +1,111 @@
+package com.bahubba.bahubbabookclub.benchmark;
+
+import com.bahubba.bahubbabookclub.BAHubbaBookClubManager;
+import com.bahubba.bahubbabookclub.model.dto.BookClubDTO;
+import com.bahubba.bahubbabookclub.model.entity.BookClub;
+import com.bahubba.bahubbabookclub.model.enums.Publicity;
+import com.bahubba.bahubbabookclub.model.mapper.BookClubMapper;
+import com.bahubba.bahubbabookclub.repository.BookClubRepo;
+import io.jsonwebtoken.io.Encoders;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Cost of serving one page of the book club list (a page query plus its count query, on in-memory H2): loading managed
+ * entities in a read-write transaction and mapping them, against selecting straight into DTOs in a read-only one. The
+ * benchmarks profile runs JMH with the gc profiler, so compare gc.alloc.rate.norm (bytes per page) as well as time
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookClubPageBenchmark {
+    @Param({"1000"})
+    public int bookClubCount;
+
+    @Param({"10", "50"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private BookClubRepo bookClubRepo;
+    private BookClubMapper bookClubMapper;
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+    private int pageCount;
+    private int pageNum;
+
+    @Setup
+    public void setUp() {
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        context = new SpringApplicationBuilder(BAHubbaBookClubManager.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=warn",
+                        "app.properties.secret_key=" + Encoders.BASE64.encode(keyBytes),
+                        "spring.security.user.name=benchmark",
+                        "spring.security.user.password=benchmark",
+                        "aws.credentials.profile-name=default",
+                        "aws.s3.bucket=benchmark")
+                .run();
+
+        bookClubRepo = context.getBean(BookClubRepo.class);
+        bookClubMapper = context.getBean(BookClubMapper.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        List<BookClub> bookClubs = new ArrayList<>();
+        for (int i = 0; i < bookClubCount; i++) {
+            bookClubs.add(BookClub.builder()
+                    .name("Book Club " + i)
+                    .imageFileName("image-" + i + ".jpg")
+                    .description("We read book number " + i)
+                    .publicity(Publicity.PUBLIC)
+                    .build());
+        }
+        bookClubRepo.saveAll(bookClubs);
+        pageCount = bookClubCount / pageSize;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /** Before: managed entities, snapshotted for dirty checking and flushed on commit, then mapped to DTOs */
+    @Benchmark
+    public List<BookClubDTO> entityPage() {
+        PageRequest pageRequest = nextPage();
+        return readWriteTransaction.execute(status -> bookClubRepo
+                .findAll(pageRequest)
+                .map(bookClubMapper::entityToDTO)
+                .getContent());
+    }
+
+    /** After: a constructor projection of only the DTO's columns, in a read-only transaction */
+    @Benchmark
+    public List<BookClubDTO> projectedPage() {
+        PageRequest pageRequest = nextPage();
+        return readOnlyTransaction.execute(status -> bookClubRepo.findAllDTOs(pageRequest).getContent());
+    }
+
+    private PageRequest nextPage() {
+        pageNum = (pageNum + 1) % pageCount;
+        return PageRequest.of(pageNum, pageSize);
+    }
+}
@@ -0,0 +1,127 @@
+package com.bahubba.bahubbabookclub.benchmark;
+
+import com.bahubba.bahubbabookclub.model.entity.BookClub;
+import com.bahubba.bahubbabookclub.model.enums.Publicity;
+import com.bahubba.bahubbabookclub.search.BookClubSearchIndex;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * First-page latency of book club search at 100k clubs: the in-memory full-text index against the LIKE search it
+ * supplements (a page query plus a count query, as Spring Data issues for a Page). The LIKE side runs on in-memory
+ * H2, so it measures the cost of the full scan without network or disk; PostgreSQL only adds to it
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookClubSearchBenchmark {
+    private static final String[] ADJECTIVES = {
+        "Mystery", "Midnight", "Classic", "Cozy", "Weird", "Epic", "Silent", "Golden", "Urban", "Northern"
+    };
+    private static final String[] NOUNS = {
+        "Readers", "Society", "Circle", "Guild", "Club", "Lovers", "Collective", "Salon", "League", "Bookworms"
+    };
+    private static final String[] TOPICS = {
+        "thrillers", "romance", "history", "poetry", "fantasy", "science", "biography", "horror", "memoirs", "classics"
+    };
+
+    @Param({"100000"})
+    public int bookClubCount;
+
+    @Param({"mystery", "myst", "midnight poetry"})
+    public String query;
+
+    private BookClubSearchIndex bookClubSearchIndex;
+    private Connection connection;
+    private PreparedStatement pageStatement;
+    private PreparedStatement countStatement;
+
+    @Setup
+    public void setUp() throws SQLException {
+        bookClubSearchIndex = new BookClubSearchIndex(null);
+        connection = DriverManager.getConnection("jdbc:h2:mem:search-benchmark;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE book_club (id UUID PRIMARY KEY, name VARCHAR(255) NOT NULL, "
+                    + "description VARCHAR(255) NOT NULL, publicity VARCHAR(16) NOT NULL, created TIMESTAMP NOT NULL)");
+        }
+
+        Random random = new Random(42);
+        Publicity[] publicities = Publicity.values();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO book_club VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)")) {
+            for (int i = 0; i < bookClubCount; i++) {
+                BookClub bookClub = BookClub.builder()
+                        .id(UUID.randomUUID())
+                        .name(ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " "
+                                + NOUNS[random.nextInt(NOUNS.length)] + " " + i)
+                        .description("We read " + TOPICS[random.nextInt(TOPICS.length)] + " and "
+                                + TOPICS[random.nextInt(TOPICS.length)])
+                        .publicity(publicities[random.nextInt(publicities.length)])
+                        .build();
+                bookClubSearchIndex.index(bookClub);
+
+                insert.setObject(1, bookClub.getId());
+                insert.setString(2, bookClub.getName());
+                insert.setString(3, bookClub.getDescription());
+                insert.setString(4, bookClub.getPublicity().name());
+                insert.addBatch();
+                if (i % 1000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+
+        pageStatement = connection.prepareStatement("SELECT id FROM book_club "
+                + "WHERE publicity <> 'PRIVATE' AND UPPER(name) LIKE UPPER(?) "
+                + "ORDER BY created DESC, id DESC LIMIT 10");
+        countStatement = connection.prepareStatement(
+                "SELECT COUNT(*) FROM book_club WHERE publicity <> 'PRIVATE' AND UPPER(name) LIKE UPPER(?)");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    /** Before: an unanchored LIKE, scanning every club for the page and again for the count */
+    @Benchmark
+    public List<UUID> likeSearch() throws SQLException {
+        String pattern = "%" + query + "%";
+        List<UUID> ids = new ArrayList<>();
+        pageStatement.setString(1, pattern);
+        try (ResultSet resultSet = pageStatement.executeQuery()) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getObject(1, UUID.class));
+            }
+        }
+
+        countStatement.setString(1, pattern);
+        try (ResultSet resultSet = countStatement.executeQuery()) {
+            resultSet.next();
+            resultSet.getLong(1);
+        }
+
+        return ids;
+    }
+
+    /** After: prefix lookups in the term dictionary, then ranking only the matching clubs */
+    @Benchmark
+    public List<UUID> fullTextIndexSearch() {
+        return bookClubSearchIndex.search(query, PageRequest.of(0, 10)).getContent();
+    }
+}
@@ -0,0 +1,118 @@
+package com.bahubba.bahubbabookclub.benchmark;
+
+import com.bahubba.bahubbabookclub.BAHubbaBookClubManager;
+import io.jsonwebtoken.io.Encoders;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+/**
+ * Where the connection pool saturates: a fixed number of concurrent clients, more than the largest pool, page through
+ * the notification feed while the pool size varies. Throughput stops growing once the pool is no longer the bottleneck;
+ * below that, the time spent waiting for a connection printed after each iteration shows the queueing. Boots the whole
+ * app on in-memory H2 (the test profile), with enough request threads that the pool is the only limit
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(64)
+public class ConnectionPoolSaturationBenchmark {
+    @Param({"2", "5", "10", "20", "40"})
+    public int poolSize;
+
+    private ConfigurableApplicationContext context;
+    private MeterRegistry meterRegistry;
+    private HttpClient httpClient;
+    private HttpRequest feedRequest;
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        context = new SpringApplicationBuilder(BAHubbaBookClubManager.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "server.ssl.enabled=false",
+                        "management.server.port=0",
+                        "server.tomcat.threads.max=200",
+                        "spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                        "spring.datasource.hikari.minimum-idle=" + poolSize,
+                        "spring.datasource.hikari.connection-timeout=30000",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=warn",
+                        "app.properties.secret_key=" + Encoders.BASE64.encode(keyBytes),
+                        "spring.security.user.name=benchmark",
+                        "spring.security.user.password=benchmark",
+                        "aws.credentials.profile-name=default",
+                        "aws.s3.bucket=benchmark")
+                .run();
+        meterRegistry = context.getBean(MeterRegistry.class);
+
+        Environment environment = context.getEnvironment();
+        String baseUrl = "http://localhost:" + environment.getProperty("local.server.port") + "/api/v1";
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        // Register a user to get an auth cookie, then check it's accepted before measuring
+        HttpResponse<Void> registration = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/auth/register"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"benchmark\","
+                                + "\"email\":\"benchmark@test.com\",\"givenName\":\"Bench\",\"password\":\"password\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        String authCookieName = environment.getProperty("app.properties.auth_cookie_name");
+        String authCookie = registration.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith(authCookieName + "="))
+                .map(cookie -> cookie.substring(0, cookie.indexOf(';')))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        "Registration returned no auth cookie, status " + registration.statusCode()));
+
+        feedRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/notifications?pageSize=10"))
+                .header("Cookie", authCookie)
+                .GET()
+                .build();
+        int status = notificationFeed();
+        if (status != 200) {
+            throw new IllegalStateException("Notification feed returned status " + status);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportPool() {
+        Timer acquire = meterRegistry.get("hikaricp.connections.acquire").timer();
+        System.out.printf(
+                "%n[pool %d] connection wait: mean %.3f ms, max %.3f ms over %d borrows%n",
+                poolSize,
+                acquire.mean(TimeUnit.MILLISECONDS),
+                acquire.max(TimeUnit.MILLISECONDS),
+                acquire.count());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /** One authenticated feed page per call; compare ops/s across the poolSize parameter */
+    @Benchmark
+    public int notificationFeed() throws IOException, InterruptedException {
+        return httpClient
+                .send(feedRequest, HttpResponse.BodyHandlers.discarding())
+                .statusCode();
+    }
+}
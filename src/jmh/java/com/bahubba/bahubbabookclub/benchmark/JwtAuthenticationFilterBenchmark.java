@@ -0,0 +1,87 @@
+package com.bahubba.bahubbabookclub.benchmark;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.bahubba.bahubbabookclub.cache.VerifiedTokenCache;
+import com.bahubba.bahubbabookclub.config.JwtAuthenticationFilter;
+import com.bahubba.bahubbabookclub.model.entity.User;
+import com.bahubba.bahubbabookclub.service.impl.JwtServiceImpl;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Per-request cost of the JWT auth filter: reading the auth cookie, verifying the token and populating the security
+ * context. The user lookups are mocked and always hit the user cache, so this is the filter and token verification
+ * alone. The verified token cache is off, so every request checks the signature
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+    private static final String AUTH_COOKIE_NAME = "bbcm_auth";
+
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private Cookie authCookie;
+
+    @Setup
+    public void setUp() {
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        SecretKey signingKey = Keys.hmacShaKeyFor(keyBytes);
+        JwtServiceImpl jwtService = new JwtServiceImpl(
+                null,
+                null,
+                null,
+                signingKey,
+                Jwts.parserBuilder().setSigningKey(signingKey).build(),
+                new VerifiedTokenCache(0, new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(jwtService, "authCookieName", AUTH_COOKIE_NAME);
+
+        User user = User.builder().username("benchmark-user").build();
+        UserCache userCache = mock(UserCache.class);
+        when(userCache.getUserFromCache(user.getUsername())).thenReturn(user);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtService, mock(UserDetailsService.class), userCache);
+
+        String jwt = jwtService.generateJwtCookie(user).getValue();
+        authCookie = new Cookie(AUTH_COOKIE_NAME, jwt);
+    }
+
+    /** A request carrying a valid auth cookie */
+    @Benchmark
+    public Object authenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/book-clubs");
+        request.setCookies(authCookie);
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    /** A request without an auth cookie, passed straight down the chain */
+    @Benchmark
+    public Object anonymousRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/book-clubs");
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return request;
+    }
+}
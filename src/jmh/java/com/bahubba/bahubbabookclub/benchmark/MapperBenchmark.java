@@ -0,0 +1,67 @@
+package com.bahubba.bahubbabookclub.benchmark;
+
+import com.bahubba.bahubbabookclub.model.dto.BookClubDTO;
+import com.bahubba.bahubbabookclub.model.dto.BookClubMembershipDTO;
+import com.bahubba.bahubbabookclub.model.entity.BookClub;
+import com.bahubba.bahubbabookclub.model.entity.BookClubMembership;
+import com.bahubba.bahubbabookclub.model.entity.User;
+import com.bahubba.bahubbabookclub.model.enums.BookClubRole;
+import com.bahubba.bahubbabookclub.model.enums.Publicity;
+import com.bahubba.bahubbabookclub.model.mapper.BookClubMapper;
+import com.bahubba.bahubbabookclub.model.mapper.BookClubMembershipMapper;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+/** Cost of the generated entity to DTO mappings run for every book club and membership a response returns */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+    private BookClubMapper bookClubMapper;
+    private BookClubMembershipMapper bookClubMembershipMapper;
+    private BookClub bookClub;
+    private BookClubMembership membership;
+
+    @Setup
+    public void setUp() {
+        bookClubMapper = Mappers.getMapper(BookClubMapper.class);
+        bookClubMembershipMapper = Mappers.getMapper(BookClubMembershipMapper.class);
+
+        bookClub = BookClub.builder()
+                .id(UUID.randomUUID())
+                .name("Benchmark Book Club")
+                .imageFileName("image.jpg")
+                .description("A book club for benchmarking")
+                .publicity(Publicity.PUBLIC)
+                .build();
+        membership = BookClubMembership.builder()
+                .id(UUID.randomUUID())
+                .bookClub(bookClub)
+                .user(User.builder()
+                        .id(UUID.randomUUID())
+                        .username("benchmark-user")
+                        .email("benchmark@test.com")
+                        .givenName("Bench")
+                        .password("password")
+                        .build())
+                .clubRole(BookClubRole.ADMIN)
+                .isOwner(true)
+                .build();
+    }
+
+    @Benchmark
+    public BookClubDTO bookClubEntityToDTO() {
+        return bookClubMapper.entityToDTO(bookClub);
+    }
+
+    /** Maps the membership's book club and user along with it */
+    @Benchmark
+    public BookClubMembershipDTO membershipEntityToDTO() {
+        return bookClubMembershipMapper.entityToDTO(membership);
+    }
+}
@@ -0,0 +1,43 @@
+package com.bahubba.bahubbabookclub.benchmark;
+
+import com.bahubba.bahubbabookclub.model.mapper.custom.PasswordEncoderMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Cost of BCrypt at the app's default strength: encoding a password on registration, through the mapper, and checking
+ * one on login. Both are deliberately slow, so they set the ceiling on registrations and logins per core
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+    private static final String PASSWORD = "benchmark-password";
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordEncoderMapper passwordEncoderMapper;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder();
+        passwordEncoderMapper = new PasswordEncoderMapper(passwordEncoder);
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+    }
+
+    /** Registration: the mapper encodes the new user's password */
+    @Benchmark
+    public String encode() {
+        return passwordEncoderMapper.encode(PASSWORD);
+    }
+
+    /** Login: the authentication provider checks the password against the stored hash */
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, encodedPassword);
+    }
+}
@@ -0,0 +1,84 @@
+package com.bahubba.bahubbabookclub.benchmark;
+
+import com.bahubba.bahubbabookclub.cache.PreSignedURLCache;
+import com.bahubba.bahubbabookclub.service.impl.S3ServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * Cost of presigning the images of a page of book clubs with a cold URL cache: one key at a time, as the aspect used
+ * to, against one batch that signs each distinct key once on the presigning pool. Signing is local (no calls to S3),
+ * so this measures the signing itself. Every book club's image is shared with one other on the page, as stock images
+ * are
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PreSignBenchmark {
+    @Param({"10", "50", "500"})
+    public int pageSize;
+
+    @Param({"4"})
+    public int parallelism;
+
+    private S3Presigner s3Presigner;
+    private S3ServiceImpl s3Service;
+    private int page;
+
+    @Setup
+    public void setUp() {
+        s3Presigner = S3Presigner.builder()
+                .region(Region.US_EAST_1)
+                .credentialsProvider(
+                        StaticCredentialsProvider.create(AwsBasicCredentials.create("benchmark", "benchmark")))
+                .build();
+
+        // Sized to a few pages, so every page's keys are new without the cache growing for the whole run
+        PreSignedURLCache preSignedURLCache = new PreSignedURLCache(pageSize * 4L, new SimpleMeterRegistry());
+        s3Service = new S3ServiceImpl(null, s3Presigner, preSignedURLCache, parallelism);
+        ReflectionTestUtils.setField(s3Service, "bucket", "benchmark");
+    }
+
+    @TearDown
+    public void tearDown() {
+        s3Service.shutdown();
+        s3Presigner.close();
+    }
+
+    /** Before: each book club on the page signed in turn; repeated images hit the cache */
+    @Benchmark
+    public List<String> serial() {
+        List<String> urls = new ArrayList<>(pageSize);
+        for (String key : nextPage()) {
+            urls.add(s3Service.getPreSignedURL(key));
+        }
+        return urls;
+    }
+
+    /** After: the page's distinct keys signed together on the presigning pool */
+    @Benchmark
+    public Map<String, String> batched() {
+        return s3Service.getPreSignedURLs(nextPage());
+    }
+
+    private List<String> nextPage() {
+        page++;
+        List<String> keys = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            keys.add("book-clubs/images/stock/page-" + page + "-image-" + (i / 2) + ".jpg");
+        }
+        return keys;
+    }
+}
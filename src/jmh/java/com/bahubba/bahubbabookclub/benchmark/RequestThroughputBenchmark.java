@@ -0,0 +1,123 @@
+package com.bahubba.bahubbabookclub.benchmark;
+
+import com.bahubba.bahubbabookclub.BAHubbaBookClubManager;
+import io.jsonwebtoken.io.Encoders;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+/**
+ * End-to-end request throughput with Tomcat on its platform thread pool against virtual threads, under more concurrent
+ * clients than there are platform request threads. Boots the whole app on in-memory H2 (the test profile) and has every
+ * client page through the notification feed, which goes through the JWT filter, a security context lookup and JDBC but
+ * not S3. The connection pool is sized to the platform thread pool, so both modes get the same database capacity.
+ *
+ * <p>The virtual thread mode only exists in Java 21 builds: ./mvnw -Pjava21,benchmarks test-compile exec:exec
+ * -Djmh.includes=RequestThroughputBenchmark. On an older build or JVM both modes run on platform threads
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(256)
+public class RequestThroughputBenchmark {
+    private static final String VIRTUAL_THREAD_CONFIG = "com.bahubba.bahubbabookclub.config.VirtualThreadConfig";
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"50"})
+    public int platformThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest feedRequest;
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        if (virtualThreads && !virtualThreadsAvailable()) {
+            System.err.println("WARNING: virtual threads need a Java 21 build and JVM; running on platform threads");
+        }
+
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        context = new SpringApplicationBuilder(BAHubbaBookClubManager.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "server.ssl.enabled=false",
+                        "management.server.port=0",
+                        "server.tomcat.threads.max=" + platformThreads,
+                        "spring.datasource.hikari.maximum-pool-size=" + platformThreads,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=warn",
+                        "app.properties.virtual_threads_enabled=" + virtualThreads,
+                        "app.properties.secret_key=" + Encoders.BASE64.encode(keyBytes),
+                        "spring.security.user.name=benchmark",
+                        "spring.security.user.password=benchmark",
+                        "aws.credentials.profile-name=default",
+                        "aws.s3.bucket=benchmark")
+                .run();
+
+        Environment environment = context.getEnvironment();
+        String baseUrl = "http://localhost:" + environment.getProperty("local.server.port") + "/api/v1";
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        // Register a user to get an auth cookie, then check it's accepted before measuring
+        HttpResponse<Void> registration = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/auth/register"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"benchmark\","
+                                + "\"email\":\"benchmark@test.com\",\"givenName\":\"Bench\",\"password\":\"password\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        String authCookieName = environment.getProperty("app.properties.auth_cookie_name");
+        String authCookie = registration.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith(authCookieName + "="))
+                .map(cookie -> cookie.substring(0, cookie.indexOf(';')))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        "Registration returned no auth cookie, status " + registration.statusCode()));
+
+        feedRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/notifications?pageSize=10"))
+                .header("Cookie", authCookie)
+                .GET()
+                .build();
+        int status = notificationFeed();
+        if (status != 200) {
+            throw new IllegalStateException("Notification feed returned status " + status);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /** One authenticated feed page per call; compare ops/s across the virtualThreads parameter */
+    @Benchmark
+    public int notificationFeed() throws IOException, InterruptedException {
+        return httpClient
+                .send(feedRequest, HttpResponse.BodyHandlers.discarding())
+                .statusCode();
+    }
+
+    private static boolean virtualThreadsAvailable() {
+        try {
+            Class.forName(VIRTUAL_THREAD_CONFIG);
+            return Runtime.version().feature() >= 21;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
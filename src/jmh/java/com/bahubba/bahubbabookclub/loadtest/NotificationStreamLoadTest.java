@@ -0,0 +1,153 @@
+package com.bahubba.bahubbabookclub.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+/**
+ * Load harness that opens and holds many notification streams against a running instance, reporting how many stay
+ * open and how many heartbeats and notifications arrive. Streams are read asynchronously, so the harness itself
+ * doesn't need a thread per connection either. Uses only the JDK, so after {@code mvn -P benchmarks test-compile}:
+ *
+ * <pre>
+ * java -cp target/test-classes \
+ *     -Dstream.cookie="bbcm_auth=&lt;JWT&gt;" -Dstream.connections=10000 -Dstream.holdSeconds=120 \
+ *     com.bahubba.bahubbabookclub.loadtest.NotificationStreamLoadTest
+ * </pre>
+ *
+ * <p>Holding 10k connections on one machine needs an open file limit above twice that (e.g. {@code ulimit -n 65536})
+ * for both the harness and the server, and server.tomcat.max-connections above the connection count. The local
+ * development certificate is self-signed, so certificates aren't verified unless stream.insecure=false
+ */
+public class NotificationStreamLoadTest {
+    private static final String URL =
+            System.getProperty("stream.url", "https://localhost:8443/api/v1/notifications/stream");
+    private static final String COOKIE = System.getProperty("stream.cookie", "");
+    private static final int CONNECTIONS = Integer.getInteger("stream.connections", 10000);
+    private static final int CONNECTIONS_PER_SECOND = Integer.getInteger("stream.rampPerSecond", 1000);
+    private static final int HOLD_SECONDS = Integer.getInteger("stream.holdSeconds", 120);
+    private static final boolean INSECURE = Boolean.parseBoolean(System.getProperty("stream.insecure", "true"));
+
+    private static final AtomicInteger open = new AtomicInteger();
+    private static final AtomicInteger failed = new AtomicInteger();
+    private static final AtomicInteger closed = new AtomicInteger();
+    private static final AtomicLong heartbeats = new AtomicLong();
+    private static final AtomicLong notifications = new AtomicLong();
+
+    public static void main(String[] args) throws Exception {
+        if (INSECURE) {
+            // Must be set before the HTTP client is first used
+            System.setProperty("jdk.internal.httpclient.disableHostnameVerification", "true");
+        }
+
+        HttpClient.Builder clientBuilder =
+                HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(30));
+        if (INSECURE) {
+            clientBuilder.sslContext(trustAllContext());
+        }
+        HttpClient client = clientBuilder.build();
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(URL))
+                .header("Accept", "text/event-stream")
+                .header("Cookie", COOKIE)
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < CONNECTIONS; i++) {
+            client.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(new StreamSubscriber()))
+                    .whenComplete((response, e) -> {
+                        if (e != null || response.statusCode() != 200) {
+                            failed.incrementAndGet();
+                        }
+                    });
+
+            // Ramp up gradually so the server's accept queue doesn't overflow
+            if ((i + 1) % CONNECTIONS_PER_SECOND == 0) {
+                report(start);
+                TimeUnit.SECONDS.sleep(1);
+            }
+        }
+
+        long holdUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(HOLD_SECONDS);
+        while (System.nanoTime() < holdUntil) {
+            TimeUnit.SECONDS.sleep(5);
+            report(start);
+        }
+
+        System.out.println("Done; " + open.get() + " of " + CONNECTIONS + " streams were still open");
+        System.exit(0);
+    }
+
+    private static void report(long start) {
+        System.out.printf(
+                "%5ds  open=%d failed=%d closed=%d heartbeats=%d notifications=%d%n",
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start),
+                open.get(),
+                failed.get(),
+                closed.get(),
+                heartbeats.get(),
+                notifications.get());
+    }
+
+    private static SSLContext trustAllContext() throws Exception {
+        TrustManager trustAll = new X509TrustManager() {
+            @Override
+            public void checkClientTrusted(X509Certificate[] chain, String authType) {}
+
+            @Override
+            public void checkServerTrusted(X509Certificate[] chain, String authType) {}
+
+            @Override
+            public X509Certificate[] getAcceptedIssuers() {
+                return new X509Certificate[0];
+            }
+        };
+
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, new TrustManager[] {trustAll}, new SecureRandom());
+        return sslContext;
+    }
+
+    /** Counts the lines of one stream as they arrive */
+    private static final class StreamSubscriber implements Flow.Subscriber<String> {
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            open.incrementAndGet();
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            // Other comments, like the one sent on connect, aren't heartbeats
+            if (line.equals(":heartbeat")) {
+                heartbeats.incrementAndGet();
+            } else if (line.equals("event:notification")) {
+                notifications.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            open.decrementAndGet();
+            closed.incrementAndGet();
+        }
+
+        @Override
+        public void onComplete() {
+            open.decrementAndGet();
+            closed.incrementAndGet();
+        }
+    }
+}
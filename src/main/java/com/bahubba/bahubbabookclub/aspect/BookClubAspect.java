@@ -1,19 +1,29 @@
 package com.bahubba.bahubbabookclub.aspect;
 
 import com.bahubba.bahubbabookclub.model.dto.BookClubDTO;
+import com.bahubba.bahubbabookclub.model.dto.CursorPageDTO;
 import com.bahubba.bahubbabookclub.model.dto.S3ImageDTO;
 import com.bahubba.bahubbabookclub.service.S3Service;
 import com.bahubba.bahubbabookclub.util.APIConstants;
 import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
+/**
+ * Adds presigned image URLs to the book clubs returned by services. Ordered ahead of the transaction advice, so the
+ * service's transaction has committed and its connection is back in the pool before any S3 work starts
+ */
 @Aspect
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
 @RequiredArgsConstructor
 public class BookClubAspect {
     private final S3Service s3Service;
@@ -35,10 +45,33 @@ public class BookClubAspect {
                     "execution(org.springframework.data.domain.Page<com.bahubba.bahubbabookclub.model.dto.BookClubDTO> com.bahubba.bahubbabookclub.service.*.*(..))",
             returning = "bookClubDTOs")
     public void addPreSignedURL(JoinPoint joinPoint, @NotNull Page<BookClubDTO> bookClubDTOs) {
+        addPreSignedURLs(bookClubDTOs.getContent());
+    }
+
+    @AfterReturning(
+            pointcut =
+                    "execution(com.bahubba.bahubbabookclub.model.dto.CursorPageDTO<com.bahubba.bahubbabookclub.model.dto.BookClubDTO> com.bahubba.bahubbabookclub.service.*.*(..))",
+            returning = "bookClubDTOs")
+    public void addPreSignedURL(JoinPoint joinPoint, @NotNull CursorPageDTO<BookClubDTO> bookClubDTOs) {
+        addPreSignedURLs(bookClubDTOs.getContent());
+    }
+
+    /**
+     * Adds presigned URLs to a page of book clubs in one batch, so book clubs sharing a stock image are signed once and
+     * the rest are signed in parallel
+     *
+     * @param bookClubDTOs The book clubs on the page
+     */
+    private void addPreSignedURLs(List<BookClubDTO> bookClubDTOs) {
+        Map<String, String> urls = s3Service.getPreSignedURLs(
+                bookClubDTOs.stream().map(BookClubAspect::imageKey).toList());
         bookClubDTOs.forEach(bookClubDTO -> bookClubDTO.setImage(S3ImageDTO.builder()
                 .fileName(bookClubDTO.getImage().getFileName())
-                .url(s3Service.getPreSignedURL(APIConstants.BOOK_CLUB_STOCK_IMAGE_PREFIX
-                        + bookClubDTO.getImage().getFileName()))
+                .url(urls.get(imageKey(bookClubDTO)))
                 .build()));
     }
+
+    private static String imageKey(BookClubDTO bookClubDTO) {
+        return APIConstants.BOOK_CLUB_STOCK_IMAGE_PREFIX + bookClubDTO.getImage().getFileName();
+    }
 }
@@ -0,0 +1,35 @@
+package com.bahubba.bahubbabookclub.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.experimental.UtilityClass;
+
+/** Utility class for publishing cache metrics */
+@UtilityClass
+public class CacheMetrics {
+    public static final String HIT_RATIO = "cache.hit.ratio";
+
+    /**
+     * Publishes a Caffeine cache's standard metrics, plus its hit ratio under the same name as the second-level cache
+     * regions' so every cache can be charted together
+     *
+     * @param meterRegistry The registry to publish to
+     * @param cache The cache, built with recordStats()
+     * @param name The cache's name, used as its cache tag
+     */
+    public static void monitor(MeterRegistry meterRegistry, Cache<?, ?> cache, String name) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        Gauge.builder(HIT_RATIO, cache, monitored -> hitRatio(monitored.stats()))
+                .tag("cache", name)
+                .description("Share of cache lookups that found the entry")
+                .register(meterRegistry);
+    }
+
+    private static double hitRatio(CacheStats stats) {
+        // Caffeine reports a ratio of 1 before the first lookup
+        return stats.requestCount() == 0 ? Double.NaN : stats.hitRate();
+    }
+}
@@ -0,0 +1,76 @@
+package com.bahubba.bahubbabookclub.cache;
+
+import com.bahubba.bahubbabookclub.model.dto.ClubRoleDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of users' roles in book clubs, keyed by (book club ID, user ID), so permission checks don't query the
+ * DB on every request. Book club names are cached to their IDs alongside so name-based checks share the role entries.
+ * Entries are evicted explicitly on membership writes, and the TTL bounds staleness from writes on other instances.
+ */
+@Component
+public class ClubRoleCache {
+    private final Cache<ClubMemberKey, ClubRoleDTO> roles;
+    private final Cache<String, UUID> bookClubIDs;
+
+    public ClubRoleCache(
+            @Value("${app.properties.club_role_cache_max_size}") long maxSize,
+            @Value("${app.properties.club_role_cache_ttl_seconds}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        roles = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        bookClubIDs = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CacheMetrics.monitor(meterRegistry, roles, "clubRoles");
+        CacheMetrics.monitor(meterRegistry, bookClubIDs, "bookClubIDs");
+    }
+
+    /**
+     * Gets a user's role in a book club, loading it on a miss
+     *
+     * @param bookClubID The ID of the book club
+     * @param userID The ID of the user
+     * @param loader Loads the role from the DB
+     * @return The user's role in the book club
+     */
+    public ClubRoleDTO get(UUID bookClubID, UUID userID, Supplier<ClubRoleDTO> loader) {
+        return roles.get(new ClubMemberKey(bookClubID, userID), key -> loader.get());
+    }
+
+    /**
+     * Gets the ID of a book club by its name, loading it on a miss. Unknown names are not cached
+     *
+     * @param bookClubName The name of the book club
+     * @param loader Loads the ID from the DB, returning null if there is no such book club
+     * @return The ID of the book club, or null if there is no such book club
+     */
+    public UUID getBookClubID(String bookClubName, Function<String, UUID> loader) {
+        return bookClubIDs.get(bookClubName, loader);
+    }
+
+    public void invalidate(UUID bookClubID, UUID userID) {
+        roles.invalidate(new ClubMemberKey(bookClubID, userID));
+    }
+
+    public void invalidateBookClubName(String bookClubName) {
+        if (bookClubName != null) {
+            bookClubIDs.invalidate(bookClubName);
+        }
+    }
+
+    private record ClubMemberKey(UUID bookClubID, UUID userID) {}
+}
@@ -0,0 +1,55 @@
+package com.bahubba.bahubbabookclub.cache;
+
+import com.bahubba.bahubbabookclub.util.APIConstants;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of presigned S3 GET URLs keyed by object key. A URL is reused until a safety margin before it expires, so a
+ * cached URL always has at least {@link APIConstants#BOOK_CLUB_IMAGE_URL_CACHE_MARGIN_MINUTES} left when handed out.
+ */
+@Component
+public class PreSignedURLCache {
+    private final Cache<String, String> cache;
+
+    public PreSignedURLCache(
+            @Value("${app.properties.presigned_url_cache_max_size}") long maxSize, MeterRegistry meterRegistry) {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(APIConstants.BOOK_CLUB_IMAGE_URL_TIMEOUT_MINUTES
+                        - APIConstants.BOOK_CLUB_IMAGE_URL_CACHE_MARGIN_MINUTES))
+                .recordStats()
+                .build();
+        CacheMetrics.monitor(meterRegistry, cache, "preSignedURLs");
+    }
+
+    /**
+     * Gets the presigned URL for an S3 object, signing and caching a new one on a miss
+     *
+     * @param key The S3 object key
+     * @param signer Generates a presigned URL for the key
+     * @return The presigned URL
+     */
+    public String get(String key, Function<String, String> signer) {
+        return cache.get(key, signer);
+    }
+
+    /**
+     * Gets the presigned URLs for several S3 objects, signing and caching the misses in one call
+     *
+     * @param keys The S3 object keys; repeated keys are looked up once
+     * @param signer Generates presigned URLs for the keys that missed
+     * @return The presigned URLs by key
+     */
+    public Map<String, String> getAll(
+            Iterable<String> keys, Function<Set<? extends String>, Map<String, String>> signer) {
+        return cache.getAll(keys, signer);
+    }
+}
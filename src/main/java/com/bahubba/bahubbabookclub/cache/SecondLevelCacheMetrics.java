@@ -0,0 +1,56 @@
+package com.bahubba.bahubbabookclub.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the hits, misses and hit ratio of each Hibernate second-level cache region under the same cache.gets
+ * metric as the application caches, tagged with the region name. Hibernate only counts them while
+ * hibernate.generate_statistics is on
+ */
+@Component
+public class SecondLevelCacheMetrics {
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            // Look the region's statistics up on every read, since clearing the statistics replaces them
+            FunctionCounter.builder("cache.gets", statistics, stats -> hits(stats, region))
+                    .tag("cache", region)
+                    .tag("result", "hit")
+                    .description("Second-level cache lookups that found the entry")
+                    .register(meterRegistry);
+            FunctionCounter.builder("cache.gets", statistics, stats -> misses(stats, region))
+                    .tag("cache", region)
+                    .tag("result", "miss")
+                    .description("Second-level cache lookups that went to the database")
+                    .register(meterRegistry);
+            Gauge.builder(CacheMetrics.HIT_RATIO, statistics, stats -> hitRatio(stats, region))
+                    .tag("cache", region)
+                    .description("Share of second-level cache lookups that found the entry")
+                    .register(meterRegistry);
+        }
+    }
+
+    private static double hits(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return regionStatistics == null ? 0 : regionStatistics.getHitCount();
+    }
+
+    private static double misses(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return regionStatistics == null ? 0 : regionStatistics.getMissCount();
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        double hits = hits(statistics, region);
+        double lookups = hits + misses(statistics, region);
+        return lookups == 0 ? Double.NaN : hits / lookups;
+    }
+}
@@ -0,0 +1,78 @@
+package com.bahubba.bahubbabookclub.cache;
+
+import com.bahubba.bahubbabookclub.model.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived cache of authenticated users' details so the JWT filter doesn't load the user from the DB on every
+ * request. Entries expire after a short TTL and are evicted explicitly when a user departs or their role changes.
+ * Users are held and handed out as detached copies, so no two requests share one entity instance.
+ */
+@Component
+public class UserDetailsCache implements UserCache {
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsCache(
+            @Value("${app.properties.user_cache_max_size}") long maxSize,
+            @Value("${app.properties.user_cache_ttl_seconds}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CacheMetrics.monitor(meterRegistry, cache, "userDetails");
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        return copy(cache.getIfPresent(username));
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        cache.put(user.getUsername(), copy(user));
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        if (username != null) {
+            cache.invalidate(username);
+        }
+    }
+
+    /**
+     * Copies a user's columns into a new instance, leaving out the lazy memberships, which can't be loaded once the
+     * session that read the user has closed
+     *
+     * @param userDetails The user's details
+     * @return A copy if the details are a user entity, otherwise the details themselves
+     */
+    private static UserDetails copy(UserDetails userDetails) {
+        if (!(userDetails instanceof User user)) {
+            return userDetails;
+        }
+
+        return User.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .givenName(user.getGivenName())
+                .middleName(user.getMiddleName())
+                .surname(user.getSurname())
+                .suffix(user.getSuffix())
+                .title(user.getTitle())
+                .joined(user.getJoined())
+                .departed(user.getDeparted())
+                .role(user.getRole())
+                .password(user.getPassword())
+                .build();
+    }
+}
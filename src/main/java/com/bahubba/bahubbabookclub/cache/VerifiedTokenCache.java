@@ -0,0 +1,106 @@
+package com.bahubba.bahubbabookclub.cache;
+
+import com.bahubba.bahubbabookclub.model.dto.VerifiedTokenDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of verified JWT auth token claims so repeat requests with the same token skip signature verification.
+ * Entries are keyed by a SHA-256 hash of the token (the raw token is never held) and expire at the token's own
+ * expiration. A max size of 0 disables the cache.
+ */
+@Component
+public class VerifiedTokenCache {
+    private final Cache<String, VerifiedTokenDTO> cache;
+
+    public VerifiedTokenCache(
+            @Value("${app.properties.token_cache_max_size}") long maxSize, MeterRegistry meterRegistry) {
+        if (maxSize <= 0) {
+            cache = null;
+            return;
+        }
+
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedTokenDTO>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedTokenDTO verifiedToken, long currentTime) {
+                        return Math.max(
+                                0L,
+                                Duration.between(Instant.now(), verifiedToken.getExpiration())
+                                        .toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(
+                            String key, VerifiedTokenDTO verifiedToken, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, verifiedToken, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(
+                            String key, VerifiedTokenDTO verifiedToken, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CacheMetrics.monitor(meterRegistry, cache, "verifiedTokens");
+    }
+
+    /**
+     * Gets the verified claims for a token, verifying and caching them on a miss
+     *
+     * @param token The JWT auth token
+     * @param verifier Verifies the token, returning empty if it is invalid (invalid tokens are not cached)
+     * @return The verified claims, or empty if the token is invalid
+     */
+    public Optional<VerifiedTokenDTO> get(String token, Function<String, Optional<VerifiedTokenDTO>> verifier) {
+        if (cache == null) {
+            return verifier.apply(token);
+        }
+
+        return Optional.ofNullable(
+                cache.get(hash(token), key -> verifier.apply(token).orElse(null)));
+    }
+
+    /**
+     * Drops a token's verified claims from the cache
+     *
+     * @param token The JWT auth token
+     */
+    public void invalidate(String token) {
+        if (cache != null && token != null && !token.isEmpty()) {
+            cache.invalidate(hash(token));
+        }
+    }
+
+    /**
+     * Hashes a token for use as a cache key
+     *
+     * @param token The JWT auth token
+     * @return The Base64-encoded SHA-256 hash of the token
+     */
+    private String hash(String token) {
+        try {
+            return Base64.getEncoder()
+                    .encodeToString(
+                            MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.bahubba.bahubbabookclub.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+/** Configures asynchronous task execution */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * Carries the submitting thread's security context over to async tasks, so SecurityUtil.getCurrentUserDetails
+     * works the same in @Async methods and async request processing as it does on the request thread. Picked up by the
+     * auto-configured task executor, and by the virtual thread executor when that's enabled
+     *
+     * @return TaskDecorator
+     */
+    @Bean
+    public TaskDecorator securityContextTaskDecorator() {
+        return DelegatingSecurityContextRunnable::new;
+    }
+}
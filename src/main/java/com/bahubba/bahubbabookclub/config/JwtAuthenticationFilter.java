@@ -1,5 +1,6 @@
 package com.bahubba.bahubbabookclub.config;
 
+import com.bahubba.bahubbabookclub.model.dto.VerifiedTokenDTO;
 import com.bahubba.bahubbabookclub.service.JwtService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -10,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -24,6 +26,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final UserCache userCache;
 
     /**
      * Excludes auth endpoints from filters
@@ -53,16 +56,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain)
             throws UsernameNotFoundException, ServletException, IOException {
         final String jwt = jwtService.getJwtFromCookies(request);
-        final String username;
 
         if (jwt == null || "".equals(jwt)) {
             filterChain.doFilter(request, response);
             return;
         }
-        username = jwtService.extractUsername(jwt);
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+
+        // Verify the token once, pulling the username and expiration from the same parse
+        final VerifiedTokenDTO verifiedToken = jwtService.validateToken(jwt).orElse(null);
+        if (verifiedToken != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = loadUser(verifiedToken.getUsername());
+            if (userDetails.isAccountNonExpired() && jwtService.isTokenValid(verifiedToken, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -71,4 +75,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Gets a user's details from the cache, falling back to the DB on a miss
+     *
+     * @param username The username from the verified JWT auth token
+     * @return The user's details
+     * @throws UsernameNotFoundException If user is not found
+     */
+    private UserDetails loadUser(String username) throws UsernameNotFoundException {
+        UserDetails userDetails = userCache.getUserFromCache(username);
+        if (userDetails == null) {
+            userDetails = userDetailsService.loadUserByUsername(username);
+            userCache.putUserInCache(userDetails);
+        }
+        return userDetails;
+    }
 }
@@ -0,0 +1,38 @@
+package com.bahubba.bahubbabookclub.config;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import javax.crypto.SecretKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Builds the JWT signing key and parser once at startup so they can be shared across requests */
+@Configuration
+public class JwtConfig {
+    @Value("${app.properties.secret_key}")
+    private String secretKey;
+
+    /**
+     * Decodes the secret key into an HMAC-SHA signing key
+     *
+     * @return The JWT signing key
+     */
+    @Bean
+    public SecretKey jwtSigningKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+    }
+
+    /**
+     * Creates an immutable, thread-safe JWT parser that verifies signatures with the signing key
+     *
+     * @param jwtSigningKey The JWT signing key
+     * @return The JWT parser
+     */
+    @Bean
+    public JwtParser jwtParser(SecretKey jwtSigningKey) {
+        return Jwts.parserBuilder().setSigningKey(jwtSigningKey).build();
+    }
+}
@@ -1,9 +1,14 @@
 package com.bahubba.bahubbabookclub.config;
 
+import com.bahubba.bahubbabookclub.model.enums.Role;
+import com.bahubba.bahubbabookclub.pagination.PaginationPolicy;
+import jakarta.servlet.DispatcherType;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -22,6 +27,32 @@ public class SecurityConfig {
     private final AuthenticationProvider authenticationProvider;
     private final JwtAuthenticationFilter jwtAuthFilter;
 
+    /**
+     * Sets up security for the actuator endpoints, which are served on the management port. Health and the Prometheus
+     * scrape are open to whatever can reach that port; the other endpoints need an admin
+     *
+     * @param httpSecurity HTTP security object for Spring
+     * @return SecurityFilterChain
+     * @throws Exception If security cannot be configured
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity httpSecurity) throws Exception {
+        httpSecurity
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(
+                        sessionManagement -> sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(authorizeRequests -> authorizeRequests
+                        .requestMatchers(EndpointRequest.to("health", "prometheus"))
+                        .permitAll()
+                        .anyRequest()
+                        .hasAuthority(Role.ADMIN.name()))
+                .authenticationProvider(authenticationProvider)
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+        return httpSecurity.build();
+    }
+
     /**
      * Sets up security for the application
      *
@@ -41,6 +72,7 @@ public class SecurityConfig {
                     config.addAllowedHeader("X-Requested-With");
                     config.addAllowedHeader("Authorization");
                     config.addAllowedHeader("Access-Control-Allow-Origin");
+                    config.addExposedHeader(PaginationPolicy.WARNING_HEADER);
                     config.setAllowCredentials(true);
                     config.addAllowedMethod("GET");
                     config.addAllowedMethod("PUT");
@@ -54,6 +86,9 @@ public class SecurityConfig {
                 .sessionManagement(
                         sessionManagement -> sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorizeRequests -> authorizeRequests
+                        // Async dispatches complete requests already authorized, such as notification streams
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                        .permitAll()
                         .requestMatchers("/v3/api-docs", "/v3/api-docs/**", "/swagger-ui/**", "/api/v1/auth/**")
                         .permitAll()
                         .anyRequest()
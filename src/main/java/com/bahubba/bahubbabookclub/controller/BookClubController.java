@@ -2,9 +2,12 @@ package com.bahubba.bahubbabookclub.controller;
 
 import com.bahubba.bahubbabookclub.exception.*;
 import com.bahubba.bahubbabookclub.model.dto.BookClubDTO;
+import com.bahubba.bahubbabookclub.model.dto.CursorPageDTO;
 import com.bahubba.bahubbabookclub.model.dto.S3ImageDTO;
+import com.bahubba.bahubbabookclub.model.payload.BookClubCursorSearch;
 import com.bahubba.bahubbabookclub.model.payload.BookClubPayload;
 import com.bahubba.bahubbabookclub.model.payload.BookClubSearch;
+import com.bahubba.bahubbabookclub.pagination.PaginationPolicy;
 import com.bahubba.bahubbabookclub.service.BookClubService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -24,6 +27,7 @@ import org.springframework.web.bind.annotation.*;
 public class BookClubController {
 
     private final BookClubService bookClubService;
+    private final PaginationPolicy paginationPolicy;
 
     /**
      * Creates a book club
@@ -95,15 +99,37 @@ public class BookClubController {
      *
      * @return A page of all book clubs that the requesting user has a role in
      * @throws UserNotFoundException The user wasn't found in the DB
-     * @throws PageSizeTooSmallException The page size was < 1
-     * @throws PageSizeTooLargeException The page size was > 50
      */
     @GetMapping("/all-for-user")
     @Operation(summary = "Get All for User", description = "Retrieves all book clubs for a given user")
     public ResponseEntity<Page<BookClubDTO>> getAllForUser(@RequestParam int pageNum, @RequestParam int pageSize)
-            throws UserNotFoundException, PageSizeTooSmallException, PageSizeTooLargeException {
+            throws UserNotFoundException {
 
-        return ResponseEntity.ok(bookClubService.findAllForUser(pageNum, pageSize));
+        return ResponseEntity.ok()
+                .headers(paginationPolicy.getWarningHeaders(PaginationPolicy.BOOK_CLUBS_ALL_FOR_USER, pageSize))
+                .body(bookClubService.findAllForUser(pageNum, pageSize));
+    }
+
+    /**
+     * Retrieves book clubs for a given user using keyset pagination, newest first
+     *
+     * @param cursor Cursor from the previous page; omit for the first page
+     * @param pageSize Number of results per page
+     * @return A slice of book clubs that the requesting user has a role in, with the cursor for the next slice
+     * @throws UserNotFoundException The user wasn't found in the DB
+     * @throws BadCursorException The cursor could not be decoded
+     */
+    @GetMapping("/all-for-user/cursor")
+    @Operation(
+            summary = "Get All for User (Cursor)",
+            description = "Retrieves book clubs for a given user using cursor pagination")
+    public ResponseEntity<CursorPageDTO<BookClubDTO>> getAllForUserByCursor(
+            @RequestParam(required = false) String cursor, @RequestParam int pageSize)
+            throws UserNotFoundException, BadCursorException {
+
+        return ResponseEntity.ok()
+                .headers(paginationPolicy.getWarningHeaders(PaginationPolicy.BOOK_CLUBS_ALL_FOR_USER, pageSize))
+                .body(bookClubService.findAllForUserByCursor(cursor, pageSize));
     }
 
     // TODO - pre-authorize this endpoint to only allow admins to access it
@@ -111,15 +137,32 @@ public class BookClubController {
      * Retrieves all book clubs
      *
      * @return A page of all book clubs
-     * @throws PageSizeTooSmallException The page size was < 1
-     * @throws PageSizeTooLargeException The page size was > 50
      */
     @GetMapping("/all")
     @Operation(summary = "Get All", description = "Retrieves all book clubs")
-    public ResponseEntity<Page<BookClubDTO>> getAll(@RequestParam int pageNum, @RequestParam int pageSize)
-            throws PageSizeTooSmallException, PageSizeTooLargeException {
+    public ResponseEntity<Page<BookClubDTO>> getAll(@RequestParam int pageNum, @RequestParam int pageSize) {
+        return ResponseEntity.ok()
+                .headers(paginationPolicy.getWarningHeaders(PaginationPolicy.BOOK_CLUBS_ALL, pageSize))
+                .body(bookClubService.findAll(pageNum, pageSize));
+    }
+
+    // TODO - pre-authorize this endpoint to only allow admins to access it
+    /**
+     * Retrieves book clubs using keyset pagination, newest first
+     *
+     * @param cursor Cursor from the previous page; omit for the first page
+     * @param pageSize Number of results per page
+     * @return A slice of book clubs, with the cursor for the next slice
+     * @throws BadCursorException The cursor could not be decoded
+     */
+    @GetMapping("/all/cursor")
+    @Operation(summary = "Get All (Cursor)", description = "Retrieves book clubs using cursor pagination")
+    public ResponseEntity<CursorPageDTO<BookClubDTO>> getAllByCursor(
+            @RequestParam(required = false) String cursor, @RequestParam int pageSize) throws BadCursorException {
 
-        return ResponseEntity.ok(bookClubService.findAll(pageNum, pageSize));
+        return ResponseEntity.ok()
+                .headers(paginationPolicy.getWarningHeaders(PaginationPolicy.BOOK_CLUBS_ALL, pageSize))
+                .body(bookClubService.findAllByCursor(cursor, pageSize));
     }
 
     /**
@@ -160,20 +203,59 @@ public class BookClubController {
     }
 
     /**
-     * Searches for book clubs by name
+     * Searches for book clubs by name, most relevant first
      *
      * @param bookClubSearch Search string and pagination info
      * @return A page of book clubs that match the search string
-     * @throws PageSizeTooSmallException The page size was < 1
-     * @throws PageSizeTooLargeException The page size was > 50
+     * @throws SearchTermTooShortException The search string was too short to search for
      */
     @PostMapping(value = "/search")
-    @Operation(summary = "Search", description = "Searches for book clubs by name")
+    @Operation(summary = "Search", description = "Searches for book clubs by name, most relevant first")
     public ResponseEntity<Page<BookClubDTO>> search(@RequestBody @NotNull BookClubSearch bookClubSearch)
-            throws PageSizeTooSmallException, PageSizeTooLargeException {
+            throws SearchTermTooShortException {
+
+        return ResponseEntity.ok()
+                .headers(paginationPolicy.getWarningHeaders(
+                        PaginationPolicy.BOOK_CLUBS_SEARCH, bookClubSearch.getPageSize()))
+                .body(bookClubService.search(
+                        bookClubSearch.getSearchTerm(), bookClubSearch.getPageNum(), bookClubSearch.getPageSize()));
+    }
+
+    /**
+     * Searches book club names and descriptions by words or word prefixes
+     *
+     * @param bookClubSearch Search string and pagination info
+     * @return A page of book clubs that match every word in the search string, most relevant first
+     */
+    @PostMapping(value = "/search/full-text")
+    @Operation(summary = "Full-Text Search", description = "Searches book club names and descriptions by words")
+    public ResponseEntity<Page<BookClubDTO>> fullTextSearch(@RequestBody @NotNull BookClubSearch bookClubSearch) {
+        return ResponseEntity.ok()
+                .headers(paginationPolicy.getWarningHeaders(
+                        PaginationPolicy.BOOK_CLUBS_SEARCH, bookClubSearch.getPageSize()))
+                .body(bookClubService.fullTextSearch(
+                        bookClubSearch.getSearchTerm(), bookClubSearch.getPageNum(), bookClubSearch.getPageSize()));
+    }
+
+    /**
+     * Searches for book clubs by name using keyset pagination, newest first
+     *
+     * @param bookClubSearch Search string and cursor pagination info
+     * @return A slice of book clubs that match the search string, with the cursor for the next slice
+     * @throws SearchTermTooShortException The search string was too short to search for
+     * @throws BadCursorException The cursor could not be decoded
+     */
+    @PostMapping(value = "/search/cursor")
+    @Operation(summary = "Search (Cursor)", description = "Searches for book clubs by name using cursor pagination")
+    public ResponseEntity<CursorPageDTO<BookClubDTO>> searchByCursor(
+            @RequestBody @NotNull BookClubCursorSearch bookClubSearch)
+            throws SearchTermTooShortException, BadCursorException {
 
-        return ResponseEntity.ok(bookClubService.search(
-                bookClubSearch.getSearchTerm(), bookClubSearch.getPageNum(), bookClubSearch.getPageSize()));
+        return ResponseEntity.ok()
+                .headers(paginationPolicy.getWarningHeaders(
+                        PaginationPolicy.BOOK_CLUBS_SEARCH, bookClubSearch.getPageSize()))
+                .body(bookClubService.searchByCursor(
+                        bookClubSearch.getSearchTerm(), bookClubSearch.getCursor(), bookClubSearch.getPageSize()));
     }
 
     /**
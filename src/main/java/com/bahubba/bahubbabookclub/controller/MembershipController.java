@@ -6,6 +6,7 @@ import com.bahubba.bahubbabookclub.model.enums.BookClubRole;
 import com.bahubba.bahubbabookclub.model.payload.MembershipCompositeID;
 import com.bahubba.bahubbabookclub.model.payload.MembershipUpdate;
 import com.bahubba.bahubbabookclub.model.payload.NewOwner;
+import com.bahubba.bahubbabookclub.pagination.PaginationPolicy;
 import com.bahubba.bahubbabookclub.service.MembershipService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -22,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 public class MembershipController {
 
     private final MembershipService membershipService;
+    private final PaginationPolicy paginationPolicy;
 
     /**
      * Get all users in a book club
@@ -30,17 +32,16 @@ public class MembershipController {
      * @return A page of users in the book club
      * @throws UserNotFoundException The user was not logged in or did not exist
      * @throws UnauthorizedBookClubActionException The user was not an admin of the book club
-     * @throws PageSizeTooSmallException The page size was < 1
-     * @throws PageSizeTooLargeException The page size was > 50
      */
     @GetMapping("/all/{bookClubName}")
     @Operation(summary = "Get All Members", description = "Gets all members of a book club")
     public ResponseEntity<Page<BookClubMembershipDTO>> getAll(
             @PathVariable String bookClubName, @RequestParam int pageNum, @RequestParam int pageSize)
-            throws UserNotFoundException, UnauthorizedBookClubActionException, PageSizeTooSmallException,
-                    PageSizeTooLargeException {
+            throws UserNotFoundException, UnauthorizedBookClubActionException {
 
-        return ResponseEntity.ok(membershipService.getAll(bookClubName, pageNum, pageSize));
+        return ResponseEntity.ok()
+                .headers(paginationPolicy.getWarningHeaders(PaginationPolicy.MEMBERSHIPS_ALL, pageSize))
+                .body(membershipService.getAll(bookClubName, pageNum, pageSize));
     }
 
     /**
@@ -4,6 +4,7 @@ import com.bahubba.bahubbabookclub.exception.*;
 import com.bahubba.bahubbabookclub.model.dto.MembershipRequestDTO;
 import com.bahubba.bahubbabookclub.model.payload.MembershipRequestAction;
 import com.bahubba.bahubbabookclub.model.payload.NewMembershipRequest;
+import com.bahubba.bahubbabookclub.pagination.PaginationPolicy;
 import com.bahubba.bahubbabookclub.service.MembershipRequestService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class MembershipRequestController {
     private final MembershipRequestService membershipRequestService;
+    private final PaginationPolicy paginationPolicy;
 
     /**
      * Create a membership request
@@ -58,18 +60,17 @@ public class MembershipRequestController {
      * @throws UserNotFoundException The user was not found or was not in the book club
      * @throws BookClubNotFoundException The book club did not exist
      * @throws UnauthorizedBookClubActionException The user was not an admin of the book club
-     * @throws PageSizeTooSmallException The page size was < 1
-     * @throws PageSizeTooLargeException The page size was > 50
      */
     @GetMapping("/all-for-club/{bookClubName}")
     @Operation(summary = "Get All Requests", description = "Get all membership requests for a book club")
     public ResponseEntity<Page<MembershipRequestDTO>> getMembershipRequestsForBookClub(
             @PathVariable String bookClubName, @RequestParam int pageNum, @RequestParam int pageSize)
-            throws UserNotFoundException, BookClubNotFoundException, UnauthorizedBookClubActionException,
-                    PageSizeTooSmallException, PageSizeTooLargeException {
+            throws UserNotFoundException, BookClubNotFoundException, UnauthorizedBookClubActionException {
 
-        return ResponseEntity.ok(
-                membershipRequestService.getMembershipRequestsForBookClub(bookClubName, pageNum, pageSize));
+        return ResponseEntity.ok()
+                .headers(paginationPolicy.getWarningHeaders(
+                        PaginationPolicy.MEMBERSHIP_REQUESTS_ALL_FOR_CLUB, pageSize))
+                .body(membershipRequestService.getMembershipRequestsForBookClub(bookClubName, pageNum, pageSize));
     }
 
     /**
@@ -0,0 +1,83 @@
+package com.bahubba.bahubbabookclub.controller;
+
+import com.bahubba.bahubbabookclub.exception.BadCursorException;
+import com.bahubba.bahubbabookclub.exception.UserNotFoundException;
+import com.bahubba.bahubbabookclub.model.dto.CursorPageDTO;
+import com.bahubba.bahubbabookclub.model.dto.NotificationDTO;
+import com.bahubba.bahubbabookclub.pagination.PaginationPolicy;
+import com.bahubba.bahubbabookclub.service.NotificationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/** Notification endpoints */
+@RestController
+@RequestMapping("/api/v1/notifications")
+@Tag(name = "Notification Controller", description = "Notification endpoints")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+    private final PaginationPolicy paginationPolicy;
+
+    /**
+     * Retrieves the requesting user's notifications using keyset pagination, newest first
+     *
+     * @param cursor Cursor from the previous page; omit for the first page
+     * @param pageSize Number of results per page
+     * @return A slice of the user's notifications, with the cursor for the next slice
+     * @throws UserNotFoundException The user was not logged in or did not exist
+     * @throws BadCursorException The cursor could not be decoded
+     */
+    @GetMapping
+    @Operation(summary = "Get Feed", description = "Retrieves the user's notifications using cursor pagination")
+    public ResponseEntity<CursorPageDTO<NotificationDTO>> getFeed(
+            @RequestParam(required = false) String cursor, @RequestParam int pageSize)
+            throws UserNotFoundException, BadCursorException {
+
+        return ResponseEntity.ok()
+                .headers(paginationPolicy.getWarningHeaders(PaginationPolicy.NOTIFICATIONS_FEED, pageSize))
+                .body(notificationService.getFeed(cursor, pageSize));
+    }
+
+    /**
+     * Retrieves the number of the requesting user's unread notifications
+     *
+     * @return The number of unread notifications
+     * @throws UserNotFoundException The user was not logged in or did not exist
+     */
+    @GetMapping("/unread-count")
+    @Operation(summary = "Get Unread Count", description = "Retrieves the number of unread notifications")
+    public ResponseEntity<Long> getUnreadCount() throws UserNotFoundException {
+        return ResponseEntity.ok(notificationService.getUnreadCount());
+    }
+
+    /**
+     * Marks all of the requesting user's notifications as read
+     *
+     * @return The number of notifications newly marked as read
+     * @throws UserNotFoundException The user was not logged in or did not exist
+     */
+    @PostMapping("/mark-all-read")
+    @Operation(summary = "Mark All Read", description = "Marks all of the user's notifications as read")
+    public ResponseEntity<Integer> markAllRead() throws UserNotFoundException {
+        return ResponseEntity.ok(notificationService.markAllRead());
+    }
+
+    /**
+     * Opens a server-sent event stream of the requesting user's new notifications. Each notification is sent as a
+     * "notification" event, and idle streams get a heartbeat comment
+     *
+     * @return The event stream
+     * @throws UserNotFoundException The user was not logged in or did not exist
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream", description = "Streams the user's new notifications as server-sent events")
+    public SseEmitter stream() throws UserNotFoundException {
+        return notificationService.openStream();
+    }
+}
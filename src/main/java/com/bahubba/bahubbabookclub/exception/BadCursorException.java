@@ -0,0 +1,14 @@
+package com.bahubba.bahubbabookclub.exception;
+
+/** Custom exception for when a client sends a pagination cursor that can't be decoded */
+public class BadCursorException extends RuntimeException {
+
+    /**
+     * Generates exception for an undecodable pagination cursor
+     *
+     * @param cursor the cursor sent by the client
+     */
+    public BadCursorException(String cursor) {
+        super("Invalid pagination cursor '" + cursor + "'");
+    }
+}
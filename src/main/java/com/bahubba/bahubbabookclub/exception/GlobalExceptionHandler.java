@@ -1,7 +1,5 @@
 package com.bahubba.bahubbabookclub.exception;
 
-import com.bahubba.bahubbabookclub.model.dto.ResponseWrapperDTO;
-import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -15,6 +13,11 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler
+    public ResponseEntity<String> handleBadCursorException(BadCursorException e) {
+        return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler
     public ResponseEntity<String> handleBookClubNotFoundException(BookClubNotFoundException e) {
         return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
@@ -31,13 +34,8 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler
-    public ResponseEntity<ResponseWrapperDTO<Page<?>>> handlePageSizeTooLargeException(PageSizeTooLargeException e) {
-        return new ResponseEntity<>(new ResponseWrapperDTO<>(e.getMessage(), e.getPayload()), HttpStatus.BAD_REQUEST);
-    }
-
-    @ExceptionHandler
-    public ResponseEntity<ResponseWrapperDTO<Page<?>>> handlePageSizeTooSmallException(PageSizeTooSmallException e) {
-        return new ResponseEntity<>(new ResponseWrapperDTO<>(e.getMessage(), e.getPayload()), HttpStatus.BAD_REQUEST);
+    public ResponseEntity<String> handleSearchTermTooShortException(SearchTermTooShortException e) {
+        return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler
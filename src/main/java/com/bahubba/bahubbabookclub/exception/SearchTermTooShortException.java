@@ -0,0 +1,14 @@
+package com.bahubba.bahubbabookclub.exception;
+
+/** Custom exception for when a client searches with a term too short to be matched efficiently */
+public class SearchTermTooShortException extends RuntimeException {
+
+    /**
+     * Generates exception for a search term below the minimum length
+     *
+     * @param minLength the minimum number of characters a search term must have
+     */
+    public SearchTermTooShortException(int minLength) {
+        super("Search terms must be at least " + minLength + " characters long");
+    }
+}
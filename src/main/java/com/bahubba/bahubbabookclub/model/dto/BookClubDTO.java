@@ -21,4 +21,33 @@ public class BookClubDTO {
     private Publicity publicity;
     private LocalDateTime created;
     private LocalDateTime disbanded;
+
+    /**
+     * Builds a book club DTO straight from its columns, for JPQL constructor projections that skip loading the entity
+     *
+     * @param id The book club's ID
+     * @param name The book club's name
+     * @param imageFileName The file name of the book club's image
+     * @param description The book club's description
+     * @param publicity The book club's publicity
+     * @param created When the book club was created
+     * @param disbanded When the book club was disbanded, if it was
+     */
+    public BookClubDTO(
+            UUID id,
+            String name,
+            String imageFileName,
+            String description,
+            Publicity publicity,
+            LocalDateTime created,
+            LocalDateTime disbanded) {
+        this(
+                id,
+                name,
+                S3ImageDTO.builder().fileName(imageFileName).build(),
+                description,
+                publicity,
+                created,
+                disbanded);
+    }
 }
@@ -0,0 +1,17 @@
+package com.bahubba.bahubbabookclub.model.dto;
+
+import com.bahubba.bahubbabookclub.model.enums.BookClubRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** A user's standing in a book club, as needed for permission checks */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClubRoleDTO {
+    private BookClubRole clubRole;
+    private boolean isOwner;
+}
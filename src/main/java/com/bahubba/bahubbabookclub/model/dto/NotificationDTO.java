@@ -0,0 +1,31 @@
+package com.bahubba.bahubbabookclub.model.dto;
+
+import com.bahubba.bahubbabookclub.model.enums.NotificationType;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** A notification in a user's feed, with only the source user and book club fields the feed shows */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationDTO implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private UUID id;
+    private NotificationType type;
+    private String actionLink;
+    private LocalDateTime generated;
+    private UUID sourceUserID;
+    private String sourceUsername;
+    private UUID bookClubID;
+    private String bookClubName;
+    private boolean viewed;
+}
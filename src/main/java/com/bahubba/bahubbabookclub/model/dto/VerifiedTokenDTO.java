@@ -0,0 +1,17 @@
+package com.bahubba.bahubbabookclub.model.dto;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Claims pulled from a JWT auth token after its signature and expiration have been verified */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class VerifiedTokenDTO {
+    private String username;
+    private Instant expiration;
+}
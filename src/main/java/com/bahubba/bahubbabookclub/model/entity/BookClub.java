@@ -9,13 +9,23 @@ import java.time.LocalDateTime;
 import java.util.Set;
 import java.util.UUID;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 /**
  * Book Clubs, or discussion groups for books, which can be created, joined, managed, etc. Heart of
- * the application
+ * the application. Held in the second-level cache by ID and by name, since nearly every request looks one up and they
+ * rarely change
  */
 @Entity
-@Table(name = "book_club")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "bookClubs")
+@NaturalIdCache(region = "bookClubNames")
+@Table(
+        name = "book_club",
+        indexes = {@Index(name = "book_club_created_id_idx", columnList = "created DESC, id DESC")})
 @Data
 @Builder
 @NoArgsConstructor
@@ -29,7 +39,9 @@ public class BookClub implements Serializable {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    // Mutable, since book clubs can be renamed
     @Column(nullable = false, unique = true)
+    @NaturalId(mutable = true)
     @NotNull private String name;
 
     @Column(name = "image_file_name", nullable = false)
@@ -15,7 +15,11 @@ import lombok.NoArgsConstructor;
 
 /** Notification entity */
 @Entity
-@Table(name = "notification")
+@Table(
+        name = "notification",
+        // Backs the per-user feed, ordered by (generated DESC, id DESC)
+        indexes =
+                @Index(name = "notification_target_user_generated_idx", columnList = "target_user_id, generated, id"))
 @Data
 @Builder
 @NoArgsConstructor
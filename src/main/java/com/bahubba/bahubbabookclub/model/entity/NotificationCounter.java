@@ -0,0 +1,27 @@
+package com.bahubba.bahubbabookclub.model.entity;
+
+import jakarta.persistence.*;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A user's count of unread notifications, kept up to date as notifications are written and read so the count is a
+ * primary key lookup instead of a COUNT over notification_views
+ */
+@Entity
+@Table(name = "notification_counter")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationCounter {
+    @Id
+    @Column(name = "user_id", nullable = false, unique = true)
+    private UUID userID;
+
+    @Column(nullable = false)
+    private long unread;
+}
@@ -0,0 +1,49 @@
+package com.bahubba.bahubbabookclub.model.entity;
+
+import com.bahubba.bahubbabookclub.model.enums.NotificationType;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Notification waiting to be relayed into the {@link Notification} table. Written in the same transaction as the
+ * change that raised it, so the notification commits or rolls back with that change
+ */
+@Entity
+@Table(
+        name = "notification_outbox",
+        indexes = @Index(name = "notification_outbox_generated_idx", columnList = "generated"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutbox {
+    @Id
+    @Column(nullable = false, unique = true)
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "source_user_id", nullable = false)
+    @NotNull private UUID sourceUserID;
+
+    @Column(name = "target_user_id", nullable = false)
+    @NotNull private UUID targetUserID;
+
+    @Column(name = "book_club_id")
+    private UUID bookClubID;
+
+    @Column(nullable = false)
+    @NotNull @Enumerated(EnumType.STRING)
+    private NotificationType type;
+
+    @Column(name = "action_link")
+    private String actionLink;
+
+    @Column(nullable = false)
+    @NotNull private LocalDateTime generated;
+}
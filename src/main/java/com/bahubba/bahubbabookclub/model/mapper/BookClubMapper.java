@@ -3,6 +3,7 @@ package com.bahubba.bahubbabookclub.model.mapper;
 import com.bahubba.bahubbabookclub.model.dto.BookClubDTO;
 import com.bahubba.bahubbabookclub.model.entity.BookClub;
 import com.bahubba.bahubbabookclub.model.payload.BookClubPayload;
+import com.bahubba.bahubbabookclub.model.projection.BookClubProjection;
 import java.util.List;
 import lombok.Generated;
 import org.mapstruct.Mapper;
@@ -23,6 +24,11 @@ public interface BookClubMapper {
     @Mapping(target = "image.url", ignore = true)
     BookClubDTO entityToDTO(BookClub bookClub);
 
+    @Generated
+    @Mapping(target = "image.fileName", source = "imageFileName")
+    @Mapping(target = "image.url", ignore = true)
+    BookClubDTO projectionToDTO(BookClubProjection bookClub);
+
     @Generated
     @Mapping(target = "id", source = "entity.id")
     @Mapping(target = "name", source = "dto.name")
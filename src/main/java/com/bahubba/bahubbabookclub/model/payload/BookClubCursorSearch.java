@@ -0,0 +1,17 @@
+package com.bahubba.bahubbabookclub.model.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Data sent with HTTP request for searching for book clubs with cursor pagination */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookClubCursorSearch {
+    private String searchTerm;
+    private String cursor;
+    private int pageSize;
+}
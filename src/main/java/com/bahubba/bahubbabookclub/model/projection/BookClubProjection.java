@@ -0,0 +1,22 @@
+package com.bahubba.bahubbabookclub.model.projection;
+
+import com.bahubba.bahubbabookclub.model.enums.Publicity;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** The columns of a book club returned to clients, for native queries that can't use a constructor projection */
+public interface BookClubProjection {
+    UUID getId();
+
+    String getName();
+
+    String getImageFileName();
+
+    String getDescription();
+
+    Publicity getPublicity();
+
+    LocalDateTime getCreated();
+
+    LocalDateTime getDisbanded();
+}
@@ -0,0 +1,74 @@
+package com.bahubba.bahubbabookclub.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Times how long each connection is held, from being borrowed from the pool until it's returned, tagged with the
+ * service method that borrowed it. The pool's own usage timer only covers the pool as a whole
+ */
+public class ConnectionHoldTrackingDataSource extends DelegatingDataSource {
+    public static final String HOLD_TIMER = "db.connection.hold";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ConnectionHoldTrackingDataSource(DataSource targetDataSource, ObjectProvider<MeterRegistry> meterRegistry) {
+        super(targetDataSource);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        long borrowed = System.nanoTime();
+        String serviceMethod = ServiceMethodTracker.currentMethod();
+        AtomicBoolean returned = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                            // Closing twice is allowed, but only the first close returns the connection
+                            if (returned.compareAndSet(false, true)) {
+                                record(serviceMethod, System.nanoTime() - borrowed);
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private void record(String serviceMethod, long heldNanos) {
+        meterRegistry.ifAvailable(registry -> Timer.builder(HOLD_TIMER)
+                .description("Time a connection was held before being returned to the pool")
+                .tag("method", serviceMethod == null ? "none" : serviceMethod)
+                .register(registry)
+                .record(heldNanos, TimeUnit.NANOSECONDS));
+    }
+}
@@ -0,0 +1,41 @@
+package com.bahubba.bahubbabookclub.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the application's data sources so every statement is timed by the {@link SlowQueryListener} and every borrowed
+ * connection by the {@link ConnectionHoldTrackingDataSource}
+ */
+@Component
+public class DataSourceInstrumentation implements BeanPostProcessor {
+    private final long thresholdMs;
+
+    // Looked up lazily; depending on the registry here would create it before its own customizers are registered
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public DataSourceInstrumentation(
+            @Value("${app.properties.slow_query_threshold_ms}") long thresholdMs,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.thresholdMs = thresholdMs;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        // Both wrappers unwrap to the pool, so pool metrics and health checks still find it
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(new ConnectionHoldTrackingDataSource(dataSource, meterRegistry))
+                    .name(beanName)
+                    .listener(new SlowQueryListener(thresholdMs))
+                    .build();
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,53 @@
+package com.bahubba.bahubbabookclub.monitoring;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records which repository method the current thread is running, so statements seen further down the stack can be
+ * traced back to the call that issued them. Statements flushed on commit run outside any repository method
+ */
+@Component
+public class RepositoryMethodTracker implements BeanPostProcessor {
+    private static final ThreadLocal<String> CURRENT_METHOD = new ThreadLocal<>();
+
+    /**
+     * Get the repository method running on this thread
+     *
+     * @return The method as RepositoryName.methodName, or null outside of a repository call
+     */
+    public static String currentMethod() {
+        return CURRENT_METHOD.get();
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+            RepositoryProxyPostProcessor addTracker = (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                    tracker(repositoryInformation.getRepositoryInterface().getSimpleName()));
+            repositoryFactoryBean.addRepositoryFactoryCustomizer(
+                    repositoryFactory -> repositoryFactory.addRepositoryProxyPostProcessor(addTracker));
+        }
+        return bean;
+    }
+
+    private static MethodInterceptor tracker(String repositoryName) {
+        return invocation -> {
+            // Restore rather than clear, since custom repository implementations can call other repositories
+            String outerMethod = CURRENT_METHOD.get();
+            CURRENT_METHOD.set(repositoryName + "." + invocation.getMethod().getName());
+            try {
+                return invocation.proceed();
+            } finally {
+                if (outerMethod == null) {
+                    CURRENT_METHOD.remove();
+                } else {
+                    CURRENT_METHOD.set(outerMethod);
+                }
+            }
+        };
+    }
+}
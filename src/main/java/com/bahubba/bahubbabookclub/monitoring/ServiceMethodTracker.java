@@ -0,0 +1,44 @@
+package com.bahubba.bahubbabookclub.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records which service method the current thread is running. Ordered ahead of the transaction advice, so the
+ * connection a service transaction borrows when it begins is attributed to the method
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMethodTracker {
+    private static final ThreadLocal<String> CURRENT_METHOD = new ThreadLocal<>();
+
+    /**
+     * Get the service method running on this thread
+     *
+     * @return The outermost service method as ServiceImplName.methodName, or null outside of a service call
+     */
+    public static String currentMethod() {
+        return CURRENT_METHOD.get();
+    }
+
+    @Around("execution(public * com.bahubba.bahubbabookclub.service.impl.*.*(..))")
+    public Object track(ProceedingJoinPoint joinPoint) throws Throwable {
+        // Nested service calls join the outer call's transaction, and so its connection
+        if (CURRENT_METHOD.get() != null) {
+            return joinPoint.proceed();
+        }
+
+        CURRENT_METHOD.set(joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
+                + joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            CURRENT_METHOD.remove();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.bahubba.bahubbabookclub.monitoring;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * Logs statements that ran longer than a threshold, as key=value pairs with their elapsed time, the repository method
+ * that issued them and their bind parameters. Faster statements cost only a comparison
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class SlowQueryListener implements QueryExecutionListener {
+    private static final int MAX_PARAMETER_LENGTH = 100;
+
+    private final long thresholdMs;
+
+    @Override
+    public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfos) {}
+
+    @Override
+    public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfos) {
+        if (executionInfo.getElapsedTime() < thresholdMs) {
+            return;
+        }
+
+        String repositoryMethod = RepositoryMethodTracker.currentMethod();
+        log.warn(
+                "Slow query elapsedMs={} repositoryMethod={} success={} batchSize={} query=\"{}\" parameters={}",
+                executionInfo.getElapsedTime(),
+                repositoryMethod == null ? "none" : repositoryMethod,
+                executionInfo.isSuccess(),
+                executionInfo.isBatch() ? executionInfo.getBatchSize() : 1,
+                queryInfos.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; ")),
+                queryInfos.stream()
+                        .flatMap(queryInfo -> queryInfo.getParametersList().stream())
+                        .map(SlowQueryListener::formatParameters)
+                        .collect(Collectors.joining(",", "[", "]")));
+    }
+
+    /**
+     * Format one set of bind parameters, truncating long values
+     *
+     * @param parameters The parameters bound for one execution of a statement
+     * @return The parameter values, in the order they were set
+     */
+    private static String formatParameters(List<ParameterSetOperation> parameters) {
+        return parameters.stream()
+                .map(parameter -> {
+                    // setNull's second argument is the SQL type rather than a value
+                    if (parameter.getMethod().getName().equals("setNull")) {
+                        return "null";
+                    }
+                    String value = String.valueOf(parameter.getArgs()[1]);
+                    return value.length() > MAX_PARAMETER_LENGTH
+                            ? value.substring(0, MAX_PARAMETER_LENGTH) + "..."
+                            : value;
+                })
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+}
@@ -0,0 +1,468 @@
+package com.bahubba.bahubbabookclub.notification;
+
+import com.bahubba.bahubbabookclub.model.dto.NotificationDTO;
+import com.bahubba.bahubbabookclub.model.entity.Notification;
+import com.bahubba.bahubbabookclub.model.entity.NotificationOutbox;
+import com.bahubba.bahubbabookclub.repository.BookClubRepo;
+import com.bahubba.bahubbabookclub.repository.NotificationCounterRepo;
+import com.bahubba.bahubbabookclub.repository.NotificationOutboxRepo;
+import com.bahubba.bahubbabookclub.repository.NotificationRepo;
+import com.bahubba.bahubbabookclub.repository.UserRepo;
+import com.bahubba.bahubbabookclub.util.TransactionUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes notifications off the request path. Events are queued in memory once the caller's transaction commits and a
+ * single writer thread persists them in JDBC batches. Room in the queue is reserved while the caller's transaction is
+ * open; when there is none, the caller writes its notification to the outbox table in that transaction, so a slow DB
+ * pushes back on producers without them taking more connections. With the outbox enabled, every event is written to
+ * the outbox in the caller's transaction, so none are lost on a crash. Outbox notifications are relayed in batches.
+ * Once written, notifications are pushed to their target users' open streams
+ */
+@Component
+@Log4j2
+public class NotificationDispatcher implements SmartLifecycle {
+    // How often an idle writer checks for shutdown
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    private final NotificationProperties properties;
+    private final NotificationRepo notificationRepo;
+    private final NotificationOutboxRepo notificationOutboxRepo;
+    private final NotificationCounterRepo notificationCounterRepo;
+    private final UserRepo userRepo;
+    private final BookClubRepo bookClubRepo;
+    private final NotificationStreamRegistry notificationStreamRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<NotificationEvent> queue;
+    // Room in the queue, reserved before the caller commits and given back as the writer takes events
+    private final Semaphore queueSlots;
+    private final Timer queueFlushTimer;
+    private final Timer outboxFlushTimer;
+    private final Counter overflowCounter;
+    private final Counter failureCounter;
+
+    private volatile boolean running;
+    // Set when overflowed notifications may be waiting in the outbox, including any left from before a restart
+    private volatile boolean overflowPending = true;
+    private Thread writer;
+
+    public NotificationDispatcher(
+            NotificationProperties properties,
+            NotificationRepo notificationRepo,
+            NotificationOutboxRepo notificationOutboxRepo,
+            NotificationCounterRepo notificationCounterRepo,
+            UserRepo userRepo,
+            BookClubRepo bookClubRepo,
+            NotificationStreamRegistry notificationStreamRegistry,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.notificationRepo = notificationRepo;
+        this.notificationOutboxRepo = notificationOutboxRepo;
+        this.notificationCounterRepo = notificationCounterRepo;
+        this.userRepo = userRepo;
+        this.bookClubRepo = bookClubRepo;
+        this.notificationStreamRegistry = notificationStreamRegistry;
+
+        // Writes may run in a caller's afterCommit callback, where the caller's transaction can no longer be joined
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        queueSlots = new Semaphore(properties.getQueueCapacity());
+        Gauge.builder("notifications.queue.depth", queue, Collection::size)
+                .description("Notifications waiting to be written")
+                .register(meterRegistry);
+        queueFlushTimer = Timer.builder("notifications.flush")
+                .tag("source", "queue")
+                .description("Time to write a batch of notifications")
+                .register(meterRegistry);
+        outboxFlushTimer = Timer.builder("notifications.flush")
+                .tag("source", "outbox")
+                .description("Time to write a batch of notifications")
+                .register(meterRegistry);
+        overflowCounter = Counter.builder("notifications.overflow")
+                .description("Notifications written to the outbox by the caller because the queue was full or stopped")
+                .register(meterRegistry);
+        failureCounter = Counter.builder("notifications.failed")
+                .description("Notifications that could not be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Dispatches a notification. It's written only if the current transaction commits
+     *
+     * @param event The notification
+     */
+    public void dispatch(@NotNull NotificationEvent event) {
+        if (properties.isOutboxEnabled()) {
+            // Joins the caller's transaction, so the notification commits or rolls back with it
+            notificationOutboxRepo.save(toOutbox(event));
+            return;
+        }
+
+        if (!reserveSlot()) {
+            // Joins the caller's transaction, reusing its connection rather than taking more while the DB is behind
+            overflowCounter.increment();
+            notificationOutboxRepo.save(toOutbox(event));
+            TransactionUtil.afterCommit(() -> overflowPending = true);
+            return;
+        }
+
+        TransactionUtil.afterCompletion(() -> enqueue(event), queueSlots::release);
+    }
+
+    /** Relays pending outbox notifications in batches until the outbox is empty */
+    @Scheduled(fixedDelayString = "${app.notifications.outbox-relay-interval-ms:1000}")
+    public void relayOutbox() {
+        if (!properties.isOutboxEnabled() && !overflowPending) {
+            return;
+        }
+
+        // Cleared before reading, so an overflow committed during the relay is picked up on the next run
+        overflowPending = false;
+        try {
+            int relayed;
+            do {
+                relayed = outboxFlushTimer.record(this::relayOutboxBatch);
+            } while (relayed == properties.getBatchSize());
+        } catch (RuntimeException e) {
+            // The batch stays in the outbox and is retried on the next run
+            overflowPending = true;
+            log.error("Failed to relay outbox notifications", e);
+        }
+    }
+
+    /**
+     * Gets the number of notifications waiting in the in-memory queue
+     *
+     * @return The queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::runWriter, "notification-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /** Stops accepting queued notifications and waits for the writer to drain the queue */
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            writer.join(properties.getShutdownTimeoutMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (writer.isAlive()) {
+            writer.interrupt();
+            failureCounter.increment(queue.size());
+            log.error("Timed out draining notifications; dropped {}", queue.size());
+            return;
+        }
+
+        // Write anything enqueued between the writer's last check and its exit
+        List<NotificationEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        queueSlots.release(remaining.size());
+        if (!remaining.isEmpty()) {
+            write(remaining);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Starts before and stops after the web server, so in-flight requests can still dispatch while draining */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * Reserves room in the queue for a notification, waiting briefly if it's full
+     *
+     * @return true if room was reserved, false if the queue stayed full or the writer has stopped
+     */
+    private boolean reserveSlot() {
+        try {
+            return running && queueSlots.tryAcquire(properties.getOfferTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Queues a notification into the room reserved for it. If the writer stopped since, which only happens during
+     * shutdown, the notification is written on the calling thread instead
+     *
+     * @param event The notification
+     */
+    private void enqueue(NotificationEvent event) {
+        if (running && queue.offer(event)) {
+            return;
+        }
+
+        queueSlots.release();
+        write(List.of(event));
+    }
+
+    /** Writes queued notifications as they arrive, batching whatever has accumulated, until stopped and drained */
+    private void runWriter() {
+        List<NotificationEvent> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                NotificationEvent first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                queueSlots.release(batch.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Writes a batch of notifications in one transaction. If the batch fails, each notification is retried on its
+     * own so one bad notification doesn't take the rest of the batch with it
+     *
+     * @param events The notifications
+     */
+    private void write(List<NotificationEvent> events) {
+        queueFlushTimer.record(() -> {
+            try {
+                saveAll(events);
+            } catch (RuntimeException e) {
+                if (events.size() == 1) {
+                    failureCounter.increment();
+                    log.error("Failed to write notification {}", events.get(0), e);
+                    return;
+                }
+
+                events.forEach(event -> write(List.of(event)));
+            }
+        });
+    }
+
+    /**
+     * Persists notifications and their target users' unread counts in a new transaction, then pushes them to their
+     * target users' open streams
+     *
+     * @param events The notifications
+     */
+    private void saveAll(List<NotificationEvent> events) {
+        List<Notification> notifications = transactionTemplate.execute(status -> persist(events));
+        push(events, notifications);
+    }
+
+    /**
+     * Persists notifications and adds them to their target users' unread counts, in the current transaction
+     *
+     * @param events The notifications
+     * @return The persisted notifications, in the same order as the events
+     */
+    private List<Notification> persist(List<NotificationEvent> events) {
+        List<Notification> notifications = notificationRepo.saveAll(events.stream().map(this::toEntity).toList());
+
+        Map<UUID, Long> unreadCounts = events.stream()
+                .collect(Collectors.groupingBy(NotificationEvent::getTargetUserID, Collectors.counting()));
+        unreadCounts.forEach((userID, count) -> {
+            // A user's first notification creates their counter
+            if (notificationCounterRepo.incrementUnread(userID, count) == 0) {
+                createCounter(userID);
+                notificationCounterRepo.incrementUnread(userID, count);
+            }
+        });
+
+        return notifications;
+    }
+
+    /**
+     * Creates a user's unread counter at zero in its own transaction. The writer thread and the outbox relay can both
+     * reach a user's first notification, so the loser's duplicate insert fails on its own rather than taking its batch
+     * down with it
+     *
+     * @param userID The user's ID
+     */
+    private void createCounter(UUID userID) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> notificationCounterRepo.createCounter(userID));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Unread counter for user " + userID + " was created concurrently");
+        }
+    }
+
+    /**
+     * Pushes committed notifications to their target users' open streams
+     *
+     * @param events The notifications
+     * @param notifications The persisted notifications, in the same order as the events
+     */
+    private void push(List<NotificationEvent> events, List<Notification> notifications) {
+        for (int i = 0; i < events.size(); i++) {
+            NotificationEvent event = events.get(i);
+            notificationStreamRegistry.publish(event.getTargetUserID(), toDTO(event, notifications.get(i).getId()));
+        }
+    }
+
+    /**
+     * Moves the oldest batch of outbox notifications into the notification table. If the batch fails, each notification
+     * is relayed on its own, so one bad row can't hold up the outbox
+     *
+     * @return The number of notifications relayed
+     */
+    private int relayOutboxBatch() {
+        List<NotificationOutbox> pending = new ArrayList<>();
+        List<NotificationEvent> events = new ArrayList<>();
+        try {
+            List<Notification> notifications = transactionTemplate.execute(status -> {
+                pending.addAll(notificationOutboxRepo.findAllByOrderByGenerated(
+                        PageRequest.of(0, properties.getBatchSize())));
+                if (pending.isEmpty()) {
+                    return List.of();
+                }
+
+                pending.stream().map(this::toEvent).forEach(events::add);
+                notificationOutboxRepo.deleteAllInBatch(pending);
+                return persist(events);
+            });
+            push(events, notifications);
+        } catch (RuntimeException e) {
+            // Nothing was locked, so there's nothing to retry on its own
+            if (pending.isEmpty()) {
+                throw e;
+            }
+
+            pending.forEach(this::relayOne);
+        }
+
+        return pending.size();
+    }
+
+    /**
+     * Moves one outbox notification into the notification table. If it still fails on its own, it's counted and
+     * deleted from the outbox, as the in-memory path drops a notification that fails on its own
+     *
+     * @param outbox The outbox notification
+     */
+    private void relayOne(NotificationOutbox outbox) {
+        NotificationEvent event = toEvent(outbox);
+        try {
+            List<Notification> notifications = transactionTemplate.execute(status -> {
+                // Skipped if another instance relayed it since the batch rolled back
+                if (notificationOutboxRepo.deleteOutboxById(outbox.getId()) == 0) {
+                    return List.of();
+                }
+
+                return persist(List.of(event));
+            });
+            if (!notifications.isEmpty()) {
+                push(List.of(event), notifications);
+            }
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> notificationOutboxRepo.deleteOutboxById(outbox.getId()));
+            failureCounter.increment();
+            log.error("Dropped outbox notification {} that could not be relayed", outbox.getId(), e);
+        }
+    }
+
+    /**
+     * Converts an event to a notification, referencing its users and book club by ID so writing it loads nothing
+     *
+     * @param event The event
+     * @return The notification entity
+     */
+    private Notification toEntity(NotificationEvent event) {
+        return Notification.builder()
+                .sourceUser(userRepo.getReferenceById(event.getSourceUserID()))
+                .targetUser(userRepo.getReferenceById(event.getTargetUserID()))
+                .bookClub(event.getBookClubID() == null ? null : bookClubRepo.getReferenceById(event.getBookClubID()))
+                .type(event.getType())
+                .actionLink(event.getActionLink())
+                .generated(event.getGenerated())
+                .build();
+    }
+
+    /**
+     * Converts a persisted event to the notification pushed to its target user. Relayed outbox events carry no
+     * display names, so clients fill those in from the feed
+     *
+     * @param event The event
+     * @param id The ID of the persisted notification
+     * @return The notification to push
+     */
+    private NotificationDTO toDTO(NotificationEvent event, UUID id) {
+        return NotificationDTO.builder()
+                .id(id)
+                .type(event.getType())
+                .actionLink(event.getActionLink())
+                .generated(event.getGenerated())
+                .sourceUserID(event.getSourceUserID())
+                .sourceUsername(event.getSourceUsername())
+                .bookClubID(event.getBookClubID())
+                .bookClubName(event.getBookClubName())
+                .build();
+    }
+
+    private NotificationOutbox toOutbox(NotificationEvent event) {
+        return NotificationOutbox.builder()
+                .sourceUserID(event.getSourceUserID())
+                .targetUserID(event.getTargetUserID())
+                .bookClubID(event.getBookClubID())
+                .type(event.getType())
+                .actionLink(event.getActionLink())
+                .generated(event.getGenerated())
+                .build();
+    }
+
+    private NotificationEvent toEvent(NotificationOutbox outbox) {
+        return NotificationEvent.builder()
+                .sourceUserID(outbox.getSourceUserID())
+                .targetUserID(outbox.getTargetUserID())
+                .bookClubID(outbox.getBookClubID())
+                .type(outbox.getType())
+                .actionLink(outbox.getActionLink())
+                .generated(outbox.getGenerated())
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.bahubba.bahubbabookclub.notification;
+
+import com.bahubba.bahubbabookclub.model.enums.NotificationType;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** A notification to be written by the {@link NotificationDispatcher}, referencing its users and book club by ID */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationEvent {
+    @NotNull private UUID sourceUserID;
+
+    @NotNull private UUID targetUserID;
+
+    private UUID bookClubID;
+
+    @NotNull private NotificationType type;
+
+    private String actionLink;
+
+    // Shown in pushed notifications only; the feed reads them from the source user and book club
+    private String sourceUsername;
+
+    private String bookClubName;
+
+    // Stamped when the event is raised, not when it's written
+    @NotNull @Builder.Default
+    private LocalDateTime generated = LocalDateTime.now();
+}
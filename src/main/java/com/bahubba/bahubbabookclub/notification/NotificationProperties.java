@@ -0,0 +1,45 @@
+package com.bahubba.bahubbabookclub.notification;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Queue, batching and shutdown settings for the {@link NotificationDispatcher} */
+@Data
+@ConfigurationProperties(prefix = "app.notifications")
+public class NotificationProperties {
+    /** Maximum number of notifications waiting to be written */
+    private int queueCapacity = 10000;
+
+    /** Maximum number of notifications written per JDBC batch */
+    private int batchSize = 100;
+
+    /** How long a caller waits for room in a full queue before writing its notification to the outbox */
+    private long offerTimeoutMs = 50;
+
+    /** How long shutdown waits for the queue to drain */
+    private long shutdownTimeoutMs = 10000;
+
+    /** Write every notification to the outbox table in the caller's transaction instead of queueing it in memory */
+    private boolean outboxEnabled = false;
+
+    /** How often pending outbox notifications are relayed */
+    private long outboxRelayIntervalMs = 1000;
+
+    private Stream stream = new Stream();
+
+    /** Settings for pushing notifications to connected clients over server-sent events */
+    @Data
+    public static class Stream {
+        /** Events buffered per connection; a client that falls further behind is disconnected */
+        private int bufferSize = 32;
+
+        /** How often idle connections are sent a comment, so proxies and clients keep them open */
+        private long heartbeatIntervalMs = 15000;
+
+        /** How long a connection stays open before the client has to reconnect */
+        private long timeoutMs = 1800000;
+
+        /** Threads writing events to connections, shared by every connection */
+        private int senderThreads = 4;
+    }
+}
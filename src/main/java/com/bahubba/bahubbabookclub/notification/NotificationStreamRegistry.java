@@ -0,0 +1,211 @@
+package com.bahubba.bahubbabookclub.notification;
+
+import com.bahubba.bahubbabookclub.model.dto.NotificationDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * Open server-sent event connections, by user. Connections are async servlet requests, so an idle connection holds
+ * no thread; events are written by a small shared sender pool, through a bounded buffer per connection, so one slow
+ * client can't hold up the others. Only connections to this instance are reached
+ */
+@Component
+@Log4j2
+public class NotificationStreamRegistry {
+    private static final String EVENT_NAME = "notification";
+
+    private final NotificationProperties.Stream properties;
+    private final Map<UUID, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService sender;
+    private final Counter droppedCounter;
+
+    public NotificationStreamRegistry(NotificationProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties.getStream();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        sender = Executors.newFixedThreadPool(this.properties.getSenderThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "notification-stream-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("notifications.stream.connections", connectionCount, AtomicInteger::get)
+                .description("Open notification streams")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("notifications.stream.dropped")
+                .description("Notification streams closed because the client fell behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a notification stream for a user
+     *
+     * @param userID The ID of the user
+     * @return The stream, to be returned from the request handler
+     */
+    public SseEmitter connect(@NotNull UUID userID) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeoutMs());
+        Connection connection = new Connection(userID, emitter);
+
+        connections
+                .computeIfAbsent(userID, id -> ConcurrentHashMap.newKeySet())
+                .add(connection);
+        connectionCount.incrementAndGet();
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+        // Ends the stream normally rather than with an error response; the client reconnects
+        emitter.onTimeout(emitter::complete);
+
+        // Flush the response headers right away, so the client knows the stream is open
+        connection.enqueue(SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    /**
+     * Pushes a notification to each of its target user's open streams
+     *
+     * @param targetUserID The ID of the user the notification is for
+     * @param notification The notification
+     */
+    public void publish(@NotNull UUID targetUserID, @NotNull NotificationDTO notification) {
+        Set<Connection> userConnections = connections.get(targetUserID);
+        if (userConnections == null || userConnections.isEmpty()) {
+            return;
+        }
+
+        // A builder per connection, since building an event appends to its builder
+        userConnections.forEach(connection -> connection.enqueue(SseEmitter.event()
+                .id(String.valueOf(notification.getId()))
+                .name(EVENT_NAME)
+                .data(notification, MediaType.APPLICATION_JSON)));
+    }
+
+    /** Sends a comment to every open stream, so idle connections aren't closed by proxies */
+    @Scheduled(fixedDelayString = "${app.notifications.stream.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        for (Set<Connection> userConnections : connections.values()) {
+            userConnections.forEach(connection -> connection.enqueue(SseEmitter.event().comment("heartbeat")));
+        }
+    }
+
+    /**
+     * Gets the number of open streams
+     *
+     * @return The number of open streams
+     */
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /** Closes every stream on shutdown, so clients reconnect to another instance */
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(userConnections -> userConnections.forEach(c -> c.emitter.complete()));
+        sender.shutdownNow();
+    }
+
+    /**
+     * Forgets a connection. Safe to call more than once
+     *
+     * @param connection The connection
+     */
+    private void remove(Connection connection) {
+        connections.computeIfPresent(connection.userID, (id, userConnections) -> {
+            if (userConnections.remove(connection)) {
+                connectionCount.decrementAndGet();
+            }
+
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    /** An open stream and the events waiting to be written to it */
+    private final class Connection {
+        private final UUID userID;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Connection(UUID userID, SseEmitter emitter) {
+            this.userID = userID;
+            this.emitter = emitter;
+            buffer = new ArrayBlockingQueue<>(properties.getBufferSize());
+        }
+
+        /**
+         * Buffers an event and makes sure a sender is writing this connection's buffer
+         *
+         * @param event The event, not yet built
+         */
+        private void enqueue(SseEventBuilder event) {
+            if (!buffer.offer(event)) {
+                // The client isn't keeping up; it can catch up from the feed once it reconnects
+                droppedCounter.increment();
+                remove(this);
+                emitter.complete();
+                return;
+            }
+
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                draining.set(false);
+            }
+        }
+
+        /** Writes buffered events until the buffer is empty. Only one sender drains a connection at a time */
+        private void drain() {
+            try {
+                SseEventBuilder event;
+                while ((event = buffer.poll()) != null) {
+                    // Sent as an event; sending its built parts one by one would wrap each in a data line of its own
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the stream already completed; the container cleans up the request
+                remove(this);
+                buffer.clear();
+                return;
+            } finally {
+                draining.set(false);
+            }
+
+            // Pick up events buffered after the last poll
+            if (!buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.bahubba.bahubbabookclub.pagination;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * Central page size policy shared by all paginated endpoints. Out-of-range page sizes are clamped (rather than
+ * rejected) so each request runs its query once, and controllers report the adjustment in a warning header.
+ */
+@Component
+@RequiredArgsConstructor
+public class PaginationPolicy {
+    public static final String WARNING_HEADER = "X-Pagination-Warning";
+
+    /* ENDPOINT NAMES */
+    public static final String BOOK_CLUBS_ALL = "book-clubs-all";
+    public static final String BOOK_CLUBS_ALL_FOR_USER = "book-clubs-all-for-user";
+    public static final String BOOK_CLUBS_SEARCH = "book-clubs-search";
+    public static final String MEMBERSHIPS_ALL = "memberships-all";
+    public static final String MEMBERSHIP_REQUESTS_ALL_FOR_CLUB = "membership-requests-all-for-club";
+    public static final String NOTIFICATIONS_FEED = "notifications-feed";
+
+    private final PaginationProperties paginationProperties;
+
+    /**
+     * Applies the page size limits for an endpoint to a requested page size
+     *
+     * @param endpoint The endpoint name
+     * @param requestedPageSize The page size sent by the client
+     * @return The page size to use, with a warning if it differs from the requested one
+     */
+    public ResolvedPageSize resolve(String endpoint, int requestedPageSize) {
+        PaginationProperties.EndpointLimits limits =
+                paginationProperties.getEndpoints().get(endpoint);
+        int defaultPageSize = limits != null && limits.getDefaultPageSize() != null
+                ? limits.getDefaultPageSize()
+                : paginationProperties.getDefaultPageSize();
+        int maxPageSize = limits != null && limits.getMaxPageSize() != null
+                ? limits.getMaxPageSize()
+                : paginationProperties.getMaxPageSize();
+
+        if (requestedPageSize < 1) {
+            return new ResolvedPageSize(
+                    defaultPageSize,
+                    "Page size must be at least 1; Defaulting to a page size of " + defaultPageSize);
+        } else if (requestedPageSize > maxPageSize) {
+            return new ResolvedPageSize(
+                    maxPageSize,
+                    "Page size must be at most " + maxPageSize + "; Defaulting to a page size of " + maxPageSize);
+        }
+
+        return new ResolvedPageSize(requestedPageSize, null);
+    }
+
+    /**
+     * Gets the page size to use for an endpoint
+     *
+     * @param endpoint The endpoint name
+     * @param requestedPageSize The page size sent by the client
+     * @return The clamped page size
+     */
+    public int getPageSize(String endpoint, int requestedPageSize) {
+        return resolve(endpoint, requestedPageSize).getPageSize();
+    }
+
+    /**
+     * Builds the response headers warning the client that its page size was adjusted
+     *
+     * @param endpoint The endpoint name
+     * @param requestedPageSize The page size sent by the client
+     * @return Headers with the warning if the page size was adjusted, otherwise no headers
+     */
+    public HttpHeaders getWarningHeaders(String endpoint, int requestedPageSize) {
+        HttpHeaders headers = new HttpHeaders();
+        ResolvedPageSize resolvedPageSize = resolve(endpoint, requestedPageSize);
+        if (resolvedPageSize.isAdjusted()) {
+            headers.add(WARNING_HEADER, resolvedPageSize.getWarning());
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,22 @@
+package com.bahubba.bahubbabookclub.pagination;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Page size limits, with optional per-endpoint overrides keyed by the endpoint names in {@link PaginationPolicy} */
+@Data
+@ConfigurationProperties(prefix = "app.pagination")
+public class PaginationProperties {
+    private int defaultPageSize = 10;
+    private int maxPageSize = 50;
+    private Map<String, EndpointLimits> endpoints = new HashMap<>();
+
+    /** Page size limits for a single endpoint; unset limits fall back to the global ones */
+    @Data
+    public static class EndpointLimits {
+        private Integer defaultPageSize;
+        private Integer maxPageSize;
+    }
+}
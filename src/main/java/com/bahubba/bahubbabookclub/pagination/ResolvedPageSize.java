@@ -0,0 +1,21 @@
+package com.bahubba.bahubbabookclub.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/** A page size after the pagination policy has been applied, with a warning if the requested size was adjusted */
+@Data
+@AllArgsConstructor
+public class ResolvedPageSize {
+    private int pageSize;
+    private String warning;
+
+    /**
+     * Whether the requested page size was adjusted
+     *
+     * @return true if the page size was clamped or defaulted
+     */
+    public boolean isAdjusted() {
+        return warning != null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.bahubba.bahubbabookclub.repository;
 
+import com.bahubba.bahubbabookclub.model.dto.ClubRoleDTO;
 import com.bahubba.bahubbabookclub.model.entity.BookClubMembership;
 import com.bahubba.bahubbabookclub.model.enums.BookClubRole;
 import java.util.List;
@@ -8,6 +9,7 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 /** JPA Repository for the {@link BookClubMembership} entity */
@@ -17,20 +19,31 @@ public interface BookClubMembershipRepo extends JpaRepository<BookClubMembership
 
     Optional<BookClubMembership> findByBookClubNameAndUserIdAndDepartedIsNull(String bookClubName, UUID userId);
 
-    Optional<BookClubMembership> findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-            String bookClubName, UUID userId, BookClubRole clubRole);
-
-    Optional<BookClubMembership> findByBookClubIdAndUserId(UUID bookClubId, UUID userId);
+    Optional<BookClubMembership> findByBookClubIdAndUserIdAndIsOwnerTrueAndDepartedIsNull(
+            UUID bookClubId, UUID userId);
 
     Boolean existsByBookClubIdAndUserId(UUID bookClubId, UUID userId);
 
-    Optional<BookClubMembership> findByBookClubNameAndClubRoleAndUserId(
-            String bookClubName, BookClubRole role, UUID userId);
-
+    @Query("SELECT new com.bahubba.bahubbabookclub.model.dto.ClubRoleDTO(bcu.clubRole, bcu.isOwner) "
+            + "FROM BookClubMembership bcu "
+            + "WHERE bcu.bookClub.id = :bookClubId "
+            + "AND bcu.user.id = :userId "
+            + "AND bcu.departed IS NULL")
+    Optional<ClubRoleDTO> findActiveRoleByBookClubIdAndUserId(UUID bookClubId, UUID userId);
+
+    @Query("SELECT bcu.user.id FROM BookClubMembership bcu "
+            + "WHERE bcu.bookClub.id = :bookClubId "
+            + "AND bcu.clubRole = :clubRole "
+            + "AND bcu.departed IS NULL")
+    List<UUID> findActiveUserIdsByBookClubIdAndClubRole(UUID bookClubId, BookClubRole clubRole);
+
+    // Fetch the user and book club with each membership, rather than one select per row for the eager associations
+    @Query(
+            value = "SELECT bcu FROM BookClubMembership bcu "
+                    + "INNER JOIN FETCH bcu.bookClub bc "
+                    + "LEFT JOIN FETCH bcu.user "
+                    + "WHERE bc.name = :bookClubName "
+                    + "ORDER BY bcu.joined",
+            countQuery = "SELECT COUNT(bcu) FROM BookClubMembership bcu WHERE bcu.bookClub.name = :bookClubName")
     Page<BookClubMembership> findAllByBookClubNameOrderByJoined(String bookClubName, Pageable pageable);
-
-    Optional<BookClubMembership> findByBookClubNameAndUserIdAndIsOwnerTrue(String bookClubName, UUID userId);
-
-    List<BookClubMembership> findAllByBookClubIdAndIsOwnerTrueAndDepartedIsNullAndUserIdIn(
-            UUID bookClubId, List<UUID> userIds);
 }
@@ -1,50 +1,141 @@
 package com.bahubba.bahubbabookclub.repository;
 
+import com.bahubba.bahubbabookclub.model.dto.BookClubDTO;
 import com.bahubba.bahubbabookclub.model.entity.BookClub;
 import com.bahubba.bahubbabookclub.model.enums.Publicity;
+import com.bahubba.bahubbabookclub.model.projection.BookClubProjection;
 import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
-/** JPA Repository for the {@link BookClub} entity */
+/**
+ * JPA Repository for the {@link BookClub} entity. List queries select straight into {@link BookClubDTO}s, so pages of
+ * book clubs are never loaded into (and tracked by) the persistence context
+ */
 @Repository
-public interface BookClubRepo extends JpaRepository<BookClub, UUID> {
+public interface BookClubRepo extends JpaRepository<BookClub, UUID>, BookClubRepoCustom {
+    String SELECT_DTO = "SELECT new com.bahubba.bahubbabookclub.model.dto.BookClubDTO("
+            + "bc.id, bc.name, bc.imageFileName, bc.description, bc.publicity, bc.created, bc.disbanded) ";
+
     @NotNull Page<BookClub> findAll(@NotNull Pageable pageable);
 
-    Optional<BookClub> findByName(final String name);
+    @Query(value = SELECT_DTO + "FROM BookClub bc", countQuery = "SELECT COUNT(bc) FROM BookClub bc")
+    Page<BookClubDTO> findAllDTOs(Pageable pageable);
+
+    @Query(SELECT_DTO + "FROM BookClub bc WHERE bc.id IN :ids")
+    List<BookClubDTO> findAllDTOsById(final Collection<UUID> ids);
+
+    @Query("SELECT bc.id FROM BookClub bc WHERE bc.name = :name")
+    Optional<UUID> findIdByName(final String name);
 
     @Query(
-            nativeQuery = true,
-            value = "SELECT bc.* FROM book_club bc "
-                    + "INNER JOIN book_club_users bcr "
-                    + "ON bc.id = bcr.book_club_id "
-                    + "INNER JOIN app_user r "
-                    + "ON bcr.user_id = r.id "
-                    + "WHERE bc.disbanded IS NULL "
-                    + "AND bcr.departed IS NULL "
-                    + "AND r.id = :userId")
-    Page<BookClub> findAllForUser(final UUID userId, Pageable pageable);
-
-    Page<BookClub> findAllByPublicityNotAndNameContainsIgnoreCase(
-            final Publicity publicity, final String searchTerm, Pageable pageable);
+            value = SELECT_DTO
+                    + "FROM BookClub bc "
+                    + "INNER JOIN bc.members bcu "
+                    + "WHERE bcu.user.id = :userId "
+                    + "AND bc.disbanded IS NULL "
+                    + "AND bcu.departed IS NULL",
+            countQuery = "SELECT COUNT(bc) FROM BookClub bc "
+                    + "INNER JOIN bc.members bcu "
+                    + "WHERE bcu.user.id = :userId "
+                    + "AND bc.disbanded IS NULL "
+                    + "AND bcu.departed IS NULL")
+    Page<BookClubDTO> findAllForUser(final UUID userId, Pageable pageable);
 
+    // Relies on pg_trgm and the book_club_name_trgm_idx GIN index created by schema-postgresql.sql
     @Query(
             nativeQuery = true,
-            value = "SELECT bc.* FROM book_club bc "
-                    + "INNER JOIN book_club_users bcu "
-                    + "ON bc.id = bcu.book_club_id "
-                    + "INNER JOIN app_user r "
-                    + "ON bcu.user_id = r.id "
-                    + "WHERE bc.id = :id "
-                    + "AND r.id = :userID "
-                    + "AND bc.disbanded IS NULL "
-                    + "AND bcu.departed IS NULL "
-                    + "AND r.departed IS NULL "
-                    + "AND bcu.club_role = 'ADMIN'")
-    Optional<BookClub> findByIdAndUserIsAdmin(final UUID id, final UUID userID);
+            value = "SELECT bc.id AS id, bc.name AS name, bc.image_file_name AS imageFileName, "
+                    + "bc.description AS description, bc.publicity AS publicity, bc.created AS created, "
+                    + "bc.disbanded AS disbanded "
+                    + "FROM book_club bc "
+                    + "WHERE bc.publicity <> :publicity "
+                    + "AND (LOWER(bc.name) % LOWER(:searchTerm) "
+                    + "OR LOWER(bc.name) LIKE CONCAT('%', LOWER(:likeTerm), '%')) "
+                    + "ORDER BY similarity(LOWER(bc.name), LOWER(:searchTerm)) DESC, bc.created DESC, bc.id DESC",
+            countQuery = "SELECT COUNT(*) FROM book_club bc "
+                    + "WHERE bc.publicity <> :publicity "
+                    + "AND (LOWER(bc.name) % LOWER(:searchTerm) "
+                    + "OR LOWER(bc.name) LIKE CONCAT('%', LOWER(:likeTerm), '%'))")
+    Page<BookClubProjection> searchByNameSimilarity(
+            final String publicity, final String searchTerm, final String likeTerm, Pageable pageable);
+
+    // Portable fallback for databases without pg_trgm: exact, then prefix, then substring matches
+    @Query(
+            value = SELECT_DTO
+                    + "FROM BookClub bc "
+                    + "WHERE bc.publicity <> :publicity "
+                    + "AND LOWER(bc.name) LIKE CONCAT('%', LOWER(:likeTerm), '%') ESCAPE '\\' "
+                    + "ORDER BY CASE WHEN LOWER(bc.name) = LOWER(:searchTerm) THEN 0 "
+                    + "WHEN LOWER(bc.name) LIKE CONCAT(LOWER(:likeTerm), '%') ESCAPE '\\' THEN 1 "
+                    + "ELSE 2 END, "
+                    + "LENGTH(bc.name), bc.created DESC, bc.id DESC",
+            countQuery = "SELECT COUNT(bc) FROM BookClub bc "
+                    + "WHERE bc.publicity <> :publicity "
+                    + "AND LOWER(bc.name) LIKE CONCAT('%', LOWER(:likeTerm), '%') ESCAPE '\\'")
+    Page<BookClubDTO> searchByNameRelevance(
+            final Publicity publicity, final String searchTerm, final String likeTerm, Pageable pageable);
+
+    Slice<BookClub> findAllByPublicityNotAndDisbandedIsNull(final Publicity publicity, Pageable pageable);
+
+    @Query(SELECT_DTO + "FROM BookClub bc ORDER BY bc.created DESC, bc.id DESC")
+    Slice<BookClubDTO> findFirstSlice(Pageable pageable);
+
+    @Query(SELECT_DTO
+            + "FROM BookClub bc "
+            + "WHERE bc.created <= :created "
+            + "AND (bc.created < :created OR bc.id < :id) "
+            + "ORDER BY bc.created DESC, bc.id DESC")
+    Slice<BookClubDTO> findSliceAfter(final LocalDateTime created, final UUID id, Pageable pageable);
+
+    @Query(SELECT_DTO
+            + "FROM BookClub bc "
+            + "INNER JOIN bc.members bcu "
+            + "WHERE bcu.user.id = :userId "
+            + "AND bc.disbanded IS NULL "
+            + "AND bcu.departed IS NULL "
+            + "ORDER BY bc.created DESC, bc.id DESC")
+    Slice<BookClubDTO> findFirstSliceForUser(final UUID userId, Pageable pageable);
+
+    @Query(SELECT_DTO
+            + "FROM BookClub bc "
+            + "INNER JOIN bc.members bcu "
+            + "WHERE bcu.user.id = :userId "
+            + "AND bc.disbanded IS NULL "
+            + "AND bcu.departed IS NULL "
+            + "AND bc.created <= :created "
+            + "AND (bc.created < :created OR bc.id < :id) "
+            + "ORDER BY bc.created DESC, bc.id DESC")
+    Slice<BookClubDTO> findSliceForUserAfter(
+            final UUID userId, final LocalDateTime created, final UUID id, Pageable pageable);
+
+    @Query(SELECT_DTO
+            + "FROM BookClub bc "
+            + "WHERE bc.publicity <> :publicity "
+            + "AND LOWER(bc.name) LIKE CONCAT('%', LOWER(:likeTerm), '%') ESCAPE '\\' "
+            + "ORDER BY bc.created DESC, bc.id DESC")
+    Slice<BookClubDTO> findFirstSearchSlice(final Publicity publicity, final String likeTerm, Pageable pageable);
+
+    @Query(SELECT_DTO
+            + "FROM BookClub bc "
+            + "WHERE bc.publicity <> :publicity "
+            + "AND LOWER(bc.name) LIKE CONCAT('%', LOWER(:likeTerm), '%') ESCAPE '\\' "
+            + "AND bc.created <= :created "
+            + "AND (bc.created < :created OR bc.id < :id) "
+            + "ORDER BY bc.created DESC, bc.id DESC")
+    Slice<BookClubDTO> findSearchSliceAfter(
+            final Publicity publicity,
+            final String likeTerm,
+            final LocalDateTime created,
+            final UUID id,
+            Pageable pageable);
 }
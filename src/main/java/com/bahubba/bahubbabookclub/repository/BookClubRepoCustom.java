@@ -0,0 +1,16 @@
+package com.bahubba.bahubbabookclub.repository;
+
+import com.bahubba.bahubbabookclub.model.entity.BookClub;
+import java.util.Optional;
+
+/** Custom lookups for the {@link BookClub} entity, mixed into {@link BookClubRepo} */
+public interface BookClubRepoCustom {
+    /**
+     * Finds a book club by its name, its natural ID, going through the second-level natural ID cache rather than
+     * querying by name
+     *
+     * @param name The name of the book club
+     * @return The book club, if one has the name
+     */
+    Optional<BookClub> findByName(final String name);
+}
@@ -0,0 +1,20 @@
+package com.bahubba.bahubbabookclub.repository;
+
+import com.bahubba.bahubbabookclub.model.entity.BookClub;
+import jakarta.persistence.EntityManager;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+/** {@link BookClubRepoCustom} implementation on the Hibernate session */
+@RequiredArgsConstructor
+public class BookClubRepoCustomImpl implements BookClubRepoCustom {
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<BookClub> findByName(final String name) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(BookClub.class).loadOptional(name);
+    }
+}
@@ -20,6 +20,15 @@ public interface MembershipRequestRepo extends JpaRepository<MembershipRequest,
     Boolean existsByBookClubNameAndUserIdAndStatusIn(
             final String bookClubName, final UUID userId, final List<RequestStatus> statuses);
 
+    // Fetch the requester, reviewer and book club with each request, rather than one select per row for each
+    @Query(
+            value = "SELECT mr FROM MembershipRequest mr "
+                    + "LEFT JOIN FETCH mr.user "
+                    + "LEFT JOIN FETCH mr.bookClub "
+                    + "LEFT JOIN FETCH mr.reviewer "
+                    + "WHERE mr.bookClub.id = :bookClubId "
+                    + "ORDER BY mr.requested DESC",
+            countQuery = "SELECT COUNT(mr) FROM MembershipRequest mr WHERE mr.bookClub.id = :bookClubId")
     Page<MembershipRequest> findAllByBookClubIdOrderByRequestedDesc(final UUID bookClubId, Pageable pageable);
 
     @Modifying
@@ -0,0 +1,31 @@
+package com.bahubba.bahubbabookclub.repository;
+
+import com.bahubba.bahubbabookclub.model.entity.NotificationCounter;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/** JPA Repository for the {@link NotificationCounter} entity */
+@Repository
+public interface NotificationCounterRepo extends JpaRepository<NotificationCounter, UUID> {
+    @Query("SELECT c.unread FROM NotificationCounter c WHERE c.userID = :userId")
+    Optional<Long> findUnreadByUserId(final UUID userId);
+
+    @Modifying
+    @Query("UPDATE NotificationCounter c SET c.unread = c.unread + :count WHERE c.userID = :userId")
+    int incrementUnread(final UUID userId, final long count);
+
+    // A plain INSERT rather than save(), which would merge into and reset a counter another writer just created
+    @Modifying
+    @Query(value = "INSERT INTO notification_counter (user_id, unread) VALUES (:userId, 0)", nativeQuery = true)
+    int createCounter(final UUID userId);
+
+    @Modifying
+    @Query("UPDATE NotificationCounter c "
+            + "SET c.unread = CASE WHEN c.unread > :count THEN c.unread - :count ELSE 0 END "
+            + "WHERE c.userID = :userId")
+    int decrementUnread(final UUID userId, final long count);
+}
@@ -0,0 +1,38 @@
+package com.bahubba.bahubbabookclub.repository;
+
+import com.bahubba.bahubbabookclub.model.entity.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+/** JPA Repository for the {@link NotificationOutbox} entity */
+@Repository
+public interface NotificationOutboxRepo extends JpaRepository<NotificationOutbox, UUID> {
+    /**
+     * Locks the oldest pending notifications, skipping rows another instance is already relaying
+     *
+     * @param pageable The maximum number of notifications to lock
+     * @return The locked notifications, oldest first
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<NotificationOutbox> findAllByOrderByGenerated(Pageable pageable);
+
+    /**
+     * Deletes a pending notification, locking its row until the transaction ends
+     *
+     * @param id The outbox notification's ID
+     * @return 1 if it was deleted, 0 if another instance already relayed it
+     */
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.id = :id")
+    int deleteOutboxById(final UUID id);
+}
@@ -1,8 +1,58 @@
 package com.bahubba.bahubbabookclub.repository;
 
+import com.bahubba.bahubbabookclub.model.dto.NotificationDTO;
 import com.bahubba.bahubbabookclub.model.entity.Notification;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
 
 /** Repository for the {@link Notification} entity */
-public interface NotificationRepo extends JpaRepository<Notification, UUID> {}
+@Repository
+public interface NotificationRepo extends JpaRepository<Notification, UUID> {
+    @Query("SELECT new com.bahubba.bahubbabookclub.model.dto.NotificationDTO("
+            + "n.id, n.type, n.actionLink, n.generated, su.id, su.username, bc.id, bc.name, "
+            + "CASE WHEN v.notification IS NULL THEN false ELSE true END) "
+            + "FROM Notification n "
+            + "INNER JOIN n.sourceUser su "
+            + "LEFT JOIN n.bookClub bc "
+            + "LEFT JOIN NotificationViews v ON v.notification = n AND v.user.id = :userId "
+            + "WHERE n.targetUser.id = :userId "
+            + "ORDER BY n.generated DESC, n.id DESC")
+    Slice<NotificationDTO> findFirstFeedSlice(final UUID userId, Pageable pageable);
+
+    @Query("SELECT new com.bahubba.bahubbabookclub.model.dto.NotificationDTO("
+            + "n.id, n.type, n.actionLink, n.generated, su.id, su.username, bc.id, bc.name, "
+            + "CASE WHEN v.notification IS NULL THEN false ELSE true END) "
+            + "FROM Notification n "
+            + "INNER JOIN n.sourceUser su "
+            + "LEFT JOIN n.bookClub bc "
+            + "LEFT JOIN NotificationViews v ON v.notification = n AND v.user.id = :userId "
+            + "WHERE n.targetUser.id = :userId "
+            + "AND n.generated <= :generated "
+            + "AND (n.generated < :generated OR n.id < :id) "
+            + "ORDER BY n.generated DESC, n.id DESC")
+    Slice<NotificationDTO> findFeedSliceAfter(
+            final UUID userId, final LocalDateTime generated, final UUID id, Pageable pageable);
+
+    // Inserts the missing view rows in one statement rather than loading the unread notifications. Naming the table it
+    // writes keeps Hibernate from invalidating every second-level cache region, as it does for unknown native writes
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "notification_views"))
+    @Query(
+            nativeQuery = true,
+            value = "INSERT INTO notification_views (notification_id, user_id) "
+                    + "SELECT n.id, n.target_user_id FROM notification n "
+                    + "WHERE n.target_user_id = :userId "
+                    + "AND NOT EXISTS ("
+                    + "SELECT 1 FROM notification_views v "
+                    + "WHERE v.notification_id = n.id AND v.user_id = :userId)")
+    int markAllRead(final UUID userId);
+}
@@ -0,0 +1,273 @@
+package com.bahubba.bahubbabookclub.search;
+
+import com.bahubba.bahubbabookclub.model.entity.BookClub;
+import com.bahubba.bahubbabookclub.model.enums.Publicity;
+import com.bahubba.bahubbabookclub.repository.BookClubRepo;
+import com.bahubba.bahubbabookclub.util.TransactionUtil;
+import jakarta.validation.constraints.NotNull;
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory inverted index over the names and descriptions of discoverable (non-private, active) book clubs. Terms
+ * are kept in a sorted skip list so query tokens can be matched as prefixes
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class BookClubSearchIndex {
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final float NAME_WEIGHT = 3f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+    private static final float EXACT_TERM_BOOST = 2f;
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final Comparator<Hit> HIT_ORDER = Comparator.comparingDouble(Hit::score)
+            .reversed()
+            .thenComparing(Hit::sortName)
+            .thenComparing(Hit::id);
+
+    private final BookClubRepo bookClubRepo;
+
+    // Term -> (book club ID -> weight of the term in that book club)
+    private final NavigableMap<String, Map<UUID, Float>> postings = new ConcurrentSkipListMap<>();
+    private final Map<UUID, IndexedBookClub> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Loads every discoverable book club into the index once the application has started */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            Pageable pageable = PageRequest.of(0, LOAD_BATCH_SIZE, Sort.by("id"));
+            Slice<BookClub> slice;
+            do {
+                slice = bookClubRepo.findAllByPublicityNotAndDisbandedIsNull(Publicity.PRIVATE, pageable);
+                slice.forEach(bookClub -> apply(toIndexedBookClub(bookClub)));
+                pageable = slice.nextPageable();
+            } while (slice.hasNext());
+
+            log.info("Indexed " + size() + " book clubs for full-text search");
+        } catch (RuntimeException e) {
+            log.error("Failed to load the book club search index", e);
+        }
+    }
+
+    /**
+     * Adds or replaces a book club in the index once the current transaction commits. Private and disbanded book clubs
+     * are removed instead, so they never show up in results
+     *
+     * @param bookClub The book club to index
+     */
+    public void index(@NotNull BookClub bookClub) {
+        // Tokenize now, while the entity holds the state being committed
+        IndexedBookClub indexedBookClub = toIndexedBookClub(bookClub);
+        // Apply only after commit, so rolled back changes never become searchable
+        TransactionUtil.afterCommit(() -> apply(indexedBookClub));
+    }
+
+    /**
+     * Removes a book club from the index once the current transaction commits
+     *
+     * @param id The ID of the book club to remove
+     */
+    public void remove(@NotNull UUID id) {
+        TransactionUtil.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeDocument(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Searches book club names and descriptions. Every token in the query must prefix-match a term in the book club;
+     * name matches outrank description matches, and whole-term matches outrank prefix matches
+     *
+     * @param query The search query
+     * @param pageable The page of results to return
+     * @return A page of matching book club IDs, most relevant first
+     */
+    public Page<UUID> search(String query, @NotNull Pageable pageable) {
+        List<String> queryTokens = tokenize(query).stream().distinct().toList();
+        if (queryTokens.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        // Only the hits up to the end of the requested page need to be ordered
+        int limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+        PriorityQueue<Hit> topHits = new PriorityQueue<>(HIT_ORDER.reversed());
+        int total;
+        lock.readLock().lock();
+        try {
+            Map<UUID, Float> scores = null;
+            for (String queryToken : queryTokens) {
+                Map<UUID, Float> tokenScores = scoreToken(queryToken);
+
+                // Keep only the book clubs that matched every token so far
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((id, score) -> score + tokenScores.get(id));
+                }
+
+                if (scores.isEmpty()) {
+                    return Page.empty(pageable);
+                }
+            }
+
+            total = scores.size();
+            for (Map.Entry<UUID, Float> score : scores.entrySet()) {
+                Hit hit = new Hit(
+                        score.getKey(), score.getValue(), documents.get(score.getKey()).sortName());
+                if (topHits.size() < limit) {
+                    topHits.add(hit);
+                } else if (HIT_ORDER.compare(hit, topHits.peek()) < 0) {
+                    topHits.poll();
+                    topHits.add(hit);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit> ranked = new ArrayList<>(topHits);
+        ranked.sort(HIT_ORDER);
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        return new PageImpl<>(ranked.subList(from, ranked.size()).stream().map(Hit::id).toList(), pageable, total);
+    }
+
+    /**
+     * Gets the number of book clubs in the index
+     *
+     * @return The number of indexed book clubs
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Splits text into lowercase, accent-free word tokens
+     *
+     * @param text The text to tokenize
+     * @return The tokens, in order of appearance
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+
+        String normalized = DIACRITICS
+                .matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        return Arrays.stream(NON_WORD.split(normalized))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Scores every book club with a term starting with the query token, by its best-matching term
+     *
+     * @param queryToken The query token
+     * @return The score for each matching book club
+     */
+    private Map<UUID, Float> scoreToken(String queryToken) {
+        Map<UUID, Float> tokenScores = new HashMap<>();
+        postings.subMap(queryToken, true, queryToken + Character.MAX_VALUE, false)
+                .forEach((term, termPostings) -> {
+                    // Partial terms score by how much of the term was typed, so closer completions rank higher
+                    float boost =
+                            term.equals(queryToken) ? EXACT_TERM_BOOST : (float) queryToken.length() / term.length();
+                    termPostings.forEach((id, weight) -> tokenScores.merge(id, weight * boost, Math::max));
+                });
+
+        return tokenScores;
+    }
+
+    /**
+     * Snapshots the searchable fields of a book club
+     *
+     * @param bookClub The book club
+     * @return The book club's terms and their weights, or none if it shouldn't be discoverable
+     */
+    private IndexedBookClub toIndexedBookClub(@NotNull BookClub bookClub) {
+        Map<String, Float> termWeights = new HashMap<>();
+        if (bookClub.getPublicity() != Publicity.PRIVATE && bookClub.getDisbanded() == null) {
+            tokenize(bookClub.getName()).forEach(term -> termWeights.merge(term, NAME_WEIGHT, Float::sum));
+            tokenize(bookClub.getDescription())
+                    .forEach(term -> termWeights.merge(term, DESCRIPTION_WEIGHT, Float::sum));
+        }
+
+        String name = bookClub.getName() == null ? "" : bookClub.getName().toLowerCase(Locale.ROOT);
+        return new IndexedBookClub(bookClub.getId(), name, termWeights);
+    }
+
+    /**
+     * Replaces a book club's postings with its current terms
+     *
+     * @param indexedBookClub The book club's snapshot
+     */
+    private void apply(@NotNull IndexedBookClub indexedBookClub) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(indexedBookClub.id());
+            if (indexedBookClub.termWeights().isEmpty()) {
+                return;
+            }
+
+            documents.put(indexedBookClub.id(), indexedBookClub);
+            indexedBookClub
+                    .termWeights()
+                    .forEach((term, weight) ->
+                            postings.computeIfAbsent(term, key -> new HashMap<>()).put(indexedBookClub.id(), weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops a book club and its postings. Callers must hold the write lock
+     *
+     * @param id The ID of the book club
+     */
+    private void removeDocument(UUID id) {
+        IndexedBookClub previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+
+        previous.termWeights().keySet().forEach(term -> postings.computeIfPresent(term, (key, termPostings) -> {
+            termPostings.remove(id);
+            return termPostings.isEmpty() ? null : termPostings;
+        }));
+    }
+
+    /** The searchable snapshot of a book club */
+    private record IndexedBookClub(UUID id, String sortName, Map<String, Float> termWeights) {}
+
+    /** A matching book club and its relevance */
+    private record Hit(UUID id, float score, String sortName) {}
+}
@@ -2,6 +2,7 @@ package com.bahubba.bahubbabookclub.service;
 
 import com.bahubba.bahubbabookclub.exception.*;
 import com.bahubba.bahubbabookclub.model.dto.BookClubDTO;
+import com.bahubba.bahubbabookclub.model.dto.CursorPageDTO;
 import com.bahubba.bahubbabookclub.model.dto.S3ImageDTO;
 import com.bahubba.bahubbabookclub.model.entity.BookClub;
 import com.bahubba.bahubbabookclub.model.payload.BookClubPayload;
@@ -65,31 +66,69 @@ public interface BookClubService {
      * @param pageSize Number of results per page
      * @return A page of book clubs that the user has some role in
      * @throws UserNotFoundException The user wasn't found in the DB
-     * @throws PageSizeTooSmallException The page size was < 1
-     * @throws PageSizeTooLargeException The page size was > 50
      */
-    Page<BookClubDTO> findAllForUser(int pageNum, int pageSize)
-            throws UserNotFoundException, PageSizeTooSmallException, PageSizeTooLargeException;
+    Page<BookClubDTO> findAllForUser(int pageNum, int pageSize) throws UserNotFoundException;
 
     /**
      * Find all book clubs
      *
      * @return A page of results of all book clubs
-     * @throws PageSizeTooSmallException The page size was < 1
-     * @throws PageSizeTooLargeException The page size was > 50
      */
-    Page<BookClubDTO> findAll(int pageNum, int pageSize) throws PageSizeTooSmallException, PageSizeTooLargeException;
+    Page<BookClubDTO> findAll(int pageNum, int pageSize);
 
     /**
-     * Search for book clubs by name
+     * Search for book clubs by name, most relevant first
      *
      * @param searchTerm The name to search for
      * @return A paged list of book clubs that match the search term
-     * @throws PageSizeTooSmallException The page size was < 1
-     * @throws PageSizeTooLargeException The page size was > 50
+     * @throws SearchTermTooShortException The search term was too short to search for
      */
-    Page<BookClubDTO> search(String searchTerm, int pageNum, int pageSize)
-            throws PageSizeTooSmallException, PageSizeTooLargeException;
+    Page<BookClubDTO> search(String searchTerm, int pageNum, int pageSize) throws SearchTermTooShortException;
+
+    /**
+     * Search for book clubs by words or word prefixes in their names and descriptions, most relevant first
+     *
+     * @param query The words to search for
+     * @param pageNum The page number
+     * @param pageSize The number of results per page
+     * @return A paged list of non-private book clubs that match every word in the query
+     */
+    Page<BookClubDTO> fullTextSearch(String query, int pageNum, int pageSize);
+
+    /**
+     * Finds book clubs that the user has some role in using keyset pagination, newest first
+     *
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param pageSize Number of results per page
+     * @return A slice of book clubs that the user has some role in, with the cursor for the next slice
+     * @throws UserNotFoundException The user wasn't found in the DB
+     * @throws BadCursorException The cursor could not be decoded
+     */
+    CursorPageDTO<BookClubDTO> findAllForUserByCursor(String cursor, int pageSize)
+            throws UserNotFoundException, BadCursorException;
+
+    /**
+     * Find all book clubs using keyset pagination, newest first
+     *
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param pageSize Number of results per page
+     * @return A slice of book clubs, with the cursor for the next slice
+     * @throws BadCursorException The cursor could not be decoded
+     */
+    CursorPageDTO<BookClubDTO> findAllByCursor(String cursor, int pageSize) throws BadCursorException;
+
+    /**
+     * Search for book clubs by name using keyset pagination, newest first
+     *
+     * @param searchTerm The name to search for
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param pageSize Number of results per page
+     * @return A slice of book clubs that match the search term, with the cursor for the next slice
+     * @throws SearchTermTooShortException The search term was too short to search for
+     * @throws BadCursorException The cursor could not be decoded
+     */
+    CursorPageDTO<BookClubDTO> searchByCursor(String searchTerm, String cursor, int pageSize)
+            throws SearchTermTooShortException, BadCursorException;
 
     /**
      * Disband a book club
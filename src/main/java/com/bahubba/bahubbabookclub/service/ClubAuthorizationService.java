@@ -0,0 +1,81 @@
+package com.bahubba.bahubbabookclub.service;
+
+import com.bahubba.bahubbabookclub.exception.UnauthorizedBookClubActionException;
+import com.bahubba.bahubbabookclub.model.dto.ClubRoleDTO;
+import java.util.UUID;
+
+/** Answers permission checks on book clubs from cached membership roles */
+public interface ClubAuthorizationService {
+
+    /**
+     * Get a user's role in a book club
+     *
+     * @param bookClubID The ID of the book club
+     * @param userID The ID of the user
+     * @return The user's role and ownership, with a role of NONE if the user has no active membership
+     */
+    ClubRoleDTO getClubRole(UUID bookClubID, UUID userID);
+
+    /**
+     * Get a user's role in a book club
+     *
+     * @param bookClubName The name of the book club
+     * @param userID The ID of the user
+     * @return The user's role and ownership, with a role of NONE if the user has no active membership or the book
+     *     club doesn't exist
+     */
+    ClubRoleDTO getClubRole(String bookClubName, UUID userID);
+
+    /**
+     * Ensure a user is an admin of a book club
+     *
+     * @param bookClubID The ID of the book club
+     * @param userID The ID of the user
+     * @throws UnauthorizedBookClubActionException The user was not an active admin of the book club
+     */
+    void requireAdmin(UUID bookClubID, UUID userID) throws UnauthorizedBookClubActionException;
+
+    /**
+     * Ensure a user is an admin of a book club
+     *
+     * @param bookClubName The name of the book club
+     * @param userID The ID of the user
+     * @throws UnauthorizedBookClubActionException The user was not an active admin of the book club, or the book club
+     *     didn't exist
+     */
+    void requireAdmin(String bookClubName, UUID userID) throws UnauthorizedBookClubActionException;
+
+    /**
+     * Ensure a user is an owner of a book club
+     *
+     * @param bookClubID The ID of the book club
+     * @param userID The ID of the user
+     * @throws UnauthorizedBookClubActionException The user was not an active owner of the book club
+     */
+    void requireOwner(UUID bookClubID, UUID userID) throws UnauthorizedBookClubActionException;
+
+    /**
+     * Ensure a user is an owner of a book club
+     *
+     * @param bookClubName The name of the book club
+     * @param userID The ID of the user
+     * @throws UnauthorizedBookClubActionException The user was not an active owner of the book club, or the book club
+     *     didn't exist
+     */
+    void requireOwner(String bookClubName, UUID userID) throws UnauthorizedBookClubActionException;
+
+    /**
+     * Drop a user's cached role in a book club. Must be called whenever their membership is written
+     *
+     * @param bookClubID The ID of the book club
+     * @param userID The ID of the user
+     */
+    void evict(UUID bookClubID, UUID userID);
+
+    /**
+     * Drop the cached ID of a book club name. Must be called whenever a book club is renamed
+     *
+     * @param bookClubName The former name of the book club
+     */
+    void evictBookClubName(String bookClubName);
+}
@@ -3,6 +3,7 @@ package com.bahubba.bahubbabookclub.service;
 import com.bahubba.bahubbabookclub.exception.TokenRefreshException;
 import com.bahubba.bahubbabookclub.exception.UserNotFoundException;
 import com.bahubba.bahubbabookclub.model.dto.AuthDTO;
+import com.bahubba.bahubbabookclub.model.dto.VerifiedTokenDTO;
 import com.bahubba.bahubbabookclub.model.entity.RefreshToken;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
@@ -63,6 +64,30 @@ public interface JwtService {
      */
     boolean isTokenValid(String token, UserDetails userDetails);
 
+    /**
+     * Verifies that an already-validated token is for the requesting user and is not expired
+     *
+     * @param verifiedToken The claims from a verified JWT auth token
+     * @param userDetails The user's credentials and info
+     * @return Whether the token is valid
+     */
+    boolean isTokenValid(VerifiedTokenDTO verifiedToken, UserDetails userDetails);
+
+    /**
+     * Verifies the JWT auth token's signature and expiration, parsing it only once
+     *
+     * @param token The JWT auth token
+     * @return The username and expiration from the token, or empty if the token is invalid or expired
+     */
+    Optional<VerifiedTokenDTO> validateToken(String token);
+
+    /**
+     * Drops a JWT auth token from the verified token cache so its claims are no longer trusted without re-verification
+     *
+     * @param token The JWT auth token
+     */
+    void evictToken(String token);
+
     /**
      * Pulls a claim from the JWT auth token
      *
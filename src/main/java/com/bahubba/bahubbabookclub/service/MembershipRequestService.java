@@ -40,12 +40,9 @@ public interface MembershipRequestService {
      * @throws UserNotFoundException The user was not found or was not in the book club
      * @throws BookClubNotFoundException The book club did not exist
      * @throws UnauthorizedBookClubActionException The user was not an admin of the book club
-     * @throws PageSizeTooSmallException The page size was < 1
-     * @throws PageSizeTooLargeException The page size was > 50
      */
     Page<MembershipRequestDTO> getMembershipRequestsForBookClub(String bookClubName, int pageNum, int pageSize)
-            throws UserNotFoundException, BookClubNotFoundException, UnauthorizedBookClubActionException,
-                    PageSizeTooSmallException, PageSizeTooLargeException;
+            throws UserNotFoundException, BookClubNotFoundException, UnauthorizedBookClubActionException;
 
     /**
      * Approve or reject a membership request
@@ -20,12 +20,9 @@ public interface MembershipService {
      * @return A list of all members of the book club
      * @throws UserNotFoundException The user was not logged in or did not exist
      * @throws UnauthorizedBookClubActionException The user was not an admin of the book club
-     * @throws PageSizeTooSmallException The page size was < 1
-     * @throws PageSizeTooLargeException The page size was > 50
      */
     Page<BookClubMembershipDTO> getAll(String bookClubName, int pageNum, int pageSize)
-            throws UserNotFoundException, UnauthorizedBookClubActionException, PageSizeTooSmallException,
-                    PageSizeTooLargeException;
+            throws UserNotFoundException, UnauthorizedBookClubActionException;
 
     /**
      * Get the role of a user in a book club
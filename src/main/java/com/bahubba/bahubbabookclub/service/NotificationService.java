@@ -0,0 +1,47 @@
+package com.bahubba.bahubbabookclub.service;
+
+import com.bahubba.bahubbabookclub.exception.BadCursorException;
+import com.bahubba.bahubbabookclub.exception.UserNotFoundException;
+import com.bahubba.bahubbabookclub.model.dto.CursorPageDTO;
+import com.bahubba.bahubbabookclub.model.dto.NotificationDTO;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/** Notification feed business logic */
+public interface NotificationService {
+
+    /**
+     * Get the current user's notifications using keyset pagination, newest first
+     *
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param pageSize The number of results per page
+     * @return A slice of the user's notifications, with the cursor for the next slice
+     * @throws UserNotFoundException The user was not logged in or did not exist
+     * @throws BadCursorException The cursor could not be decoded
+     */
+    CursorPageDTO<NotificationDTO> getFeed(String cursor, int pageSize)
+            throws UserNotFoundException, BadCursorException;
+
+    /**
+     * Get the number of the current user's notifications they haven't viewed
+     *
+     * @return The number of unread notifications
+     * @throws UserNotFoundException The user was not logged in or did not exist
+     */
+    long getUnreadCount() throws UserNotFoundException;
+
+    /**
+     * Mark all of the current user's notifications as viewed
+     *
+     * @return The number of notifications that were newly marked as viewed
+     * @throws UserNotFoundException The user was not logged in or did not exist
+     */
+    int markAllRead() throws UserNotFoundException;
+
+    /**
+     * Open a stream that pushes the current user's new notifications as they're written
+     *
+     * @return The server-sent event stream
+     * @throws UserNotFoundException The user was not logged in or did not exist
+     */
+    SseEmitter openStream() throws UserNotFoundException;
+}
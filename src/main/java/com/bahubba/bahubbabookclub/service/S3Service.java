@@ -1,6 +1,8 @@
 package com.bahubba.bahubbabookclub.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
 /**
@@ -8,7 +10,7 @@ import software.amazon.awssdk.services.s3.model.S3Object;
  */
 public interface S3Service {
     /**
-     * Get a list of objects from S3 with a given prefix
+     * Get a list of all objects from S3 with a given prefix, following continuation tokens past the first page
      *
      * @param prefix The prefix to search for
      * @return The list of objects
@@ -22,4 +24,12 @@ public interface S3Service {
      * @return The pre-signed URL
      */
     String getPreSignedURL(String key);
+
+    /**
+     * Get pre-signed URLs for several files from S3, signing the ones that aren't cached in parallel
+     *
+     * @param keys The keys of the files to get; repeated keys are signed once
+     * @return The pre-signed URLs by key
+     */
+    Map<String, String> getPreSignedURLs(Collection<String> keys);
 }
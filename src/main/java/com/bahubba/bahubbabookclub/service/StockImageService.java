@@ -0,0 +1,17 @@
+package com.bahubba.bahubbabookclub.service;
+
+import com.bahubba.bahubbabookclub.model.dto.S3ImageDTO;
+import java.util.List;
+
+/** Stock book club image catalog service layer */
+public interface StockImageService {
+    /**
+     * Gets all stock book club images with pre-signed URLs, served from the in-memory catalog
+     *
+     * @return A list of stock book club images
+     */
+    List<S3ImageDTO> getStockImages();
+
+    /** Reloads the stock image catalog from S3, keeping the current catalog if the listing fails */
+    void refresh();
+}
@@ -2,13 +2,13 @@ package com.bahubba.bahubbabookclub.service.impl;
 
 import com.bahubba.bahubbabookclub.exception.UserNotFoundException;
 import com.bahubba.bahubbabookclub.model.dto.AuthDTO;
-import com.bahubba.bahubbabookclub.model.entity.Notification;
 import com.bahubba.bahubbabookclub.model.entity.User;
 import com.bahubba.bahubbabookclub.model.enums.NotificationType;
 import com.bahubba.bahubbabookclub.model.mapper.UserMapper;
 import com.bahubba.bahubbabookclub.model.payload.AuthRequest;
 import com.bahubba.bahubbabookclub.model.payload.UserPayload;
-import com.bahubba.bahubbabookclub.repository.NotificationRepo;
+import com.bahubba.bahubbabookclub.notification.NotificationDispatcher;
+import com.bahubba.bahubbabookclub.notification.NotificationEvent;
 import com.bahubba.bahubbabookclub.repository.UserRepo;
 import com.bahubba.bahubbabookclub.service.AuthService;
 import com.bahubba.bahubbabookclub.service.JwtService;
@@ -21,6 +21,7 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /** Registration and authentication logic */
 @Service
@@ -36,18 +37,20 @@ public class AuthServiceImpl implements AuthService {
     private final AuthenticationManager authManager;
     private final JwtService jwtService;
     private final UserRepo userRepo;
-    private final NotificationRepo notificationRepo;
+    private final NotificationDispatcher notificationDispatcher;
     private final UserMapper userMapper;
 
     @Override
+    @Transactional
     public AuthDTO register(UserPayload newUser) throws UserNotFoundException {
         // Generate and persist a User entity
         User user = userRepo.save(userMapper.payloadToEntity(newUser));
 
-        // Generate and persist a notification
-        notificationRepo.save(Notification.builder()
-                .sourceUser(user)
-                .targetUser(user)
+        // Dispatch a notification, written once the user is committed
+        notificationDispatcher.dispatch(NotificationEvent.builder()
+                .sourceUserID(user.getId())
+                .targetUserID(user.getId())
+                .sourceUsername(user.getUsername())
                 .type(NotificationType.NEW_USER)
                 .build());
 
@@ -89,6 +92,7 @@ public class AuthServiceImpl implements AuthService {
     @Override
     public AuthDTO logout(HttpServletRequest req) {
         jwtService.deleteRefreshToken(req);
+        jwtService.evictToken(jwtService.getJwtFromCookies(req));
 
         return AuthDTO.builder()
                 .token(jwtService.generateCookie(authCookieName, "", ""))
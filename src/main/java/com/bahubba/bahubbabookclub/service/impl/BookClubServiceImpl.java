@@ -2,35 +2,48 @@ package com.bahubba.bahubbabookclub.service.impl;
 
 import com.bahubba.bahubbabookclub.exception.*;
 import com.bahubba.bahubbabookclub.model.dto.BookClubDTO;
+import com.bahubba.bahubbabookclub.model.dto.ClubRoleDTO;
+import com.bahubba.bahubbabookclub.model.dto.CursorPageDTO;
 import com.bahubba.bahubbabookclub.model.dto.S3ImageDTO;
 import com.bahubba.bahubbabookclub.model.entity.BookClub;
 import com.bahubba.bahubbabookclub.model.entity.BookClubMembership;
-import com.bahubba.bahubbabookclub.model.entity.Notification;
 import com.bahubba.bahubbabookclub.model.entity.User;
 import com.bahubba.bahubbabookclub.model.enums.BookClubRole;
 import com.bahubba.bahubbabookclub.model.enums.NotificationType;
 import com.bahubba.bahubbabookclub.model.enums.Publicity;
 import com.bahubba.bahubbabookclub.model.mapper.BookClubMapper;
 import com.bahubba.bahubbabookclub.model.payload.BookClubPayload;
+import com.bahubba.bahubbabookclub.notification.NotificationDispatcher;
+import com.bahubba.bahubbabookclub.notification.NotificationEvent;
+import com.bahubba.bahubbabookclub.pagination.PaginationPolicy;
 import com.bahubba.bahubbabookclub.repository.BookClubMembershipRepo;
 import com.bahubba.bahubbabookclub.repository.BookClubRepo;
-import com.bahubba.bahubbabookclub.repository.NotificationRepo;
+import com.bahubba.bahubbabookclub.search.BookClubSearchIndex;
 import com.bahubba.bahubbabookclub.service.BookClubService;
-import com.bahubba.bahubbabookclub.service.S3Service;
+import com.bahubba.bahubbabookclub.service.ClubAuthorizationService;
+import com.bahubba.bahubbabookclub.service.StockImageService;
 import com.bahubba.bahubbabookclub.util.APIConstants;
+import com.bahubba.bahubbabookclub.util.KeysetCursor;
 import com.bahubba.bahubbabookclub.util.SecurityUtil;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import software.amazon.awssdk.services.s3.model.S3Object;
 
 /** {@link BookClub} business logic implementation */
 @Service
@@ -38,11 +51,17 @@ import software.amazon.awssdk.services.s3.model.S3Object;
 @RequiredArgsConstructor
 public class BookClubServiceImpl implements BookClubService {
 
-    private final S3Service s3Service;
+    private final StockImageService stockImageService;
     private final BookClubRepo bookClubRepo;
     private final BookClubMembershipRepo bookClubMembershipRepo;
-    private final NotificationRepo notificationRepo;
+    private final NotificationDispatcher notificationDispatcher;
     private final BookClubMapper bookClubMapper;
+    private final PaginationPolicy paginationPolicy;
+    private final BookClubSearchIndex bookClubSearchIndex;
+    private final ClubAuthorizationService clubAuthorizationService;
+
+    @Value("${app.properties.trigram_search_enabled}")
+    private boolean trigramSearchEnabled;
 
     @Override
     public BookClubDTO create(BookClubPayload newBookClub) throws UserNotFoundException, BadBookClubActionException {
@@ -69,13 +88,16 @@ public class BookClubServiceImpl implements BookClubService {
                 .build());
 
         // Generate a notification for the book club's creation
-        notificationRepo.save(Notification.builder()
-                .sourceUser(user)
-                .targetUser(user)
-                .bookClub(newBookClubEntity)
+        notificationDispatcher.dispatch(NotificationEvent.builder()
+                .sourceUserID(user.getId())
+                .targetUserID(user.getId())
+                .bookClubID(newBookClubEntity.getId())
+                .sourceUsername(user.getUsername())
+                .bookClubName(newBookClubEntity.getName())
                 .type(NotificationType.BOOK_CLUB_CREATED)
                 .build());
 
+        bookClubSearchIndex.index(newBookClubEntity);
         return bookClubMapper.entityToDTO(newBookClubEntity);
     }
 
@@ -88,11 +110,20 @@ public class BookClubServiceImpl implements BookClubService {
             throw new UserNotFoundException();
         }
 
+        // Ensure the user is an admin of the book club
+        clubAuthorizationService.requireAdmin(updatedBookClub.getId(), user.getId());
+
         // Find the book club to update
         BookClub bookClub = bookClubRepo
-                .findByIdAndUserIsAdmin(updatedBookClub.getId(), user.getId())
+                .findById(updatedBookClub.getId())
+                .filter(existingBookClub -> existingBookClub.getDisbanded() == null)
                 .orElseThrow(() -> new BookClubNotFoundException(updatedBookClub.getId()));
 
+        // Name-based permission checks must stop resolving the old name once the book club is renamed
+        if (!bookClub.getName().equals(updatedBookClub.getName())) {
+            clubAuthorizationService.evictBookClubName(bookClub.getName());
+        }
+
         // Update the book club's metadata
         bookClub.setName(updatedBookClub.getName());
         bookClub.setDescription(updatedBookClub.getDescription());
@@ -101,11 +132,14 @@ public class BookClubServiceImpl implements BookClubService {
 
         // TODO - Add notifications for each piece of metadata that was updated
 
-        // Persist and return the book club
-        return bookClubMapper.entityToDTO(bookClubRepo.save(bookClub));
+        // Persist, reindex, and return the book club
+        BookClub savedBookClub = bookClubRepo.save(bookClub);
+        bookClubSearchIndex.index(savedBookClub);
+        return bookClubMapper.entityToDTO(savedBookClub);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public BookClubDTO findByID(UUID id)
             throws BookClubNotFoundException, UserNotFoundException, MembershipNotFoundException {
 
@@ -122,6 +156,7 @@ public class BookClubServiceImpl implements BookClubService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public BookClubDTO findByName(String name)
             throws BookClubNotFoundException, UserNotFoundException, MembershipNotFoundException {
         // Get the book club by name
@@ -137,8 +172,8 @@ public class BookClubServiceImpl implements BookClubService {
     }
 
     @Override
-    public Page<BookClubDTO> findAllForUser(int pageNum, int pageSize)
-            throws UserNotFoundException, PageSizeTooSmallException, PageSizeTooLargeException {
+    @Transactional(readOnly = true)
+    public Page<BookClubDTO> findAllForUser(int pageNum, int pageSize) throws UserNotFoundException {
 
         // Get the current user from the security context
         User user = SecurityUtil.getCurrentUserDetails();
@@ -146,52 +181,103 @@ public class BookClubServiceImpl implements BookClubService {
             throw new UserNotFoundException();
         }
 
-        // Ensure the page size is appropriate
-        if (pageSize < 0) {
-            throw new PageSizeTooSmallException(10, getPageOfAllForUser(user.getId(), pageNum, 10));
-        } else if (pageSize > 50) {
-            throw new PageSizeTooLargeException(50, 50, getPageOfAllForUser(user.getId(), pageNum, 50));
-        }
+        return getPageOfAllForUser(
+                user.getId(),
+                pageNum,
+                paginationPolicy.getPageSize(PaginationPolicy.BOOK_CLUBS_ALL_FOR_USER, pageSize));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BookClubDTO> findAll(int pageNum, int pageSize) {
+        return getPageOfAll(pageNum, paginationPolicy.getPageSize(PaginationPolicy.BOOK_CLUBS_ALL, pageSize));
+    }
 
-        return getPageOfAllForUser(user.getId(), pageNum, pageSize);
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BookClubDTO> search(String searchTerm, int pageNum, int pageSize) throws SearchTermTooShortException {
+        return getPageOfSearchResults(
+                checkSearchTerm(searchTerm),
+                pageNum,
+                paginationPolicy.getPageSize(PaginationPolicy.BOOK_CLUBS_SEARCH, pageSize));
     }
 
     @Override
-    public Page<BookClubDTO> findAll(int pageNum, int pageSize)
-            throws PageSizeTooSmallException, PageSizeTooLargeException {
-
-        // Ensure the page size is appropriate
-        if (pageSize < 0) {
-            // If the page size is negative, throw an error, but default the page size to 10 and return
-            // results
-            throw new PageSizeTooSmallException(10, getPageOfAll(pageNum, 10));
-        } else if (pageSize > 50) {
-            // If the page size is > 50, throw an error, but default the page size to 50 and return
-            // results
-            throw new PageSizeTooLargeException(50, 50, getPageOfAll(pageNum, 50));
+    @Transactional(readOnly = true)
+    public Page<BookClubDTO> fullTextSearch(String query, int pageNum, int pageSize) {
+        // Rank the matches in memory
+        Page<UUID> idPage = bookClubSearchIndex.search(
+                query,
+                PageRequest.of(pageNum, paginationPolicy.getPageSize(PaginationPolicy.BOOK_CLUBS_SEARCH, pageSize)));
+        if (idPage.isEmpty()) {
+            return new PageImpl<>(List.of(), idPage.getPageable(), idPage.getTotalElements());
         }
 
-        // Get results using the appropriate page size
-        return getPageOfAll(pageNum, pageSize);
+        // Load only the page of book clubs, keeping the index's ranking
+        Map<UUID, BookClubDTO> bookClubsByID = bookClubRepo.findAllDTOsById(idPage.getContent()).stream()
+                .collect(Collectors.toMap(BookClubDTO::getId, Function.identity()));
+        List<BookClubDTO> bookClubDTOs = idPage.getContent().stream()
+                .map(bookClubsByID::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(bookClubDTOs, idPage.getPageable(), idPage.getTotalElements());
     }
 
     @Override
-    public Page<BookClubDTO> search(String searchTerm, int pageNum, int pageSize)
-            throws PageSizeTooSmallException, PageSizeTooLargeException {
-
-        // Ensure the page size is appropriate
-        if (pageSize < 1) {
-            // If the page size is negative, throw an error, but default the page size to 10 and return
-            // results
-            throw new PageSizeTooSmallException(10, getPageOfSearchResults(searchTerm, pageNum, 10));
-        } else if (pageSize > 50) {
-            // If the page size is > 50, throw an error, but default the page size to 50 and return
-            // results
-            throw new PageSizeTooLargeException(50, 50, getPageOfSearchResults(searchTerm, pageNum, 50));
+    @Transactional(readOnly = true)
+    public CursorPageDTO<BookClubDTO> findAllForUserByCursor(String cursor, int pageSize)
+            throws UserNotFoundException, BadCursorException {
+
+        // Get the current user from the security context
+        User user = SecurityUtil.getCurrentUserDetails();
+        if (user == null) {
+            throw new UserNotFoundException();
         }
 
-        // Get results using the appropriate page size
-        return getPageOfSearchResults(searchTerm, pageNum, pageSize);
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(
+                0, paginationPolicy.getPageSize(PaginationPolicy.BOOK_CLUBS_ALL_FOR_USER, pageSize));
+
+        // Seek past the last book club of the previous page rather than counting and skipping rows
+        Slice<BookClubDTO> slice = keysetCursor == null
+                ? bookClubRepo.findFirstSliceForUser(user.getId(), pageable)
+                : bookClubRepo.findSliceForUserAfter(
+                        user.getId(), keysetCursor.getCreated(), keysetCursor.getId(), pageable);
+
+        return toCursorPage(slice);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<BookClubDTO> findAllByCursor(String cursor, int pageSize) throws BadCursorException {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        Pageable pageable =
+                PageRequest.of(0, paginationPolicy.getPageSize(PaginationPolicy.BOOK_CLUBS_ALL, pageSize));
+
+        Slice<BookClubDTO> slice = keysetCursor == null
+                ? bookClubRepo.findFirstSlice(pageable)
+                : bookClubRepo.findSliceAfter(keysetCursor.getCreated(), keysetCursor.getId(), pageable);
+
+        return toCursorPage(slice);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<BookClubDTO> searchByCursor(String searchTerm, String cursor, int pageSize)
+            throws SearchTermTooShortException, BadCursorException {
+        searchTerm = checkSearchTerm(searchTerm);
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        Pageable pageable =
+                PageRequest.of(0, paginationPolicy.getPageSize(PaginationPolicy.BOOK_CLUBS_SEARCH, pageSize));
+
+        String likeTerm = escapeLike(searchTerm);
+        Slice<BookClubDTO> slice = keysetCursor == null
+                ? bookClubRepo.findFirstSearchSlice(Publicity.PRIVATE, likeTerm, pageable)
+                : bookClubRepo.findSearchSliceAfter(
+                        Publicity.PRIVATE, likeTerm, keysetCursor.getCreated(), keysetCursor.getId(), pageable);
+
+        return toCursorPage(slice);
     }
 
     @Override
@@ -205,12 +291,14 @@ public class BookClubServiceImpl implements BookClubService {
             throw new UserNotFoundException();
         }
 
-        // Find the user's membership in the book club
-        BookClubMembership membership = bookClubMembershipRepo
-                .findByBookClubIdAndUserId(id, user.getId())
-                .orElseThrow(() -> new MembershipNotFoundException(user.getId(), id));
+        // Ensure the user is the owner of the book club
+        ClubRoleDTO clubRole = clubAuthorizationService.getClubRole(id, user.getId());
+        if (clubRole.getClubRole() == BookClubRole.NONE) {
+            throw new MembershipNotFoundException(user.getId(), id);
+        }
+        checkOwner(clubRole);
 
-        return disbandBookClub(membership);
+        return disbandBookClub(bookClubRepo.findById(id).orElseThrow(() -> new BookClubNotFoundException(id)));
     }
 
     @Override
@@ -224,34 +312,21 @@ public class BookClubServiceImpl implements BookClubService {
             throw new UserNotFoundException();
         }
 
-        // Find the user's membership in the book club
-        BookClubMembership membership = bookClubMembershipRepo
-                .findByBookClubNameAndUserId(name, user.getId())
-                .orElseThrow(() -> new MembershipNotFoundException(user.getUsername(), name));
+        // Ensure the user is the owner of the book club
+        ClubRoleDTO clubRole = clubAuthorizationService.getClubRole(name, user.getId());
+        if (clubRole.getClubRole() == BookClubRole.NONE) {
+            throw new MembershipNotFoundException(user.getUsername(), name);
+        }
+        checkOwner(clubRole);
 
-        return disbandBookClub(membership);
+        return disbandBookClub(bookClubRepo.findByName(name).orElseThrow(() -> new BookClubNotFoundException(name)));
     }
 
+    // No DB access, so don't hold a connection while S3 is listed and the images are signed
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<S3ImageDTO> getStockBookClubImages() {
-        List<S3ImageDTO> stockImages = new ArrayList<>();
-
-        // Get the list of stock book club images from S3
-        List<S3Object> s3ImageObjects = s3Service.listS3ObjectsAtPrefix(APIConstants.BOOK_CLUB_STOCK_IMAGE_PREFIX);
-
-        // Get the pre-signed URLs for each image
-        for (S3Object s3ImageObject : s3ImageObjects) {
-            if (s3ImageObject.size() > 0) {
-                stockImages.add(S3ImageDTO.builder()
-                        .fileName(s3ImageObject
-                                .key()
-                                .substring(s3ImageObject.key().lastIndexOf("/") + 1))
-                        .url(s3Service.getPreSignedURL(s3ImageObject.key()))
-                        .build());
-            }
-        }
-
-        return stockImages;
+        return stockImageService.getStockImages();
     }
 
     /**
@@ -271,8 +346,8 @@ public class BookClubServiceImpl implements BookClubService {
             throw new UserNotFoundException();
         }
 
-        // Check if the user is a member of the book club
-        if (Boolean.FALSE.equals(bookClubMembershipRepo.existsByBookClubIdAndUserId(bookClub.getId(), user.getId()))) {
+        // Check if the user is an active member of the book club
+        if (clubAuthorizationService.getClubRole(bookClub.getId(), user.getId()).getClubRole() == BookClubRole.NONE) {
             throw new MembershipNotFoundException(user.getUsername(), bookClub.getName());
         }
 
@@ -287,11 +362,7 @@ public class BookClubServiceImpl implements BookClubService {
      * @param pageSize The number of results per page
      */
     private @NotNull Page<BookClubDTO> getPageOfAllForUser(UUID userID, int pageNum, int pageSize) {
-        // Get results
-        Page<BookClub> entityPage = bookClubRepo.findAllForUser(userID, PageRequest.of(pageNum, pageSize));
-
-        // Convert results to DTOs and return
-        return entityPage.map(bookClubMapper::entityToDTO);
+        return bookClubRepo.findAllForUser(userID, PageRequest.of(pageNum, pageSize));
     }
 
     /**
@@ -301,52 +372,105 @@ public class BookClubServiceImpl implements BookClubService {
      * @param pageSize The number of results per page
      */
     private @NotNull Page<BookClubDTO> getPageOfAll(int pageNum, int pageSize) {
-        // Get results
-        Page<BookClub> entityPage = bookClubRepo.findAll(PageRequest.of(pageNum, pageSize));
+        return bookClubRepo.findAllDTOs(PageRequest.of(pageNum, pageSize));
+    }
+
+    /**
+     * Trims a search term and ensures it is long enough to be served by the name index
+     *
+     * @param searchTerm the search term sent by the client
+     * @return the trimmed search term
+     * @throws SearchTermTooShortException the trimmed search term was below the minimum length
+     */
+    private @NotNull String checkSearchTerm(String searchTerm) throws SearchTermTooShortException {
+        String trimmed = searchTerm == null ? "" : searchTerm.trim();
+        if (trimmed.length() < APIConstants.BOOK_CLUB_SEARCH_MIN_LENGTH) {
+            throw new SearchTermTooShortException(APIConstants.BOOK_CLUB_SEARCH_MIN_LENGTH);
+        }
 
-        // Convert results to DTOs and return
-        return entityPage.map(bookClubMapper::entityToDTO);
+        return trimmed;
     }
 
     /**
-     * Searches for book clubs by name, returning a paged subset
+     * Escapes LIKE wildcards in a search term so they match literally, as the derived ContainsIgnoreCase query used to
+     *
+     * @param searchTerm The search term
+     * @return The search term for a LIKE pattern with backslash as its escape character
+     */
+    private static String escapeLike(String searchTerm) {
+        return searchTerm.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * Searches for book clubs by name, returning a paged subset ordered by relevance
      *
      * @param searchTerm the substring of the name to search for
      * @param pageNum the page number
      * @param pageSize the size of the page
      */
     private @NotNull Page<BookClubDTO> getPageOfSearchResults(String searchTerm, int pageNum, int pageSize) {
-        // Get results
-        Page<BookClub> entityPage = bookClubRepo.findAllByPublicityNotAndNameContainsIgnoreCase(
-                Publicity.PRIVATE, searchTerm, PageRequest.of(pageNum, pageSize));
+        String likeTerm = escapeLike(searchTerm);
+        Pageable pageable = PageRequest.of(pageNum, pageSize);
+
+        // Get results, ranked by trigram similarity where pg_trgm is available
+        return trigramSearchEnabled
+                ? bookClubRepo
+                        .searchByNameSimilarity(Publicity.PRIVATE.name(), searchTerm, likeTerm, pageable)
+                        .map(bookClubMapper::projectionToDTO)
+                : bookClubRepo.searchByNameRelevance(Publicity.PRIVATE, searchTerm, likeTerm, pageable);
+    }
 
-        // Convert results to DTOs and return
-        return entityPage.map(bookClubMapper::entityToDTO);
+    /**
+     * Converts a slice of book clubs to a cursor page, pointing the next cursor at the slice's last book club
+     *
+     * @param slice The slice of book clubs
+     * @return The cursor page of book clubs
+     */
+    private @NotNull CursorPageDTO<BookClubDTO> toCursorPage(@NotNull Slice<BookClubDTO> slice) {
+        List<BookClubDTO> bookClubs = slice.getContent();
+
+        String nextCursor = null;
+        if (slice.hasNext() && !bookClubs.isEmpty()) {
+            BookClubDTO last = bookClubs.get(bookClubs.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreated(), last.getId()).encode();
+        }
+
+        return CursorPageDTO.<BookClubDTO>builder()
+                .content(bookClubs)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
     }
 
     /**
-     * Disband a book club
+     * Ensure a user is the owner of a book club
      *
-     * @param membership The membership of the user in the book club to disband
-     * @return The disbanded book club
+     * @param clubRole The user's role in the book club
      * @throws UnauthorizedBookClubActionException The user was not the owner of the book club
-     * @throws BadBookClubActionException The book club was already disbanded
      */
-    private BookClubDTO disbandBookClub(@NotNull BookClubMembership membership)
-            throws UnauthorizedBookClubActionException, BadBookClubActionException {
-        // Ensure the user is the owner of the book club
-        if (!membership.isOwner()) {
+    private void checkOwner(@NotNull ClubRoleDTO clubRole) throws UnauthorizedBookClubActionException {
+        if (!clubRole.isOwner()) {
             throw new UnauthorizedBookClubActionException();
         }
+    }
 
+    /**
+     * Disband a book club
+     *
+     * @param bookClub The book club to disband
+     * @return The disbanded book club
+     * @throws BadBookClubActionException The book club was already disbanded
+     */
+    private BookClubDTO disbandBookClub(@NotNull BookClub bookClub) throws BadBookClubActionException {
         // Ensure the book club is not already disbanded
-        BookClub bookClub = membership.getBookClub();
         if (bookClub.getDisbanded() != null) {
             throw new BadBookClubActionException();
         }
 
-        // Disband the book club
+        // Disband the book club and drop it from search results
         bookClub.setDisbanded(LocalDateTime.now());
-        return bookClubMapper.entityToDTO(bookClubRepo.save(bookClub));
+        BookClub savedBookClub = bookClubRepo.save(bookClub);
+        bookClubSearchIndex.remove(bookClub.getId());
+        return bookClubMapper.entityToDTO(savedBookClub);
     }
 }
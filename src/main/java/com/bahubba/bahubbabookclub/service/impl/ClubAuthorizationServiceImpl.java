@@ -0,0 +1,92 @@
+package com.bahubba.bahubbabookclub.service.impl;
+
+import com.bahubba.bahubbabookclub.cache.ClubRoleCache;
+import com.bahubba.bahubbabookclub.exception.UnauthorizedBookClubActionException;
+import com.bahubba.bahubbabookclub.model.dto.ClubRoleDTO;
+import com.bahubba.bahubbabookclub.model.enums.BookClubRole;
+import com.bahubba.bahubbabookclub.repository.BookClubMembershipRepo;
+import com.bahubba.bahubbabookclub.repository.BookClubRepo;
+import com.bahubba.bahubbabookclub.service.ClubAuthorizationService;
+import com.bahubba.bahubbabookclub.util.TransactionUtil;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Book club permission checks backed by the {@link ClubRoleCache} */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ClubAuthorizationServiceImpl implements ClubAuthorizationService {
+
+    private final ClubRoleCache clubRoleCache;
+    private final BookClubMembershipRepo bookClubMembershipRepo;
+    private final BookClubRepo bookClubRepo;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ClubRoleDTO getClubRole(UUID bookClubID, UUID userID) {
+        return clubRoleCache.get(bookClubID, userID, () -> bookClubMembershipRepo
+                .findActiveRoleByBookClubIdAndUserId(bookClubID, userID)
+                .orElseGet(() -> new ClubRoleDTO(BookClubRole.NONE, false)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ClubRoleDTO getClubRole(String bookClubName, UUID userID) {
+        UUID bookClubID = clubRoleCache.getBookClubID(
+                bookClubName, name -> bookClubRepo.findIdByName(name).orElse(null));
+
+        // Nobody has a role in a book club that doesn't exist
+        if (bookClubID == null) {
+            return new ClubRoleDTO(BookClubRole.NONE, false);
+        }
+
+        return getClubRole(bookClubID, userID);
+    }
+
+    @Override
+    public void requireAdmin(UUID bookClubID, UUID userID) throws UnauthorizedBookClubActionException {
+        checkAdmin(getClubRole(bookClubID, userID));
+    }
+
+    @Override
+    public void requireAdmin(String bookClubName, UUID userID) throws UnauthorizedBookClubActionException {
+        checkAdmin(getClubRole(bookClubName, userID));
+    }
+
+    @Override
+    public void requireOwner(UUID bookClubID, UUID userID) throws UnauthorizedBookClubActionException {
+        checkOwner(getClubRole(bookClubID, userID));
+    }
+
+    @Override
+    public void requireOwner(String bookClubName, UUID userID) throws UnauthorizedBookClubActionException {
+        checkOwner(getClubRole(bookClubName, userID));
+    }
+
+    @Override
+    public void evict(UUID bookClubID, UUID userID) {
+        // Evict again once the write commits, in case a concurrent check reloaded the old role in the meantime
+        clubRoleCache.invalidate(bookClubID, userID);
+        TransactionUtil.afterCommit(() -> clubRoleCache.invalidate(bookClubID, userID));
+    }
+
+    @Override
+    public void evictBookClubName(String bookClubName) {
+        clubRoleCache.invalidateBookClubName(bookClubName);
+        TransactionUtil.afterCommit(() -> clubRoleCache.invalidateBookClubName(bookClubName));
+    }
+
+    private void checkAdmin(ClubRoleDTO clubRole) throws UnauthorizedBookClubActionException {
+        if (clubRole.getClubRole() != BookClubRole.ADMIN) {
+            throw new UnauthorizedBookClubActionException();
+        }
+    }
+
+    private void checkOwner(ClubRoleDTO clubRole) throws UnauthorizedBookClubActionException {
+        if (clubRole.getClubRole() == BookClubRole.NONE || !clubRole.isOwner()) {
+            throw new UnauthorizedBookClubActionException();
+        }
+    }
+}
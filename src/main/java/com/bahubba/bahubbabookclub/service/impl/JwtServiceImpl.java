@@ -1,8 +1,10 @@
 package com.bahubba.bahubbabookclub.service.impl;
 
+import com.bahubba.bahubbabookclub.cache.VerifiedTokenCache;
 import com.bahubba.bahubbabookclub.exception.TokenRefreshException;
 import com.bahubba.bahubbabookclub.exception.UserNotFoundException;
 import com.bahubba.bahubbabookclub.model.dto.AuthDTO;
+import com.bahubba.bahubbabookclub.model.dto.VerifiedTokenDTO;
 import com.bahubba.bahubbabookclub.model.entity.RefreshToken;
 import com.bahubba.bahubbabookclub.model.entity.User;
 import com.bahubba.bahubbabookclub.model.mapper.UserMapper;
@@ -10,23 +12,24 @@ import com.bahubba.bahubbabookclub.repository.RefreshTokenRepo;
 import com.bahubba.bahubbabookclub.repository.UserRepo;
 import com.bahubba.bahubbabookclub.service.JwtService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.NotNull;
-import java.security.Key;
 import java.time.Instant;
 import java.util.*;
 import java.util.function.Function;
+import javax.crypto.SecretKey;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseCookie;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.util.WebUtils;
 
@@ -35,9 +38,6 @@ import org.springframework.web.util.WebUtils;
 @Transactional
 @RequiredArgsConstructor
 public class JwtServiceImpl implements JwtService {
-    @Value("${app.properties.secret_key}")
-    private String secretKey;
-
     @Value("${app.properties.auth_cookie_name}")
     private String authCookieName;
 
@@ -47,6 +47,9 @@ public class JwtServiceImpl implements JwtService {
     private final RefreshTokenRepo refreshTokenRepo;
     private final UserRepo userRepo;
     private final UserMapper userMapper;
+    private final SecretKey jwtSigningKey;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     public ResponseCookie generateJwtCookie(UserDetails userDetails) {
@@ -70,16 +73,40 @@ public class JwtServiceImpl implements JwtService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
-    // TODO - Update validity checks with error handling (see
-    // https://www.bezkoder.com/spring-security-refresh-token/)
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean isTokenValid(String token, @NotNull UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        return validateToken(token)
+                .map(verifiedToken -> isTokenValid(verifiedToken, userDetails))
+                .orElse(false);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean isTokenValid(@NotNull VerifiedTokenDTO verifiedToken, @NotNull UserDetails userDetails) {
+        return verifiedToken.getUsername().equals(userDetails.getUsername())
+                && verifiedToken.getExpiration().isAfter(Instant.now());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<VerifiedTokenDTO> validateToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // Tokens verified by a previous request skip the signature check until they expire
+        return verifiedTokenCache.get(token, this::verifyToken);
+    }
+
+    @Override
+    public void evictToken(String token) {
+        verifiedTokenCache.invalidate(token);
     }
 
     @Override
@@ -185,7 +212,7 @@ public class JwtServiceImpl implements JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60)) // 1 hr validity
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(jwtSigningKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -214,40 +241,32 @@ public class JwtServiceImpl implements JwtService {
      * @return All claims from the JWT token
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     /**
-     * Generates a signing key for JWTs using a secret key
+     * Verifies the JWT auth token's signature and expiration with a single parse
      *
-     * @return A JWT signing key
+     * @param token The JWT auth token
+     * @return The username and expiration from the token, or empty if the token is invalid or expired
      */
-    private @NotNull Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
+    private Optional<VerifiedTokenDTO> verifyToken(String token) {
+        final Claims claims;
+        try {
+            claims = extractAllClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            // Malformed, tampered with, or expired
+            return Optional.empty();
+        }
 
-    /**
-     * Checks if a JWT token is expired
-     *
-     * @param token The JWT token
-     * @return Whether the JWT token is expired
-     */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
+        // Only tokens issued by this app (with a subject and an expiration) are accepted
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            return Optional.empty();
+        }
 
-    /**
-     * Extracts the expiration date from a JWT token
-     *
-     * @param token The JWT token
-     * @return The expiration date of the JWT token
-     */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return Optional.of(VerifiedTokenDTO.builder()
+                .username(claims.getSubject())
+                .expiration(claims.getExpiration().toInstant())
+                .build());
     }
 }
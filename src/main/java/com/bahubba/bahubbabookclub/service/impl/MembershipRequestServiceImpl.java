@@ -7,14 +7,19 @@ import com.bahubba.bahubbabookclub.model.entity.BookClubMembership;
 import com.bahubba.bahubbabookclub.model.entity.MembershipRequest;
 import com.bahubba.bahubbabookclub.model.entity.User;
 import com.bahubba.bahubbabookclub.model.enums.BookClubRole;
+import com.bahubba.bahubbabookclub.model.enums.NotificationType;
 import com.bahubba.bahubbabookclub.model.enums.RequestAction;
 import com.bahubba.bahubbabookclub.model.enums.RequestStatus;
 import com.bahubba.bahubbabookclub.model.mapper.MembershipRequestMapper;
 import com.bahubba.bahubbabookclub.model.payload.MembershipRequestAction;
 import com.bahubba.bahubbabookclub.model.payload.NewMembershipRequest;
+import com.bahubba.bahubbabookclub.notification.NotificationDispatcher;
+import com.bahubba.bahubbabookclub.notification.NotificationEvent;
+import com.bahubba.bahubbabookclub.pagination.PaginationPolicy;
 import com.bahubba.bahubbabookclub.repository.BookClubMembershipRepo;
 import com.bahubba.bahubbabookclub.repository.BookClubRepo;
 import com.bahubba.bahubbabookclub.repository.MembershipRequestRepo;
+import com.bahubba.bahubbabookclub.service.ClubAuthorizationService;
 import com.bahubba.bahubbabookclub.service.MembershipRequestService;
 import com.bahubba.bahubbabookclub.util.SecurityUtil;
 import jakarta.validation.constraints.NotNull;
@@ -36,6 +41,9 @@ public class MembershipRequestServiceImpl implements MembershipRequestService {
     private final MembershipRequestMapper membershipRequestMapper;
     private final BookClubRepo bookClubRepo;
     private final BookClubMembershipRepo bookClubMembershipRepo;
+    private final PaginationPolicy paginationPolicy;
+    private final ClubAuthorizationService clubAuthorizationService;
+    private final NotificationDispatcher notificationDispatcher;
 
     @Override
     public MembershipRequestDTO requestMembership(NewMembershipRequest newMembershipRequest)
@@ -53,14 +61,29 @@ public class MembershipRequestServiceImpl implements MembershipRequestService {
                 .orElseThrow(() -> new BookClubNotFoundException("Book club not found"));
 
         // Create the membership request and persist it
-        return membershipRequestMapper.entityToDTO(membershipRequestRepo.save(MembershipRequest.builder()
+        MembershipRequest membershipRequest = membershipRequestRepo.save(MembershipRequest.builder()
                 .bookClub(bookClub)
                 .user(user)
                 .message(newMembershipRequest.getMessage())
-                .build()));
+                .build());
+
+        // Notify the book club's admins of the request
+        bookClubMembershipRepo
+                .findActiveUserIdsByBookClubIdAndClubRole(bookClub.getId(), BookClubRole.ADMIN)
+                .forEach(adminID -> notificationDispatcher.dispatch(NotificationEvent.builder()
+                        .sourceUserID(user.getId())
+                        .targetUserID(adminID)
+                        .bookClubID(bookClub.getId())
+                        .sourceUsername(user.getUsername())
+                        .bookClubName(bookClub.getName())
+                        .type(NotificationType.MEMBERSHIP_REQUESTED)
+                        .build()));
+
+        return membershipRequestMapper.entityToDTO(membershipRequest);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Boolean hasPendingRequest(String bookClubName) throws UserNotFoundException {
         // Get the current user from the security context
         User user = SecurityUtil.getCurrentUserDetails();
@@ -75,9 +98,9 @@ public class MembershipRequestServiceImpl implements MembershipRequestService {
 
     // TODO - custom sorting, filters?
     @Override
+    @Transactional(readOnly = true)
     public Page<MembershipRequestDTO> getMembershipRequestsForBookClub(String bookClubName, int pageNum, int pageSize)
-            throws UserNotFoundException, BookClubNotFoundException, UnauthorizedBookClubActionException,
-                    PageSizeTooSmallException, PageSizeTooLargeException {
+            throws UserNotFoundException, BookClubNotFoundException, UnauthorizedBookClubActionException {
         // Get the current user from the security context
         User user = SecurityUtil.getCurrentUserDetails();
         if (user == null) {
@@ -90,29 +113,19 @@ public class MembershipRequestServiceImpl implements MembershipRequestService {
                 .orElseThrow(() -> new BookClubNotFoundException("Book club not found"));
 
         // Ensure the user is an admin of the book club
-        BookClubMembership membership = bookClub.getMembers().stream()
-                .filter(member -> member.getUser().getId().equals(user.getId()))
-                .findFirst()
-                .orElseThrow(() -> new UserNotFoundException(user.getUsername(), bookClub.getName()));
-        if (!membership.getClubRole().equals(BookClubRole.ADMIN)) {
-            throw new UnauthorizedBookClubActionException();
+        BookClubRole clubRole = clubAuthorizationService.getClubRole(bookClub.getId(), user.getId()).getClubRole();
+        if (clubRole == BookClubRole.NONE) {
+            throw new UserNotFoundException(user.getUsername(), bookClub.getName());
         }
-
-        // Ensure the page size is valid
-        if (pageSize < 1) {
-            // If the page size is negative, throw an error, but default the page size to 10 and return
-            // results
-            throw new PageSizeTooSmallException(
-                    10, getPageOfMembershipRequestsForBookClub(bookClub.getId(), pageNum, 10));
-        } else if (pageSize > 50) {
-            // If the page size is > 50, throw an error, but default the page size to 50 and return
-            // results
-            throw new PageSizeTooLargeException(
-                    50, 50, getPageOfMembershipRequestsForBookClub(bookClub.getId(), pageNum, 50));
+        if (clubRole != BookClubRole.ADMIN) {
+            throw new UnauthorizedBookClubActionException();
         }
 
-        // Return the membership requests for the book club
-        return getPageOfMembershipRequestsForBookClub(bookClub.getId(), pageNum, pageSize);
+        // Return the membership requests for the book club using the allowed page size
+        return getPageOfMembershipRequestsForBookClub(
+                bookClub.getId(),
+                pageNum,
+                paginationPolicy.getPageSize(PaginationPolicy.MEMBERSHIP_REQUESTS_ALL_FOR_CLUB, pageSize));
     }
 
     @Override
@@ -136,12 +149,14 @@ public class MembershipRequestServiceImpl implements MembershipRequestService {
                                 .getName()));
 
         // Ensure the reviewer is an admin of the book club
-        BookClubMembership reviewerMembership = membershipRequest.getBookClub().getMembers().stream()
-                .filter(member -> member.getUser().getId().equals(reviewer.getId()))
-                .findFirst()
-                .orElseThrow(() -> new UserNotFoundException(
-                        reviewer.getUsername(), membershipRequest.getBookClub().getName()));
-        if (!reviewerMembership.getClubRole().equals(BookClubRole.ADMIN)) {
+        BookClub bookClub = membershipRequest.getBookClub();
+        BookClubRole reviewerRole = clubAuthorizationService
+                .getClubRole(bookClub.getId(), reviewer.getId())
+                .getClubRole();
+        if (reviewerRole == BookClubRole.NONE) {
+            throw new UserNotFoundException(reviewer.getUsername(), bookClub.getName());
+        }
+        if (reviewerRole != BookClubRole.ADMIN) {
             throw new UnauthorizedBookClubActionException();
         }
 
@@ -154,23 +169,18 @@ public class MembershipRequestServiceImpl implements MembershipRequestService {
         // approved
         if (membershipRequestAction.getAction().equals(RequestAction.APPROVE)) {
             // Ensure the user isn't already a member of the book club
-            BookClubMembership existingMembership = membershipRequest.getBookClub().getMembers().stream()
-                    .filter(member -> member.getUser()
-                            .getId()
-                            .equals(membershipRequest.getUser().getId()))
-                    .findFirst()
-                    .orElse(null);
-
-            if (existingMembership != null) {
+            if (Boolean.TRUE.equals(bookClubMembershipRepo.existsByBookClubIdAndUserId(
+                    bookClub.getId(), membershipRequest.getUser().getId()))) {
                 throw new BadBookClubActionException();
             }
 
             // Add the user to the book club
             bookClubMembershipRepo.save(BookClubMembership.builder()
-                    .bookClub(membershipRequest.getBookClub())
+                    .bookClub(bookClub)
                     .user(membershipRequest.getUser())
                     .clubRole(membershipRequestAction.getRole())
                     .build());
+            clubAuthorizationService.evict(bookClub.getId(), membershipRequest.getUser().getId());
         }
 
         // Update the membership request
@@ -186,6 +196,19 @@ public class MembershipRequestServiceImpl implements MembershipRequestService {
         membershipRequest.setReviewMessage(membershipRequestAction.getReviewMessage());
         membershipRequest.setReviewed(LocalDateTime.now());
 
+        // Notify the requester of the outcome
+        notificationDispatcher.dispatch(NotificationEvent.builder()
+                .sourceUserID(reviewer.getId())
+                .targetUserID(membershipRequest.getUser().getId())
+                .bookClubID(bookClub.getId())
+                .sourceUsername(reviewer.getUsername())
+                .bookClubName(bookClub.getName())
+                .type(
+                        membershipRequestAction.getAction().equals(RequestAction.APPROVE)
+                                ? NotificationType.MEMBERSHIP_APPROVED
+                                : NotificationType.MEMBERSHIP_DECLINED)
+                .build());
+
         // Persist the updated membership request and return it
         return membershipRequestMapper.entityToDTO(membershipRequestRepo.save(membershipRequest));
     }
@@ -12,13 +12,14 @@ import com.bahubba.bahubbabookclub.model.mapper.UserMapper;
 import com.bahubba.bahubbabookclub.model.payload.MembershipCompositeID;
 import com.bahubba.bahubbabookclub.model.payload.MembershipUpdate;
 import com.bahubba.bahubbabookclub.model.payload.NewOwner;
+import com.bahubba.bahubbabookclub.pagination.PaginationPolicy;
 import com.bahubba.bahubbabookclub.repository.BookClubMembershipRepo;
 import com.bahubba.bahubbabookclub.repository.BookClubRepo;
+import com.bahubba.bahubbabookclub.service.ClubAuthorizationService;
 import com.bahubba.bahubbabookclub.service.MembershipService;
 import com.bahubba.bahubbabookclub.util.SecurityUtil;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -36,11 +37,13 @@ public class MembershipServiceImpl implements MembershipService {
     private final BookClubMembershipMapper bookClubMembershipMapper;
     private final BookClubMapper bookClubMapper;
     private final UserMapper userMapper;
+    private final PaginationPolicy paginationPolicy;
+    private final ClubAuthorizationService clubAuthorizationService;
 
     @Override
+    @Transactional(readOnly = true)
     public Page<BookClubMembershipDTO> getAll(String bookClubName, int pageNum, int pageSize)
-            throws UserNotFoundException, UnauthorizedBookClubActionException, PageSizeTooSmallException,
-                    PageSizeTooLargeException {
+            throws UserNotFoundException, UnauthorizedBookClubActionException {
 
         // Get the user from the security context
         User user = SecurityUtil.getCurrentUserDetails();
@@ -48,23 +51,16 @@ public class MembershipServiceImpl implements MembershipService {
             throw new UserNotFoundException();
         }
 
-        // Get the User's membership in the book club, ensuring they are an admin
-        bookClubMembershipRepo
-                .findByBookClubNameAndClubRoleAndUserId(bookClubName, BookClubRole.ADMIN, user.getId())
-                .orElseThrow(UnauthorizedBookClubActionException::new);
+        // Ensure the user is an admin of the book club
+        clubAuthorizationService.requireAdmin(bookClubName, user.getId());
 
-        // Ensure the page size is valid
-        if (pageSize < 1) {
-            throw new PageSizeTooSmallException(10, getPageOfMembershipsForBookClub(bookClubName, pageNum, 10));
-        } else if (pageSize > 50) {
-            throw new PageSizeTooLargeException(50, 50, getPageOfMembershipsForBookClub(bookClubName, pageNum, 50));
-        }
-
-        // Get all members of the book club using the given page size
-        return getPageOfMembershipsForBookClub(bookClubName, pageNum, pageSize);
+        // Get all members of the book club using the allowed page size
+        return getPageOfMembershipsForBookClub(
+                bookClubName, pageNum, paginationPolicy.getPageSize(PaginationPolicy.MEMBERSHIPS_ALL, pageSize));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public BookClubRole getRole(String bookClubName) throws UserNotFoundException, MembershipNotFoundException {
         // Get the current user from the security context
         User user = SecurityUtil.getCurrentUserDetails();
@@ -73,15 +69,17 @@ public class MembershipServiceImpl implements MembershipService {
         }
 
         // Get the user's role in the book club (if any)
-        BookClubMembership membership = bookClubMembershipRepo
-                .findByBookClubNameAndUserId(bookClubName, user.getId())
-                .orElseThrow(() -> new MembershipNotFoundException(user.getUsername(), bookClubName));
+        BookClubRole clubRole = clubAuthorizationService.getClubRole(bookClubName, user.getId()).getClubRole();
+        if (clubRole == BookClubRole.NONE) {
+            throw new MembershipNotFoundException(user.getUsername(), bookClubName);
+        }
 
         // Return the user's role
-        return membership.getClubRole();
+        return clubRole;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public BookClubMembershipDTO getMembership(String bookClubName)
             throws UserNotFoundException, BookClubNotFoundException {
 
@@ -129,11 +127,8 @@ public class MembershipServiceImpl implements MembershipService {
             throw new BadBookClubActionException();
         }
 
-        // Get the requesting user's membership in the book club to ensure they're an admin
-        bookClubMembershipRepo
-                .findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        membershipUpdate.getBookClubName(), user.getId(), BookClubRole.ADMIN)
-                .orElseThrow(UnauthorizedBookClubActionException::new);
+        // Ensure the requesting user is an admin of the book club
+        clubAuthorizationService.requireAdmin(membershipUpdate.getBookClubName(), user.getId());
 
         // Get the target user's membership in the book club
         BookClubMembership membership = bookClubMembershipRepo
@@ -150,7 +145,9 @@ public class MembershipServiceImpl implements MembershipService {
 
         // Update the user's role
         membership.setClubRole(membershipUpdate.getRole());
-        return bookClubMembershipMapper.entityToDTO(bookClubMembershipRepo.save(membership));
+        BookClubMembership savedMembership = bookClubMembershipRepo.save(membership);
+        clubAuthorizationService.evict(membership.getBookClub().getId(), membershipUpdate.getUserID());
+        return bookClubMembershipMapper.entityToDTO(savedMembership);
     }
 
     @Override
@@ -169,10 +166,8 @@ public class MembershipServiceImpl implements MembershipService {
             throw new BadBookClubActionException();
         }
 
-        // Get the requesting user's membership in the book club to ensure they're an admin
-        bookClubMembershipRepo
-                .findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(bookClubName, user.getId(), BookClubRole.ADMIN)
-                .orElseThrow(UnauthorizedBookClubActionException::new);
+        // Ensure the requesting user is an admin of the book club
+        clubAuthorizationService.requireAdmin(bookClubName, user.getId());
 
         // Get the target user's membership in the book club
         BookClubMembership membership = bookClubMembershipRepo
@@ -186,7 +181,9 @@ public class MembershipServiceImpl implements MembershipService {
 
         // Delete the membership
         membership.setDeparted(LocalDateTime.now());
-        return bookClubMembershipMapper.entityToDTO(bookClubMembershipRepo.save(membership));
+        BookClubMembership savedMembership = bookClubMembershipRepo.save(membership);
+        clubAuthorizationService.evict(membership.getBookClub().getId(), userID);
+        return bookClubMembershipMapper.entityToDTO(savedMembership);
     }
 
     @Override
@@ -205,9 +202,7 @@ public class MembershipServiceImpl implements MembershipService {
         }
 
         // Ensure the user is not trying to change ownership of a book club they don't own
-        bookClubMembershipRepo
-                .findByBookClubNameAndUserIdAndIsOwnerTrue(newOwner.getBookClubName(), user.getId())
-                .orElseThrow(UnauthorizedBookClubActionException::new);
+        clubAuthorizationService.requireOwner(newOwner.getBookClubName(), user.getId());
 
         // Get the new owner's membership
         BookClubMembership newOwnerMembership = bookClubMembershipRepo
@@ -219,6 +214,7 @@ public class MembershipServiceImpl implements MembershipService {
         newOwnerMembership.setClubRole(BookClubRole.ADMIN);
         newOwnerMembership.setOwner(true);
         bookClubMembershipRepo.save(newOwnerMembership);
+        clubAuthorizationService.evict(newOwnerMembership.getBookClub().getId(), newOwner.getNewOwnerID());
 
         return true;
     }
@@ -238,28 +234,21 @@ public class MembershipServiceImpl implements MembershipService {
             throw new BadBookClubActionException("Cannot revoke your own membership");
         }
 
-        // Get the memberships of the user and the target user
-        List<BookClubMembership> memberships =
-                bookClubMembershipRepo.findAllByBookClubIdAndIsOwnerTrueAndDepartedIsNullAndUserIdIn(
-                        membershipCompositeID.getBookClubID(),
-                        List.of(user.getId(), membershipCompositeID.getUserID()));
-
         // Ensure the user is an active owner of the book club
-        memberships.stream()
-                .filter(membership -> membership.getUser().getId().equals(user.getId()))
-                .findFirst()
-                .orElseThrow(UnauthorizedBookClubActionException::new);
+        clubAuthorizationService.requireOwner(membershipCompositeID.getBookClubID(), user.getId());
 
         // Ensure the target user is an active owner of the book club
-        BookClubMembership targetMembership = memberships.stream()
-                .filter(membership -> membership.getUser().getId().equals(membershipCompositeID.getUserID()))
-                .findFirst()
+        BookClubMembership targetMembership = bookClubMembershipRepo
+                .findByBookClubIdAndUserIdAndIsOwnerTrueAndDepartedIsNull(
+                        membershipCompositeID.getBookClubID(), membershipCompositeID.getUserID())
                 .orElseThrow(() -> new MembershipNotFoundException(
                         membershipCompositeID.getUserID(), membershipCompositeID.getBookClubID()));
 
         // Set the target user's ownership to false and persist it to the DB, then return the updated membership
         targetMembership.setOwner(false);
-        return bookClubMembershipMapper.entityToDTO(bookClubMembershipRepo.save(targetMembership));
+        BookClubMembership savedMembership = bookClubMembershipRepo.save(targetMembership);
+        clubAuthorizationService.evict(membershipCompositeID.getBookClubID(), membershipCompositeID.getUserID());
+        return bookClubMembershipMapper.entityToDTO(savedMembership);
     }
 
     /**
@@ -0,0 +1,148 @@
+package com.bahubba.bahubbabookclub.service.impl;
+
+import com.bahubba.bahubbabookclub.exception.BadCursorException;
+import com.bahubba.bahubbabookclub.exception.UserNotFoundException;
+import com.bahubba.bahubbabookclub.model.dto.CursorPageDTO;
+import com.bahubba.bahubbabookclub.model.dto.NotificationDTO;
+import com.bahubba.bahubbabookclub.model.entity.User;
+import com.bahubba.bahubbabookclub.notification.NotificationStreamRegistry;
+import com.bahubba.bahubbabookclub.pagination.PaginationPolicy;
+import com.bahubba.bahubbabookclub.repository.NotificationCounterRepo;
+import com.bahubba.bahubbabookclub.repository.NotificationRepo;
+import com.bahubba.bahubbabookclub.service.NotificationService;
+import com.bahubba.bahubbabookclub.util.KeysetCursor;
+import com.bahubba.bahubbabookclub.util.SecurityUtil;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/** Notification feed business logic implementation */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Log4j2
+public class NotificationServiceImpl implements NotificationService {
+
+    private final NotificationRepo notificationRepo;
+    private final NotificationCounterRepo notificationCounterRepo;
+    private final PaginationPolicy paginationPolicy;
+    private final NotificationStreamRegistry notificationStreamRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<NotificationDTO> getFeed(String cursor, int pageSize)
+            throws UserNotFoundException, BadCursorException {
+
+        User user = getCurrentUser();
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        Pageable pageable =
+                PageRequest.of(0, paginationPolicy.getPageSize(PaginationPolicy.NOTIFICATIONS_FEED, pageSize));
+
+        // The feed is read straight into DTOs, so no entities are loaded or tracked
+        Slice<NotificationDTO> notificationSlice = keysetCursor == null
+                ? notificationRepo.findFirstFeedSlice(user.getId(), pageable)
+                : notificationRepo.findFeedSliceAfter(
+                        user.getId(), keysetCursor.getCreated(), keysetCursor.getId(), pageable);
+
+        return toCursorPage(notificationSlice);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getUnreadCount() throws UserNotFoundException {
+        // Users without a counter haven't been sent any notifications
+        return notificationCounterRepo.findUnreadByUserId(getCurrentUser().getId()).orElse(0L);
+    }
+
+    // Each attempt runs in its own transaction, since a failed insert leaves the transaction it ran in unusable
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int markAllRead() throws UserNotFoundException {
+        User user = getCurrentUser();
+
+        try {
+            return markAllRead(user.getId());
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent call inserted some of the same views first; they're committed now, so the retry skips them
+            log.debug("Retrying mark all read for user {} after a concurrent insert", user.getId(), e);
+            return markAllRead(user.getId());
+        }
+    }
+
+    /**
+     * Marks all of a user's unread notifications as read in one transaction
+     *
+     * @param userID The user's ID
+     * @return The number of notifications marked as read
+     */
+    private int markAllRead(UUID userID) {
+        Integer marked = transactionTemplate.execute(status -> {
+            // Subtract what was marked rather than zeroing the counter, so notifications written since still count
+            int inserted = notificationRepo.markAllRead(userID);
+            if (inserted > 0) {
+                notificationCounterRepo.decrementUnread(userID, inserted);
+            }
+
+            return inserted;
+        });
+
+        return marked == null ? 0 : marked;
+    }
+
+    // No DB access, so don't take a connection for a request that stays open
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter openStream() throws UserNotFoundException {
+        return notificationStreamRegistry.connect(getCurrentUser().getId());
+    }
+
+    /**
+     * Get the current user from the security context
+     *
+     * @return The current user
+     * @throws UserNotFoundException The user was not logged in
+     */
+    private @NotNull User getCurrentUser() throws UserNotFoundException {
+        User user = SecurityUtil.getCurrentUserDetails();
+        if (user == null) {
+            throw new UserNotFoundException();
+        }
+
+        return user;
+    }
+
+    /**
+     * Converts a slice of notifications to a cursor page, pointing the next cursor at the slice's last notification
+     *
+     * @param notificationSlice The slice of notifications
+     * @return The cursor page of notifications
+     */
+    private @NotNull CursorPageDTO<NotificationDTO> toCursorPage(@NotNull Slice<NotificationDTO> notificationSlice) {
+        List<NotificationDTO> notifications = notificationSlice.getContent();
+
+        String nextCursor = null;
+        if (notificationSlice.hasNext() && !notifications.isEmpty()) {
+            NotificationDTO last = notifications.get(notifications.size() - 1);
+            nextCursor = new KeysetCursor(last.getGenerated(), last.getId()).encode();
+        }
+
+        return CursorPageDTO.<NotificationDTO>builder()
+                .content(notifications)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
@@ -1,38 +1,120 @@
 package com.bahubba.bahubbabookclub.service.impl;
 
+import com.bahubba.bahubbabookclub.cache.PreSignedURLCache;
 import com.bahubba.bahubbabookclub.service.S3Service;
 import com.bahubba.bahubbabookclub.util.APIConstants;
+import jakarta.annotation.PreDestroy;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
 @Service
-@Transactional
-@RequiredArgsConstructor
 public class S3ServiceImpl implements S3Service {
 
     private final S3Client s3Client;
     private final S3Presigner s3PreSigner;
+    private final PreSignedURLCache preSignedURLCache;
+    private final ForkJoinPool preSignPool;
 
     @Value("${aws.s3.bucket}")
     private String bucket;
 
+    public S3ServiceImpl(
+            S3Client s3Client,
+            S3Presigner s3PreSigner,
+            PreSignedURLCache preSignedURLCache,
+            @Value("${app.properties.presign_parallelism}") int preSignParallelism) {
+        this.s3Client = s3Client;
+        this.s3PreSigner = s3PreSigner;
+        this.preSignedURLCache = preSignedURLCache;
+
+        // Signing is CPU-bound, so the pool is kept small. Kept out of the context, where an Executor bean would stand
+        // in for the auto-configured task executor
+        preSignPool = new ForkJoinPool(preSignParallelism);
+    }
+
     @Override
     public List<S3Object> listS3ObjectsAtPrefix(String prefix) {
-        return s3Client.listObjectsV2(builder -> builder.bucket(bucket).prefix(prefix))
-                .contents();
+        List<S3Object> s3Objects = new ArrayList<>();
+
+        // S3 returns at most 1000 keys per call, so follow the continuation tokens through every page
+        String continuationToken = null;
+        ListObjectsV2Response response;
+        do {
+            final String pageToken = continuationToken;
+            response = s3Client.listObjectsV2(
+                    builder -> builder.bucket(bucket).prefix(prefix).continuationToken(pageToken));
+            s3Objects.addAll(response.contents());
+            continuationToken = response.nextContinuationToken();
+        } while (Boolean.TRUE.equals(response.isTruncated()) && continuationToken != null);
+
+        return s3Objects;
     }
 
     @Override
     public String getPreSignedURL(String key) {
+        return preSignedURLCache.get(key, this::preSign);
+    }
+
+    @Override
+    public Map<String, String> getPreSignedURLs(Collection<String> keys) {
+        return preSignedURLCache.getAll(keys, this::preSignAll);
+    }
+
+    /**
+     * Signs GET URLs for several S3 objects on the presigning pool, so a cold page of images costs about as much as its
+     * slowest signature rather than all of them in turn
+     *
+     * @param keys The distinct S3 object keys
+     * @return The presigned URLs by key
+     */
+    private Map<String, String> preSignAll(Set<? extends String> keys) {
+        // A single signature isn't worth handing off
+        if (keys.size() == 1) {
+            String key = keys.iterator().next();
+            return Map.of(key, preSign(key));
+        }
+
+        List<CompletableFuture<Map.Entry<String, String>>> signatures = keys.stream()
+                .map(key -> CompletableFuture.supplyAsync(() -> Map.entry(key, preSign(key)), preSignPool))
+                .toList();
+        try {
+            return signatures.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /** Stops the presigning pool on shutdown */
+    @PreDestroy
+    public void shutdown() {
+        preSignPool.shutdown();
+    }
+
+    /**
+     * Signs a GET URL for an S3 object
+     *
+     * @param key The S3 object key
+     * @return The presigned URL
+     */
+    private String preSign(String key) {
         GetObjectPresignRequest preSignRequest = GetObjectPresignRequest.builder()
                 .signatureDuration(Duration.between(
                         Instant.now(),
@@ -0,0 +1,77 @@
+package com.bahubba.bahubbabookclub.service.impl;
+
+import com.bahubba.bahubbabookclub.model.dto.S3ImageDTO;
+import com.bahubba.bahubbabookclub.service.S3Service;
+import com.bahubba.bahubbabookclub.service.StockImageService;
+import com.bahubba.bahubbabookclub.util.APIConstants;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+/** Stock book club image catalog, loaded from S3 once and refreshed in the background */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class StockImageServiceImpl implements StockImageService {
+
+    private final S3Service s3Service;
+
+    // S3 keys of the stock images; null until the first load
+    private volatile List<String> stockImageKeys;
+
+    @Override
+    public List<S3ImageDTO> getStockImages() {
+        List<String> keys = stockImageKeys;
+        if (keys == null) {
+            keys = loadOnce();
+        }
+
+        // URLs are signed per request (from the pre-signed URL cache) since they expire long before the catalog does
+        Map<String, String> urls = s3Service.getPreSignedURLs(keys);
+        return keys.stream()
+                .map(key -> S3ImageDTO.builder()
+                        .fileName(key.substring(key.lastIndexOf("/") + 1))
+                        .url(urls.get(key))
+                        .build())
+                .toList();
+    }
+
+    @Override
+    @Scheduled(
+            fixedDelayString = "${app.properties.stock_image_refresh_ms}",
+            initialDelayString = "${app.properties.stock_image_refresh_ms}")
+    public void refresh() {
+        try {
+            stockImageKeys = s3Service.listS3ObjectsAtPrefix(APIConstants.BOOK_CLUB_STOCK_IMAGE_PREFIX).stream()
+                    .filter(s3Object -> s3Object.size() != null && s3Object.size() > 0)
+                    .map(S3Object::key)
+                    .toList();
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh stock book club images, keeping the current catalog", e);
+
+            // If the first load failed, serve an empty catalog until the next scheduled refresh rather than having
+            // every request retry S3
+            if (stockImageKeys == null) {
+                stockImageKeys = Collections.emptyList();
+            }
+        }
+    }
+
+    /**
+     * Loads the catalog on first use, letting only one request hit S3
+     *
+     * @return The stock image keys, or an empty list if the first load failed
+     */
+    private synchronized List<String> loadOnce() {
+        if (stockImageKeys == null) {
+            refresh();
+        }
+
+        return stockImageKeys;
+    }
+}
@@ -6,10 +6,12 @@ import com.bahubba.bahubbabookclub.model.entity.User;
 import com.bahubba.bahubbabookclub.model.mapper.UserMapper;
 import com.bahubba.bahubbabookclub.repository.UserRepo;
 import com.bahubba.bahubbabookclub.service.UserService;
+import com.bahubba.bahubbabookclub.util.TransactionUtil;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,14 +22,17 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepo userRepo;
     private final UserMapper userMapper;
+    private final UserCache userCache;
 
     @Override
+    @Transactional(readOnly = true)
     public UserDTO findByID(UUID id) throws UserNotFoundException {
         return userMapper.entityToDTO(userRepo.findById(id).orElseThrow(() -> new UserNotFoundException(id)));
     }
 
     // TODO - Convert to pagination
     @Override
+    @Transactional(readOnly = true)
     public List<UserDTO> findAll() {
         return userMapper.entityListToDTO(userRepo.findAll());
     }
@@ -37,6 +42,14 @@ public class UserServiceImpl implements UserService {
     public UserDTO removeUser(UUID id) throws UserNotFoundException {
         User user = userRepo.findById(id).orElseThrow(() -> new UserNotFoundException(id));
         user.setDeparted(LocalDateTime.now());
-        return userMapper.entityToDTO(userRepo.save(user));
+        User savedUser = userRepo.save(user);
+
+        // Departed users must stop authenticating right away rather than when their cached details expire. Evict again
+        // once the departure commits, in case a concurrent request reloaded the user in the meantime
+        String username = user.getUsername();
+        userCache.removeUserFromCache(username);
+        TransactionUtil.afterCommit(() -> userCache.removeUserFromCache(username));
+
+        return userMapper.entityToDTO(savedUser);
     }
 }
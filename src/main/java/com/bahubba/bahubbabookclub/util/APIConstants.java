@@ -4,6 +4,8 @@ package com.bahubba.bahubbabookclub.util;
 public interface APIConstants {
     /* BOOK CLUB CONSTANTS */
     String[] RESERVED_NAMES = {"create", "default"};
+    // Trigram indexes can't narrow down terms shorter than a trigram, so shorter searches would scan every club
+    int BOOK_CLUB_SEARCH_MIN_LENGTH = 3;
 
     /* ERROR MESSAGES */
     String USER_NOT_FOUND = "Not logged in or user not found";
@@ -11,4 +13,5 @@ public interface APIConstants {
     /* S3 CONSTANTS */
     String BOOK_CLUB_STOCK_IMAGE_PREFIX = "book-clubs/images/stock/";
     int BOOK_CLUB_IMAGE_URL_TIMEOUT_MINUTES = 10;
+    int BOOK_CLUB_IMAGE_URL_CACHE_MARGIN_MINUTES = 2;
 }
@@ -0,0 +1,61 @@
+package com.bahubba.bahubbabookclub.util;
+
+import com.bahubba.bahubbabookclub.exception.BadCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Position of the last row of a page for keyset pagination on (created DESC, id DESC), sent to clients as an opaque
+ * Base64url token. Also used for feeds ordered by another timestamp, such as notifications' generated time
+ */
+@Data
+@AllArgsConstructor
+public class KeysetCursor {
+    private static final String SEPARATOR = "|";
+
+    private LocalDateTime created;
+    private UUID id;
+
+    /**
+     * Encodes the cursor as an opaque token
+     *
+     * @return The Base64url-encoded cursor
+     */
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((created + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor sent by a client
+     *
+     * @param cursor The Base64url-encoded cursor
+     * @return The decoded cursor, or null if no cursor was sent (first page)
+     * @throws BadCursorException The cursor could not be decoded
+     */
+    public static KeysetCursor decode(String cursor) throws BadCursorException {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new BadCursorException(cursor);
+            }
+
+            return new KeysetCursor(
+                    LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                    UUID.fromString(decoded.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadCursorException(cursor);
+        }
+    }
+}
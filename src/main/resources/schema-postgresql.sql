@@ -0,0 +1,6 @@
+-- Runs after Hibernate has created the tables (spring.jpa.defer-datasource-initialization)
+
+-- Trigram index backing book club name search (BookClubRepo#searchByNameSimilarity). Built on LOWER(name) so the
+-- case-insensitive LIKE searches can use it too.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS book_club_name_trgm_idx ON book_club USING gin (LOWER(name) gin_trgm_ops);
@@ -0,0 +1,182 @@
+package com.bahubba.bahubbabookclub.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.bahubba.bahubbabookclub.model.dto.BookClubDTO;
+import com.bahubba.bahubbabookclub.model.dto.S3ImageDTO;
+import com.bahubba.bahubbabookclub.model.entity.BookClub;
+import com.bahubba.bahubbabookclub.model.enums.Publicity;
+import com.bahubba.bahubbabookclub.monitoring.ConnectionHoldTrackingDataSource;
+import com.bahubba.bahubbabookclub.repository.BookClubRepo;
+import com.bahubba.bahubbabookclub.service.BookClubService;
+import com.bahubba.bahubbabookclub.service.StockImageService;
+import com.bahubba.bahubbabookclub.util.APIConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+/**
+ * Tests that book club image URLs are presigned after the service's transaction, through the real S3 service and URL
+ * cache. Each signature is made slow and the presigning pool runs one at a time, so the connection hold time would grow
+ * with the page size if presigning ran while the connection was checked out
+ */
+@SpringBootTest(properties = "app.properties.presign_parallelism=1")
+@ActiveProfiles("test")
+class BookClubAspectTest {
+    private static final String HOLD_METHOD = "BookClubServiceImpl.findAll";
+    private static final String STOCK_IMAGES_HOLD_METHOD = "BookClubServiceImpl.getStockBookClubImages";
+    private static final long PRESIGN_DELAY_MS = 20;
+    private static final int SMALL_PAGE = 2;
+    private static final int LARGE_PAGE = 20;
+
+    @Autowired
+    BookClubService bookClubService;
+
+    @Autowired
+    StockImageService stockImageService;
+
+    @Autowired
+    BookClubRepo bookClubRepo;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @MockBean
+    S3Client s3Client;
+
+    @MockBean
+    S3Presigner s3PreSigner;
+
+    // Whether a transaction was active on the thread that called S3, for the calls made on the request thread
+    private final List<Boolean> s3CalledInTransaction = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // New image names each test, so no test is served from URLs another one cached
+        String imagePrefix = UUID.randomUUID().toString();
+        bookClubRepo.saveAll(IntStream.range(0, LARGE_PAGE)
+                .mapToObj(i -> BookClub.builder()
+                        .name("Book Club " + i)
+                        .imageFileName(imagePrefix + "-" + i + ".jpg")
+                        .publicity(Publicity.PUBLIC)
+                        .build())
+                .toList());
+
+        Thread testThread = Thread.currentThread();
+        when(s3PreSigner.presignGetObject(any(GetObjectPresignRequest.class))).thenAnswer(invocation -> {
+            if (Thread.currentThread() == testThread) {
+                s3CalledInTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+            }
+            Thread.sleep(PRESIGN_DELAY_MS);
+            return presignedRequest();
+        });
+        when(s3Client.listObjectsV2(any(Consumer.class))).thenAnswer(invocation -> {
+            s3CalledInTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return ListObjectsV2Response.builder()
+                    .contents(S3Object.builder()
+                            .key(APIConstants.BOOK_CLUB_STOCK_IMAGE_PREFIX + imagePrefix + ".jpg")
+                            .size(1L)
+                            .build())
+                    .isTruncated(false)
+                    .build();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookClubRepo.deleteAll();
+    }
+
+    @Test
+    void testPresign_AfterTransaction() {
+        // A single image is signed on the calling thread, where a transaction opened by the S3 service would show
+        Page<BookClubDTO> page = bookClubService.findAll(0, 1);
+
+        assertThat(page.getContent())
+                .allSatisfy(bookClub -> assertThat(bookClub.getImage().getUrl()).isNotNull());
+        assertThat(s3CalledInTransaction).containsExactly(false);
+    }
+
+    @Test
+    void testConnectionHold_IndependentOfPageSize() {
+        double small = holdMillis(SMALL_PAGE);
+        double large = holdMillis(LARGE_PAGE);
+
+        // Presigning the extra book clubs while the connection was held would add at least this much
+        assertThat(large - small).isLessThan(PRESIGN_DELAY_MS * (LARGE_PAGE - SMALL_PAGE) / 2.0);
+    }
+
+    @Test
+    void testStockImages_NoConnectionHeld() {
+        // Start from a catalog that hasn't been loaded, so the request lists S3 itself
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(stockImageService), "stockImageKeys", null);
+
+        List<S3ImageDTO> images = bookClubService.getStockBookClubImages();
+
+        assertThat(images).singleElement().satisfies(image -> assertThat(image.getUrl())
+                .isNotNull());
+        // The listing and the signature
+        assertThat(s3CalledInTransaction).containsExactly(false, false);
+        assertThat(holdTimer(STOCK_IMAGES_HOLD_METHOD).count()).isZero();
+    }
+
+    /**
+     * Gets a page of book clubs, recording how long its connection was held
+     *
+     * @param pageSize The number of book clubs on the page, each needing a presigned URL
+     * @return The connection hold time of the call, in milliseconds
+     */
+    private double holdMillis(int pageSize) {
+        double before = holdTimer(HOLD_METHOD).totalTime(TimeUnit.MILLISECONDS);
+        assertThat(bookClubService.findAll(0, pageSize).getContent()).hasSize(pageSize);
+        return holdTimer(HOLD_METHOD).totalTime(TimeUnit.MILLISECONDS) - before;
+    }
+
+    private Timer holdTimer(String method) {
+        return Timer.builder(ConnectionHoldTrackingDataSource.HOLD_TIMER)
+                .tag("method", method)
+                .register(meterRegistry);
+    }
+
+    private static PresignedGetObjectRequest presignedRequest() {
+        return PresignedGetObjectRequest.builder()
+                .httpRequest(SdkHttpRequest.builder()
+                        .method(SdkHttpMethod.GET)
+                        .host("localhost")
+                        .protocol("https")
+                        .build())
+                .signedHeaders(Map.of("someHeader", List.of("someVal")))
+                .isBrowserExecutable(false)
+                .expiration(Instant.now().plus(Duration.ofMinutes(10)))
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.bahubba.bahubbabookclub.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.bahubba.bahubbabookclub.exception.UserNotFoundException;
+import com.bahubba.bahubbabookclub.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/** Tests for the per service method timers */
+@SpringBootTest
+@ActiveProfiles("test")
+class ServiceMetricsAspectTest {
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void testServiceMethod_Timed() {
+        long before = count("findAll", "none");
+
+        userService.findAll();
+
+        assertThat(count("findAll", "none")).isEqualTo(before + 1);
+    }
+
+    @Test
+    void testServiceMethod_TimedWithException() {
+        long before = count("findByID", "UserNotFoundException");
+
+        assertThrows(UserNotFoundException.class, () -> userService.findByID(UUID.randomUUID()));
+
+        assertThat(count("findByID", "UserNotFoundException")).isEqualTo(before + 1);
+    }
+
+    private long count(String method, String exception) {
+        return meterRegistry
+                .timer(
+                        ServiceMetricsAspect.SERVICE_TIMER,
+                        "class",
+                        "UserServiceImpl",
+                        "method",
+                        method,
+                        "exception",
+                        exception)
+                .count();
+    }
+}
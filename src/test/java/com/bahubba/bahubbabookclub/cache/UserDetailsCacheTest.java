@@ -0,0 +1,71 @@
+package com.bahubba.bahubbabookclub.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bahubba.bahubbabookclub.model.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the UserDetailsCache */
+class UserDetailsCacheTest {
+
+    @Test
+    void testPutAndGetUser() {
+        UserDetailsCache cache = new UserDetailsCache(100, 60, new SimpleMeterRegistry());
+        User user = User.builder().username("user").build();
+
+        cache.putUserInCache(user);
+
+        assertThat(cache.getUserFromCache("user")).isEqualTo(user);
+        assertThat(cache.getUserFromCache("someoneelse")).isNull();
+    }
+
+    @Test
+    void testPutAndGetUser_DetachedCopies() {
+        UserDetailsCache cache = new UserDetailsCache(100, 60, new SimpleMeterRegistry());
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .username("user")
+                .email("user@test.com")
+                .password("password")
+                .memberships(Set.of())
+                .build();
+
+        cache.putUserInCache(user);
+        user.setDeparted(LocalDateTime.now());
+
+        User first = (User) cache.getUserFromCache("user");
+        User second = (User) cache.getUserFromCache("user");
+        assertThat(first).isNotSameAs(user).isNotSameAs(second);
+        assertThat(first.getId()).isEqualTo(user.getId());
+        assertThat(first.getEmail()).isEqualTo("user@test.com");
+        assertThat(first.getMemberships()).isNull();
+
+        // Changes to the loaded entity or a handed out copy don't reach the cache
+        assertThat(first.isAccountNonExpired()).isTrue();
+        first.setDeparted(LocalDateTime.now());
+        assertThat(second.isAccountNonExpired()).isTrue();
+    }
+
+    @Test
+    void testRemoveUserFromCache() {
+        UserDetailsCache cache = new UserDetailsCache(100, 60, new SimpleMeterRegistry());
+        cache.putUserInCache(User.builder().username("user").build());
+
+        cache.removeUserFromCache("user");
+        cache.removeUserFromCache(null);
+
+        assertThat(cache.getUserFromCache("user")).isNull();
+    }
+
+    @Test
+    void testGetUserFromCache_Expired() {
+        UserDetailsCache cache = new UserDetailsCache(100, 0, new SimpleMeterRegistry());
+        cache.putUserInCache(User.builder().username("user").build());
+
+        assertThat(cache.getUserFromCache("user")).isNull();
+    }
+}
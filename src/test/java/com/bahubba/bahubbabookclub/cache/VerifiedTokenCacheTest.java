@@ -0,0 +1,105 @@
+package com.bahubba.bahubbabookclub.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bahubba.bahubbabookclub.model.dto.VerifiedTokenDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the VerifiedTokenCache */
+class VerifiedTokenCacheTest {
+
+    private MeterRegistry meterRegistry;
+    private AtomicInteger verifications;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifications = new AtomicInteger();
+    }
+
+    @Test
+    void testGet_CachesVerifiedToken() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, meterRegistry);
+        Function<String, Optional<VerifiedTokenDTO>> verifier = verifierExpiringAt(Instant.now().plusSeconds(3600));
+
+        Optional<VerifiedTokenDTO> first = cache.get("token", verifier);
+        Optional<VerifiedTokenDTO> second = cache.get("token", verifier);
+
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(second.get().getUsername()).isEqualTo("someuser");
+        assertThat(verifications.get()).isEqualTo(1);
+        assertThat(meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", "verifiedTokens")
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void testGet_InvalidTokenNotCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, meterRegistry);
+        Function<String, Optional<VerifiedTokenDTO>> verifier = token -> {
+            verifications.incrementAndGet();
+            return Optional.empty();
+        };
+
+        assertThat(cache.get("token", verifier)).isEmpty();
+        assertThat(cache.get("token", verifier)).isEmpty();
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testGet_ExpiresWithToken() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, meterRegistry);
+        Function<String, Optional<VerifiedTokenDTO>> verifier = verifierExpiringAt(Instant.now().minusSeconds(1));
+
+        cache.get("token", verifier);
+        cache.get("token", verifier);
+
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testInvalidate() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, meterRegistry);
+        Function<String, Optional<VerifiedTokenDTO>> verifier = verifierExpiringAt(Instant.now().plusSeconds(3600));
+
+        cache.get("token", verifier);
+        cache.invalidate("token");
+        cache.get("token", verifier);
+
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testGet_Disabled() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(0, meterRegistry);
+        Function<String, Optional<VerifiedTokenDTO>> verifier = verifierExpiringAt(Instant.now().plusSeconds(3600));
+
+        cache.get("token", verifier);
+        cache.get("token", verifier);
+        cache.invalidate("token");
+
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+
+    private Function<String, Optional<VerifiedTokenDTO>> verifierExpiringAt(Instant expiration) {
+        return token -> {
+            verifications.incrementAndGet();
+            return Optional.of(VerifiedTokenDTO.builder()
+                    .username("someuser")
+                    .expiration(expiration)
+                    .build());
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package com.bahubba.bahubbabookclub.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bahubba.bahubbabookclub.model.entity.User;
+import com.bahubba.bahubbabookclub.util.SecurityUtil;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+/** Tests for the AsyncConfig task decorator, alone and on the application's task executor */
+@SpringBootTest
+@ActiveProfiles("test")
+class AsyncConfigTest {
+
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    Executor applicationTaskExecutor;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testSecurityContextTaskDecorator_PropagatesCurrentUser() throws Exception {
+        User user = User.builder().username("someuser").build();
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        TaskDecorator taskDecorator = new AsyncConfig().securityContextTaskDecorator();
+
+        CompletableFuture<User> taskUser = new CompletableFuture<>();
+        executor.execute(taskDecorator.decorate(() -> taskUser.complete(SecurityUtil.getCurrentUserDetails())));
+
+        assertThat(taskUser.get()).isSameAs(user);
+    }
+
+    @Test
+    void testSecurityContextTaskDecorator_ClearsContextAfterTask() throws Exception {
+        User user = User.builder().username("someuser").build();
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        TaskDecorator taskDecorator = new AsyncConfig().securityContextTaskDecorator();
+
+        executor.execute(taskDecorator.decorate(() -> {}));
+        CompletableFuture<User> laterUser = new CompletableFuture<>();
+        executor.execute(() -> laterUser.complete(SecurityUtil.getCurrentUserDetails()));
+
+        assertThat(laterUser.get()).isNull();
+    }
+
+    @Test
+    void testApplicationTaskExecutor_Decorated() throws Exception {
+        // Missing, or left undecorated, if another Executor bean takes the auto-configured executor's place
+        User user = User.builder().username("someuser").build();
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        CompletableFuture<User> taskUser = new CompletableFuture<>();
+        applicationTaskExecutor.execute(() -> taskUser.complete(SecurityUtil.getCurrentUserDetails()));
+
+        assertThat(taskUser.get()).isSameAs(user);
+    }
+}
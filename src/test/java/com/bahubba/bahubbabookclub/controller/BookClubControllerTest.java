@@ -5,9 +5,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.bahubba.bahubbabookclub.model.dto.BookClubDTO;
+import com.bahubba.bahubbabookclub.model.dto.CursorPageDTO;
 import com.bahubba.bahubbabookclub.model.dto.S3ImageDTO;
+import com.bahubba.bahubbabookclub.model.payload.BookClubCursorSearch;
 import com.bahubba.bahubbabookclub.model.payload.BookClubPayload;
 import com.bahubba.bahubbabookclub.model.payload.BookClubSearch;
+import com.bahubba.bahubbabookclub.pagination.PaginationPolicy;
 import com.bahubba.bahubbabookclub.service.BookClubService;
 import java.util.ArrayList;
 import java.util.List;
@@ -86,6 +89,15 @@ class BookClubControllerTest {
         assertThat(rsp.getBody()).isNotNull();
     }
 
+    @Test
+    void testGetAll_PageSizeWarning() {
+        when(bookClubService.findAll(anyInt(), anyInt())).thenReturn(Page.empty());
+        ResponseEntity<Page<BookClubDTO>> rsp = bookClubController.getAll(1, 51);
+        verify(bookClubService, times(1)).findAll(anyInt(), anyInt());
+        assertThat(rsp.getHeaders().getFirst(PaginationPolicy.WARNING_HEADER)).isNotNull();
+        assertThat(rsp.getBody()).isNotNull();
+    }
+
     @Test
     void testDisbandBookClub() {
         when(bookClubService.disbandBookClubByID(any(UUID.class))).thenReturn(new BookClubDTO());
@@ -104,6 +116,50 @@ class BookClubControllerTest {
         assertThat(rsp.getBody()).isNotNull();
     }
 
+    @Test
+    void testGetAllByCursor() {
+        when(bookClubService.findAllByCursor(any(), anyInt()))
+                .thenReturn(CursorPageDTO.<BookClubDTO>builder().content(List.of()).build());
+        ResponseEntity<CursorPageDTO<BookClubDTO>> rsp = bookClubController.getAllByCursor(null, 1);
+        verify(bookClubService, times(1)).findAllByCursor(any(), anyInt());
+        assertThat(rsp).isNotNull();
+        assertThat(rsp.getBody()).isNotNull();
+    }
+
+    @Test
+    void testGetAllForUserByCursor() {
+        when(bookClubService.findAllForUserByCursor(any(), anyInt()))
+                .thenReturn(CursorPageDTO.<BookClubDTO>builder().content(List.of()).build());
+        ResponseEntity<CursorPageDTO<BookClubDTO>> rsp = bookClubController.getAllForUserByCursor("foo", 1);
+        verify(bookClubService, times(1)).findAllForUserByCursor(any(), anyInt());
+        assertThat(rsp).isNotNull();
+        assertThat(rsp.getBody()).isNotNull();
+    }
+
+    @Test
+    void testSearchByCursor() {
+        when(bookClubService.searchByCursor(anyString(), any(), anyInt()))
+                .thenReturn(CursorPageDTO.<BookClubDTO>builder().content(List.of()).build());
+        ResponseEntity<CursorPageDTO<BookClubDTO>> rsp = bookClubController.searchByCursor(
+                BookClubCursorSearch.builder().searchTerm("foo").pageSize(1).build());
+        verify(bookClubService, times(1)).searchByCursor(anyString(), any(), anyInt());
+        assertThat(rsp).isNotNull();
+        assertThat(rsp.getBody()).isNotNull();
+    }
+
+    @Test
+    void testFullTextSearch() {
+        when(bookClubService.fullTextSearch(anyString(), anyInt(), anyInt())).thenReturn(Page.empty());
+        ResponseEntity<Page<BookClubDTO>> rsp = bookClubController.fullTextSearch(BookClubSearch.builder()
+                .searchTerm("foo")
+                .pageNum(1)
+                .pageSize(1)
+                .build());
+        verify(bookClubService, times(1)).fullTextSearch(anyString(), anyInt(), anyInt());
+        assertThat(rsp).isNotNull();
+        assertThat(rsp.getBody()).isNotNull();
+    }
+
     @Test
     void testSearch() {
         when(bookClubService.search(anyString(), anyInt(), anyInt())).thenReturn(Page.empty());
@@ -0,0 +1,76 @@
+package com.bahubba.bahubbabookclub.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.bahubba.bahubbabookclub.model.dto.CursorPageDTO;
+import com.bahubba.bahubbabookclub.model.dto.NotificationDTO;
+import com.bahubba.bahubbabookclub.pagination.PaginationPolicy;
+import com.bahubba.bahubbabookclub.service.NotificationService;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/** Unit tests for {@link NotificationController} endpoints */
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificationControllerTest {
+    @Autowired
+    NotificationController notificationController;
+
+    @MockBean
+    NotificationService notificationService;
+
+    @Test
+    void testGetFeed() {
+        when(notificationService.getFeed(isNull(), anyInt()))
+                .thenReturn(CursorPageDTO.<NotificationDTO>builder()
+                        .content(List.of(new NotificationDTO()))
+                        .build());
+
+        ResponseEntity<CursorPageDTO<NotificationDTO>> rsp = notificationController.getFeed(null, 10);
+
+        verify(notificationService, times(1)).getFeed(null, 10);
+        assertThat(rsp.getBody()).isNotNull();
+        assertThat(rsp.getHeaders().containsKey(PaginationPolicy.WARNING_HEADER)).isFalse();
+    }
+
+    @Test
+    void testGetFeed_PageSizeClamped() {
+        ResponseEntity<CursorPageDTO<NotificationDTO>> rsp = notificationController.getFeed(null, 1000);
+
+        assertThat(rsp.getHeaders().containsKey(PaginationPolicy.WARNING_HEADER)).isTrue();
+    }
+
+    @Test
+    void testGetUnreadCount() {
+        when(notificationService.getUnreadCount()).thenReturn(5L);
+
+        ResponseEntity<Long> rsp = notificationController.getUnreadCount();
+
+        assertThat(rsp.getBody()).isEqualTo(5L);
+    }
+
+    @Test
+    void testMarkAllRead() {
+        when(notificationService.markAllRead()).thenReturn(2);
+
+        ResponseEntity<Integer> rsp = notificationController.markAllRead();
+
+        verify(notificationService, times(1)).markAllRead();
+        assertThat(rsp.getBody()).isEqualTo(2);
+    }
+
+    @Test
+    void testStream() {
+        SseEmitter emitter = new SseEmitter();
+        when(notificationService.openStream()).thenReturn(emitter);
+
+        assertThat(notificationController.stream()).isSameAs(emitter);
+    }
+}
@@ -0,0 +1,70 @@
+package com.bahubba.bahubbabookclub.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bahubba.bahubbabookclub.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Connection;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/** Tests for the connection pool's gauges and the per service method connection hold timer */
+@SpringBootTest
+@ActiveProfiles("test")
+class ConnectionPoolMetricsTest {
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void testServiceMethod_HoldTimedPerMethod() {
+        double before = holdCount("UserServiceImpl.findAll");
+
+        userService.findAll();
+
+        assertThat(holdCount("UserServiceImpl.findAll")).isEqualTo(before + 1);
+    }
+
+    @Test
+    void testConnectionOutsideService_HoldTimedUntilFirstClose() throws Exception {
+        double before = holdCount("none");
+
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        assertThat(holdCount("none")).isEqualTo(before + 1);
+    }
+
+    @Test
+    void testPoolGauges_Registered() throws Exception {
+        // The pool starts, and its meters are bound, on the first borrow
+        dataSource.getConnection().close();
+
+        assertThat(meterRegistry.get("hikaricp.connections.active").gauge()).isNotNull();
+        assertThat(meterRegistry.get("hikaricp.connections.idle").gauge()).isNotNull();
+        assertThat(meterRegistry.get("hikaricp.connections.pending").gauge()).isNotNull();
+        assertThat(meterRegistry.get("hikaricp.connections.acquire").timer().count())
+                .isGreaterThan(0);
+    }
+
+    private double holdCount(String method) {
+        return meterRegistry
+                .find(ConnectionHoldTrackingDataSource.HOLD_TIMER)
+                .tag("method", method)
+                .timers()
+                .stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+}
@@ -0,0 +1,65 @@
+package com.bahubba.bahubbabookclub.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bahubba.bahubbabookclub.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Tests for the actuator endpoints on the management port. The Prometheus scrape and health check are open, and the
+ * scrape carries the service, JPA and cache metrics
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"server.ssl.enabled=false", "management.server.port=0"})
+@ActiveProfiles("test")
+class ManagementEndpointsTest {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    UserService userService;
+
+    @LocalManagementPort
+    int managementPort;
+
+    @Test
+    void testPrometheus_OpenWithServiceJpaAndCacheMetrics() {
+        userService.findAll();
+
+        ResponseEntity<String> response = restTemplate.getForEntity(managementUrl("/prometheus"), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody())
+                .contains("service_method_seconds_count{")
+                .contains("hibernate_statements_total{")
+                .contains("cache_hit_ratio{")
+                .contains("hikaricp_connections_pending{");
+    }
+
+    @Test
+    void testHealth_Open() {
+        ResponseEntity<String> response = restTemplate.getForEntity(managementUrl("/health"), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void testMetrics_RequiresAdmin() {
+        ResponseEntity<String> response = restTemplate.getForEntity(managementUrl("/metrics"), String.class);
+
+        assertThat(response.getStatusCode().is4xxClientError()).isTrue();
+    }
+
+    private String managementUrl(String path) {
+        return "http://localhost:" + managementPort + "/actuator" + path;
+    }
+}
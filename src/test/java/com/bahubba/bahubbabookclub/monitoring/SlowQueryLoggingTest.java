@@ -0,0 +1,66 @@
+package com.bahubba.bahubbabookclub.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bahubba.bahubbabookclub.model.entity.User;
+import com.bahubba.bahubbabookclub.repository.UserRepo;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Tests for statement inspection. With a zero threshold every statement counts as slow, so each is logged with the
+ * repository method that issued it and its bind parameters
+ */
+@SpringBootTest(properties = "app.properties.slow_query_threshold_ms=0")
+@ActiveProfiles("test")
+@ExtendWith(OutputCaptureExtension.class)
+class SlowQueryLoggingTest {
+
+    @Autowired
+    UserRepo userRepo;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        userRepo.deleteAll();
+    }
+
+    @Test
+    void testSlowQuery_LoggedWithRepositoryMethodAndParameters(CapturedOutput output) {
+        userRepo.save(User.builder()
+                .username("slowuser")
+                .email("slowuser@test.com")
+                .password("password")
+                .build());
+
+        assertThat(userRepo.findByUsernameAndDepartedIsNull("slowuser")).isPresent();
+
+        assertThat(output)
+                .contains("Slow query")
+                .contains("repositoryMethod=UserRepo.findByUsernameAndDepartedIsNull")
+                .contains("(slowuser)");
+        assertThat(RepositoryMethodTracker.currentMethod()).isNull();
+    }
+
+    @Test
+    void testRepositoryInvocations_TimedPerMethod() {
+        userRepo.findByUsernameAndDepartedIsNull("nobody");
+
+        assertThat(meterRegistry
+                        .get("spring.data.repository.invocations")
+                        .tag("repository", "UserRepo")
+                        .tag("method", "findByUsernameAndDepartedIsNull")
+                        .timer()
+                        .count())
+                .isGreaterThan(0);
+    }
+}
@@ -0,0 +1,303 @@
+package com.bahubba.bahubbabookclub.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.bahubba.bahubbabookclub.model.dto.NotificationDTO;
+import com.bahubba.bahubbabookclub.model.entity.Notification;
+import com.bahubba.bahubbabookclub.model.entity.NotificationOutbox;
+import com.bahubba.bahubbabookclub.model.enums.NotificationType;
+import com.bahubba.bahubbabookclub.repository.BookClubRepo;
+import com.bahubba.bahubbabookclub.repository.NotificationCounterRepo;
+import com.bahubba.bahubbabookclub.repository.NotificationOutboxRepo;
+import com.bahubba.bahubbabookclub.repository.NotificationRepo;
+import com.bahubba.bahubbabookclub.repository.UserRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+/** Unit tests for the {@link NotificationDispatcher} queueing, batching and outbox relay */
+class NotificationDispatcherTest {
+    private static final int BATCH_SIZE = 10;
+
+    private NotificationProperties properties;
+    private NotificationRepo notificationRepo;
+    private NotificationOutboxRepo notificationOutboxRepo;
+    private NotificationCounterRepo notificationCounterRepo;
+    private NotificationStreamRegistry notificationStreamRegistry;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationDispatcher notificationDispatcher;
+
+    // Sizes of the batches passed to saveAll, written from the writer thread
+    private List<Integer> batchSizes;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NotificationProperties();
+        properties.setBatchSize(BATCH_SIZE);
+        notificationRepo = mock(NotificationRepo.class);
+        notificationOutboxRepo = mock(NotificationOutboxRepo.class);
+        notificationCounterRepo = mock(NotificationCounterRepo.class);
+        notificationStreamRegistry = mock(NotificationStreamRegistry.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        batchSizes = new CopyOnWriteArrayList<>();
+        when(notificationRepo.saveAll(any())).thenAnswer(invocation -> {
+            List<Notification> notifications = invocation.getArgument(0);
+            batchSizes.add(notifications.size());
+            return notifications;
+        });
+    }
+
+    @Test
+    void testDispatch_DrainedInBatchesOnStop() {
+        notificationDispatcher = newDispatcher();
+        notificationDispatcher.start();
+
+        for (int i = 0; i < 95; i++) {
+            notificationDispatcher.dispatch(newEvent());
+        }
+        notificationDispatcher.stop();
+
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(95);
+        assertThat(batchSizes).allMatch(size -> size <= BATCH_SIZE);
+        assertThat(notificationDispatcher.getQueueDepth()).isZero();
+        assertThat(meterRegistry.get("notifications.flush").tag("source", "queue").timer().count())
+                .isEqualTo(batchSizes.size());
+        verify(notificationStreamRegistry, times(95)).publish(any(UUID.class), any(NotificationDTO.class));
+    }
+
+    @Test
+    void testDispatch_StoppedOverflowsToOutbox() {
+        notificationDispatcher = newDispatcher();
+
+        notificationDispatcher.dispatch(newEvent());
+
+        verify(notificationOutboxRepo, times(1)).save(any(NotificationOutbox.class));
+        assertThat(batchSizes).isEmpty();
+        assertThat(meterRegistry.get("notifications.overflow").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testDispatch_FullQueueOverflowsToOutbox() throws InterruptedException {
+        properties.setQueueCapacity(1);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(notificationRepo.saveAll(any())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            List<Notification> notifications = invocation.getArgument(0);
+            batchSizes.add(notifications.size());
+            return notifications;
+        });
+        notificationDispatcher = newDispatcher();
+        notificationDispatcher.start();
+
+        // The writer takes the first notification and stalls, the second fills the queue, the third has no room
+        notificationDispatcher.dispatch(newEvent());
+        assertThat(writing.await(1, TimeUnit.SECONDS)).isTrue();
+        notificationDispatcher.dispatch(newEvent());
+        notificationDispatcher.dispatch(newEvent());
+        release.countDown();
+        notificationDispatcher.stop();
+
+        verify(notificationOutboxRepo, times(1)).save(any(NotificationOutbox.class));
+        assertThat(meterRegistry.get("notifications.overflow").counter().count())
+                .isEqualTo(1);
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(2);
+    }
+
+    @Test
+    void testDispatch_RollbackReleasesRoom() {
+        properties.setQueueCapacity(1);
+        notificationDispatcher = newDispatcher();
+        notificationDispatcher.start();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            notificationDispatcher.dispatch(newEvent());
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        notificationDispatcher.dispatch(newEvent());
+        notificationDispatcher.stop();
+
+        // The rolled back notification isn't written, and its room goes to the next one
+        assertThat(batchSizes).containsExactly(1);
+        assertThat(meterRegistry.get("notifications.overflow").counter().count())
+                .isZero();
+    }
+
+    @Test
+    void testDispatch_WriteFailureCounted() {
+        doThrow(new RuntimeException("DB down")).when(notificationRepo).saveAll(any());
+        notificationDispatcher = newDispatcher();
+        notificationDispatcher.start();
+
+        notificationDispatcher.dispatch(newEvent());
+        notificationDispatcher.stop();
+
+        assertThat(meterRegistry.get("notifications.failed").counter().count()).isEqualTo(1);
+        verifyNoInteractions(notificationStreamRegistry);
+    }
+
+    @Test
+    void testDispatch_Outbox() {
+        properties.setOutboxEnabled(true);
+        notificationDispatcher = newDispatcher();
+
+        notificationDispatcher.dispatch(newEvent());
+
+        verify(notificationOutboxRepo, times(1)).save(any(NotificationOutbox.class));
+        verify(notificationRepo, never()).saveAll(any());
+    }
+
+    @Test
+    void testRelayOutbox() {
+        properties.setOutboxEnabled(true);
+        List<NotificationOutbox> pending = List.of(newOutbox(), newOutbox(), newOutbox());
+        when(notificationOutboxRepo.findAllByOrderByGenerated(any(Pageable.class)))
+                .thenReturn(pending);
+        notificationDispatcher = newDispatcher();
+
+        notificationDispatcher.relayOutbox();
+
+        assertThat(batchSizes).containsExactly(3);
+        verify(notificationOutboxRepo, times(1)).deleteAllInBatch(pending);
+    }
+
+    @Test
+    void testRelayOutbox_BadRowDropped() {
+        properties.setOutboxEnabled(true);
+        NotificationOutbox bad = NotificationOutbox.builder()
+                .id(UUID.randomUUID())
+                .sourceUserID(UUID.randomUUID())
+                .targetUserID(UUID.randomUUID())
+                .type(NotificationType.NEW_USER)
+                .actionLink("bad")
+                .generated(LocalDateTime.now())
+                .build();
+        when(notificationOutboxRepo.findAllByOrderByGenerated(any(Pageable.class)))
+                .thenReturn(List.of(newOutbox(), bad, newOutbox()));
+        when(notificationOutboxRepo.deleteOutboxById(any(UUID.class))).thenReturn(1);
+        when(notificationRepo.saveAll(any())).thenAnswer(invocation -> {
+            List<Notification> notifications = invocation.getArgument(0);
+            if (notifications.stream().anyMatch(notification -> "bad".equals(notification.getActionLink()))) {
+                throw new RuntimeException("Constraint violated");
+            }
+            batchSizes.add(notifications.size());
+            return notifications;
+        });
+        notificationDispatcher = newDispatcher();
+
+        notificationDispatcher.relayOutbox();
+
+        // The good rows are relayed on their own, and the bad one is counted and deleted
+        assertThat(batchSizes).containsExactly(1, 1);
+        verify(notificationOutboxRepo, times(2)).deleteOutboxById(bad.getId());
+        assertThat(meterRegistry.get("notifications.failed").counter().count()).isEqualTo(1);
+        verify(notificationStreamRegistry, times(2)).publish(any(UUID.class), any(NotificationDTO.class));
+    }
+
+    @Test
+    void testDispatch_UnreadCountsIncremented() {
+        UUID userID = UUID.randomUUID();
+        when(notificationCounterRepo.incrementUnread(userID, 1)).thenReturn(0, 1);
+        notificationDispatcher = newDispatcher();
+
+        notificationDispatcher.start();
+
+        NotificationEvent event = newEvent();
+        event.setTargetUserID(userID);
+        notificationDispatcher.dispatch(event);
+        // Written before the next one is dispatched, so the two aren't counted in one batch
+        verify(notificationRepo, timeout(1000)).saveAll(any());
+        notificationDispatcher.dispatch(event);
+        notificationDispatcher.stop();
+
+        // The first notification creates the counter and increments it, later ones just increment it
+        verify(notificationCounterRepo, times(3)).incrementUnread(userID, 1);
+        verify(notificationCounterRepo, times(1)).createCounter(userID);
+    }
+
+    @Test
+    void testDispatch_CounterCreatedConcurrently() {
+        UUID userID = UUID.randomUUID();
+        when(notificationCounterRepo.incrementUnread(userID, 1)).thenReturn(0, 1);
+        when(notificationCounterRepo.createCounter(userID))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        notificationDispatcher = newDispatcher();
+
+        notificationDispatcher.start();
+
+        NotificationEvent event = newEvent();
+        event.setTargetUserID(userID);
+        notificationDispatcher.dispatch(event);
+        notificationDispatcher.stop();
+
+        // Another writer created the counter first, so the batch still lands and increments it
+        verify(notificationCounterRepo, times(2)).incrementUnread(userID, 1);
+        assertThat(batchSizes).containsExactly(1);
+        assertThat(meterRegistry.get("notifications.failed").counter().count()).isZero();
+        verify(notificationStreamRegistry, times(1)).publish(any(UUID.class), any(NotificationDTO.class));
+    }
+
+    @Test
+    void testRelayOutbox_Disabled() {
+        notificationDispatcher = newDispatcher();
+
+        // The first run relays anything that overflowed before a restart, then runs are skipped until another overflow
+        notificationDispatcher.relayOutbox();
+        notificationDispatcher.relayOutbox();
+
+        verify(notificationOutboxRepo, times(1)).findAllByOrderByGenerated(any(Pageable.class));
+    }
+
+    private NotificationDispatcher newDispatcher() {
+        return new NotificationDispatcher(
+                properties,
+                notificationRepo,
+                notificationOutboxRepo,
+                notificationCounterRepo,
+                mock(UserRepo.class),
+                mock(BookClubRepo.class),
+                notificationStreamRegistry,
+                mock(PlatformTransactionManager.class),
+                meterRegistry);
+    }
+
+    private NotificationEvent newEvent() {
+        return NotificationEvent.builder()
+                .sourceUserID(UUID.randomUUID())
+                .targetUserID(UUID.randomUUID())
+                .type(NotificationType.NEW_USER)
+                .build();
+    }
+
+    private NotificationOutbox newOutbox() {
+        return NotificationOutbox.builder()
+                .id(UUID.randomUUID())
+                .sourceUserID(UUID.randomUUID())
+                .targetUserID(UUID.randomUUID())
+                .type(NotificationType.NEW_USER)
+                .generated(LocalDateTime.now())
+                .build();
+    }
+}
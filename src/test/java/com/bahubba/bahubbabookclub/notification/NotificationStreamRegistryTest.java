@@ -0,0 +1,145 @@
+package com.bahubba.bahubbabookclub.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bahubba.bahubbabookclub.controller.NotificationController;
+import com.bahubba.bahubbabookclub.model.dto.NotificationDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitterReturnValueHandler;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/** Unit tests for the {@link NotificationStreamRegistry} connection tracking and the events it writes */
+class NotificationStreamRegistryTest {
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationStreamRegistry notificationStreamRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        notificationStreamRegistry = new NotificationStreamRegistry(new NotificationProperties(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationStreamRegistry.shutdown();
+    }
+
+    @Test
+    void testConnect() {
+        UUID userID = UUID.randomUUID();
+
+        notificationStreamRegistry.connect(userID);
+        notificationStreamRegistry.connect(userID);
+
+        assertThat(notificationStreamRegistry.getConnectionCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("notifications.stream.connections").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void testPublish_CompletedStreamRemoved() throws InterruptedException {
+        UUID userID = UUID.randomUUID();
+        SseEmitter emitter = notificationStreamRegistry.connect(userID);
+        notificationStreamRegistry.connect(UUID.randomUUID());
+        emitter.complete();
+
+        // Writing to the completed stream fails, which drops it; the other user's stream is untouched
+        notificationStreamRegistry.publish(userID, newNotification());
+        awaitConnectionCount(1);
+
+        assertThat(notificationStreamRegistry.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testSendHeartbeats_CompletedStreamRemoved() throws InterruptedException {
+        notificationStreamRegistry.connect(UUID.randomUUID()).complete();
+        notificationStreamRegistry.connect(UUID.randomUUID());
+
+        notificationStreamRegistry.sendHeartbeats();
+        awaitConnectionCount(1);
+
+        assertThat(notificationStreamRegistry.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testPublish_NoConnections() {
+        notificationStreamRegistry.publish(UUID.randomUUID(), newNotification());
+
+        assertThat(notificationStreamRegistry.getConnectionCount()).isZero();
+    }
+
+    @Test
+    void testPublish_WireFormat() throws Exception {
+        UUID userID = UUID.randomUUID();
+        MockHttpServletResponse response = open(notificationStreamRegistry.connect(userID));
+        NotificationDTO notification = newNotification();
+
+        notificationStreamRegistry.publish(userID, notification);
+        notificationStreamRegistry.sendHeartbeats();
+        awaitContent(response, ":heartbeat\n\n");
+
+        // Each event is written whole, with comments and fields as their own lines rather than wrapped in data lines
+        assertThat(response.getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        assertThat(response.getContentAsString())
+                .startsWith(":connected\n\nid:" + notification.getId() + "\nevent:notification\ndata:{\"id\":\""
+                        + notification.getId() + "\"")
+                .endsWith("}\n\n:heartbeat\n\n")
+                .doesNotContain("data::");
+    }
+
+    /**
+     * Hands a stream to the servlet container the way Spring MVC does when a request handler returns it
+     *
+     * @param emitter The stream
+     * @return The async response the stream writes to
+     */
+    private MockHttpServletResponse open(SseEmitter emitter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        WebAsyncUtils.getAsyncManager(webRequest)
+                .setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+
+        new ResponseBodyEmitterReturnValueHandler(
+                        List.of(new StringHttpMessageConverter(), new MappingJackson2HttpMessageConverter()))
+                .handleReturnValue(
+                        emitter,
+                        new MethodParameter(NotificationController.class.getMethod("stream"), -1),
+                        new ModelAndViewContainer(),
+                        webRequest);
+        return response;
+    }
+
+    /** Waits for the sender threads to write to a stream */
+    private void awaitContent(MockHttpServletResponse response, String suffix) throws Exception {
+        for (int i = 0; i < 100 && !response.getContentAsString().endsWith(suffix); i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    /** Waits for the sender threads to drop failed streams */
+    private void awaitConnectionCount(int expected) throws InterruptedException {
+        for (int i = 0; i < 100 && notificationStreamRegistry.getConnectionCount() != expected; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private NotificationDTO newNotification() {
+        return NotificationDTO.builder().id(UUID.randomUUID()).build();
+    }
+}
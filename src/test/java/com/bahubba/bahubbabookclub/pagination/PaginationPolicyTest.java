@@ -0,0 +1,67 @@
+package com.bahubba.bahubbabookclub.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+/** Unit tests for the {@link PaginationPolicy} */
+class PaginationPolicyTest {
+
+    private PaginationPolicy paginationPolicy;
+
+    @BeforeEach
+    void setUp() {
+        PaginationProperties.EndpointLimits memberLimits = new PaginationProperties.EndpointLimits();
+        memberLimits.setMaxPageSize(100);
+
+        PaginationProperties paginationProperties = new PaginationProperties();
+        paginationProperties.getEndpoints().put(PaginationPolicy.MEMBERSHIPS_ALL, memberLimits);
+
+        paginationPolicy = new PaginationPolicy(paginationProperties);
+    }
+
+    @Test
+    void testResolve() {
+        ResolvedPageSize result = paginationPolicy.resolve(PaginationPolicy.BOOK_CLUBS_ALL, 20);
+
+        assertThat(result.getPageSize()).isEqualTo(20);
+        assertThat(result.isAdjusted()).isFalse();
+    }
+
+    @Test
+    void testResolve_TooSmall() {
+        ResolvedPageSize result = paginationPolicy.resolve(PaginationPolicy.BOOK_CLUBS_ALL, -1);
+
+        assertThat(result.getPageSize()).isEqualTo(10);
+        assertThat(result.isAdjusted()).isTrue();
+    }
+
+    @Test
+    void testResolve_TooLarge() {
+        ResolvedPageSize result = paginationPolicy.resolve(PaginationPolicy.BOOK_CLUBS_ALL, 51);
+
+        assertThat(result.getPageSize()).isEqualTo(50);
+        assertThat(result.getWarning()).contains("50");
+    }
+
+    @Test
+    void testResolve_EndpointOverride() {
+        assertThat(paginationPolicy.getPageSize(PaginationPolicy.MEMBERSHIPS_ALL, 75))
+                .isEqualTo(75);
+        assertThat(paginationPolicy.getPageSize(PaginationPolicy.MEMBERSHIPS_ALL, 150))
+                .isEqualTo(100);
+        assertThat(paginationPolicy.getPageSize(PaginationPolicy.MEMBERSHIPS_ALL, 0))
+                .isEqualTo(10);
+    }
+
+    @Test
+    void testGetWarningHeaders() {
+        HttpHeaders adjusted = paginationPolicy.getWarningHeaders(PaginationPolicy.BOOK_CLUBS_SEARCH, 0);
+        HttpHeaders unadjusted = paginationPolicy.getWarningHeaders(PaginationPolicy.BOOK_CLUBS_SEARCH, 10);
+
+        assertThat(adjusted.getFirst(PaginationPolicy.WARNING_HEADER)).isNotNull();
+        assertThat(unadjusted.containsKey(PaginationPolicy.WARNING_HEADER)).isFalse();
+    }
+}
@@ -0,0 +1,133 @@
+package com.bahubba.bahubbabookclub.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bahubba.bahubbabookclub.model.dto.BookClubDTO;
+import com.bahubba.bahubbabookclub.model.entity.BookClub;
+import com.bahubba.bahubbabookclub.model.enums.Publicity;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Tests for the {@link BookClubRepo} name search and DTO projection queries that run on H2 (the pg_trgm query needs
+ * PostgreSQL)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class BookClubRepoTest {
+    @Autowired
+    BookClubRepo bookClubRepo;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        saveBookClub("The Mystery Readers Society", Publicity.PUBLIC);
+        saveBookClub("Mystery", Publicity.PUBLIC);
+        saveBookClub("Mystery Lovers", Publicity.OBSERVABLE);
+        saveBookClub("Secret Mystery Club", Publicity.PRIVATE);
+        saveBookClub("100% Fiction", Publicity.PUBLIC);
+        saveBookClub("1000 Fiction", Publicity.PUBLIC);
+    }
+
+    @Test
+    void testSearchByNameRelevance() {
+        Page<BookClubDTO> result =
+                bookClubRepo.searchByNameRelevance(Publicity.PRIVATE, "mystery", "mystery", PageRequest.of(0, 10));
+
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent())
+                .extracting(BookClubDTO::getName)
+                .containsExactly("Mystery", "Mystery Lovers", "The Mystery Readers Society");
+    }
+
+    @Test
+    void testSearchByNameRelevance_EscapedWildcard() {
+        Page<BookClubDTO> result =
+                bookClubRepo.searchByNameRelevance(Publicity.PRIVATE, "100%", "100\\%", PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).extracting(BookClubDTO::getName).containsExactly("100% Fiction");
+    }
+
+    @Test
+    void testSearchByNameRelevance_Paged() {
+        Page<BookClubDTO> result =
+                bookClubRepo.searchByNameRelevance(Publicity.PRIVATE, "mystery", "mystery", PageRequest.of(1, 2));
+
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).extracting(BookClubDTO::getName).containsExactly("The Mystery Readers Society");
+    }
+
+    @Test
+    void testFindAllDTOs_NotManaged() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<BookClubDTO> result = bookClubRepo.findAllDTOs(PageRequest.of(0, 4));
+
+        assertThat(result.getTotalElements()).isEqualTo(6);
+        assertThat(result.getContent()).hasSize(4);
+        assertThat(result.getContent().get(0).getImage().getFileName()).isEqualTo("image.jpg");
+        assertThat(result.getContent().get(0).getImage().getUrl()).isNull();
+        // Nothing was loaded into the persistence context for dirty checking
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void testFindAllDTOsById() {
+        BookClub bookClub = saveBookClub("Projected", Publicity.PUBLIC);
+
+        List<BookClubDTO> result = bookClubRepo.findAllDTOsById(List.of(bookClub.getId()));
+
+        assertThat(result).extracting(BookClubDTO::getName).containsExactly("Projected");
+        assertThat(result.get(0).getPublicity()).isEqualTo(Publicity.PUBLIC);
+    }
+
+    @Test
+    void testFindFirstSlice() {
+        Slice<BookClubDTO> result = bookClubRepo.findFirstSlice(PageRequest.of(0, 4));
+
+        assertThat(result.getContent()).hasSize(4);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getContent())
+                .extracting(BookClubDTO::getCreated)
+                .isSortedAccordingTo((a, b) -> b.compareTo(a));
+    }
+
+    @Test
+    void testFindFirstSearchSlice_EscapedWildcard() {
+        Slice<BookClubDTO> result =
+                bookClubRepo.findFirstSearchSlice(Publicity.PRIVATE, "100\\%", PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).extracting(BookClubDTO::getName).containsExactly("100% Fiction");
+    }
+
+    @Test
+    void testFindSearchSliceAfter_EscapedWildcard() {
+        BookClubDTO first = bookClubRepo.findFirstSlice(PageRequest.of(0, 1)).getContent().get(0);
+
+        // No name has an underscore; unescaped, it would match every book club after the first
+        Slice<BookClubDTO> result = bookClubRepo.findSearchSliceAfter(
+                Publicity.PRIVATE, "\\_", first.getCreated(), first.getId(), PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).isEmpty();
+    }
+
+    private BookClub saveBookClub(String name, Publicity publicity) {
+        return bookClubRepo.save(BookClub.builder()
+                .name(name)
+                .imageFileName("image.jpg")
+                .publicity(publicity)
+                .build());
+    }
+}
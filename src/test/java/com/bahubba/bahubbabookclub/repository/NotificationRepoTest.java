@@ -0,0 +1,147 @@
+package com.bahubba.bahubbabookclub.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bahubba.bahubbabookclub.model.dto.NotificationDTO;
+import com.bahubba.bahubbabookclub.model.entity.BookClub;
+import com.bahubba.bahubbabookclub.model.entity.Notification;
+import com.bahubba.bahubbabookclub.model.entity.NotificationCounter;
+import com.bahubba.bahubbabookclub.model.entity.NotificationViews;
+import com.bahubba.bahubbabookclub.model.entity.User;
+import com.bahubba.bahubbabookclub.model.enums.NotificationType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+/** Tests for the {@link NotificationRepo} feed and read-tracking queries, and the {@link NotificationCounterRepo} */
+@DataJpaTest
+@ActiveProfiles("test")
+class NotificationRepoTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    NotificationRepo notificationRepo;
+
+    @Autowired
+    NotificationCounterRepo notificationCounterRepo;
+
+    @Autowired
+    TestEntityManager testEntityManager;
+
+    private User reader;
+    private User other;
+    private List<Notification> notifications;
+
+    @BeforeEach
+    void setUp() {
+        reader = saveUser("reader");
+        other = saveUser("other");
+        BookClub bookClub = testEntityManager.persist(BookClub.builder()
+                .name("Notified Book Club")
+                .imageFileName("image.jpg")
+                .build());
+
+        notifications = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            notifications.add(testEntityManager.persist(Notification.builder()
+                    .sourceUser(other)
+                    .targetUser(reader)
+                    .bookClub(i % 2 == 0 ? bookClub : null)
+                    .type(NotificationType.BOOK_CLUB_UPDATED)
+                    .generated(START.plusMinutes(i))
+                    .build()));
+        }
+
+        // Another user's notification, which must never show up in the reader's feed
+        testEntityManager.persist(Notification.builder()
+                .sourceUser(reader)
+                .targetUser(other)
+                .type(NotificationType.NEW_USER)
+                .generated(START)
+                .build());
+
+        testEntityManager.persist(NotificationViews.builder()
+                .notification(notifications.get(4))
+                .user(reader)
+                .build());
+        testEntityManager.flush();
+    }
+
+    @Test
+    void testFindFirstFeedSlice() {
+        Slice<NotificationDTO> result = notificationRepo.findFirstFeedSlice(reader.getId(), PageRequest.of(0, 2));
+
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getContent())
+                .extracting(NotificationDTO::getGenerated)
+                .containsExactly(START.plusMinutes(4), START.plusMinutes(3));
+        assertThat(result.getContent()).extracting(NotificationDTO::isViewed).containsExactly(true, false);
+        assertThat(result.getContent().get(0).getBookClubName()).isEqualTo("Notified Book Club");
+        assertThat(result.getContent().get(0).getSourceUsername()).isEqualTo("other");
+        assertThat(result.getContent().get(1).getBookClubID()).isNull();
+    }
+
+    @Test
+    void testFindFeedSliceAfter() {
+        Notification last = notifications.get(3);
+
+        Slice<NotificationDTO> result = notificationRepo.findFeedSliceAfter(
+                reader.getId(), last.getGenerated(), last.getId(), PageRequest.of(0, 10));
+
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.getContent())
+                .extracting(NotificationDTO::getGenerated)
+                .containsExactly(START.plusMinutes(2), START.plusMinutes(1), START);
+    }
+
+    @Test
+    void testMarkAllRead() {
+        assertThat(notificationRepo.markAllRead(reader.getId())).isEqualTo(4);
+        assertThat(notificationRepo.markAllRead(reader.getId())).isZero();
+
+        testEntityManager.clear();
+        assertThat(notificationRepo.findFirstFeedSlice(reader.getId(), PageRequest.of(0, 10)))
+                .allMatch(NotificationDTO::isViewed);
+    }
+
+    @Test
+    void testUnreadCounter() {
+        notificationCounterRepo.saveAndFlush(new NotificationCounter(reader.getId(), 3));
+
+        assertThat(notificationCounterRepo.incrementUnread(reader.getId(), 2)).isEqualTo(1);
+        assertThat(notificationCounterRepo.decrementUnread(reader.getId(), 10)).isEqualTo(1);
+        testEntityManager.clear();
+
+        assertThat(notificationCounterRepo.findUnreadByUserId(reader.getId())).contains(0L);
+        assertThat(notificationCounterRepo.incrementUnread(other.getId(), 1)).isZero();
+    }
+
+    @Test
+    void testCreateCounter() {
+        assertThat(notificationCounterRepo.createCounter(reader.getId())).isEqualTo(1);
+        assertThat(notificationCounterRepo.incrementUnread(reader.getId(), 2)).isEqualTo(1);
+        testEntityManager.clear();
+
+        assertThat(notificationCounterRepo.findUnreadByUserId(reader.getId())).contains(2L);
+        assertThatThrownBy(() -> notificationCounterRepo.createCounter(reader.getId()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private User saveUser(String username) {
+        return testEntityManager.persist(User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password("password")
+                .build());
+    }
+}
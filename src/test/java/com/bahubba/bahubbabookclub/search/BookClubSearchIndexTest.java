@@ -0,0 +1,160 @@
+package com.bahubba.bahubbabookclub.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.bahubba.bahubbabookclub.model.entity.BookClub;
+import com.bahubba.bahubbabookclub.model.enums.Publicity;
+import com.bahubba.bahubbabookclub.repository.BookClubRepo;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+/** Unit tests for the {@link BookClubSearchIndex} */
+class BookClubSearchIndexTest {
+    private BookClubRepo bookClubRepo;
+    private BookClubSearchIndex bookClubSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        bookClubRepo = mock(BookClubRepo.class);
+        bookClubSearchIndex = new BookClubSearchIndex(bookClubRepo);
+    }
+
+    @Test
+    void testTokenize() {
+        assertThat(BookClubSearchIndex.tokenize("  Café-Society's  BOOK club!"))
+                .containsExactly("cafe", "society", "s", "book", "club");
+        assertThat(BookClubSearchIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void testSearch_Prefix() {
+        BookClub bookClub = bookClub("Mystery Readers", "Whodunits", Publicity.PUBLIC);
+        bookClubSearchIndex.index(bookClub);
+
+        assertThat(search("myst")).containsExactly(bookClub.getId());
+        assertThat(search("readers myst")).containsExactly(bookClub.getId());
+        assertThat(search("ystery")).isEmpty();
+    }
+
+    @Test
+    void testSearch_EveryTokenMustMatch() {
+        BookClub bookClub = bookClub("Mystery Readers", "Whodunits", Publicity.PUBLIC);
+        bookClubSearchIndex.index(bookClub);
+
+        assertThat(search("mystery whodunits")).containsExactly(bookClub.getId());
+        assertThat(search("mystery romance")).isEmpty();
+    }
+
+    @Test
+    void testSearch_Ranking() {
+        BookClub descriptionMatch = bookClub("Page Turners", "We love a good mystery", Publicity.PUBLIC);
+        BookClub prefixMatch = bookClub("Mysterious Ways", "Unexplained phenomena", Publicity.PUBLIC);
+        BookClub nameMatch = bookClub("Mystery Readers", "Whodunits", Publicity.OBSERVABLE);
+        bookClubSearchIndex.index(descriptionMatch);
+        bookClubSearchIndex.index(prefixMatch);
+        bookClubSearchIndex.index(nameMatch);
+
+        assertThat(search("myster"))
+                .containsExactly(nameMatch.getId(), prefixMatch.getId(), descriptionMatch.getId());
+        assertThat(search("mystery")).containsExactly(nameMatch.getId(), descriptionMatch.getId());
+    }
+
+    @Test
+    void testSearch_ExcludesPrivateAndDisbanded() {
+        BookClub privateBookClub = bookClub("Secret Mystery Club", "Shh", Publicity.PRIVATE);
+        BookClub disbandedBookClub = bookClub("Old Mystery Club", "Gone", Publicity.PUBLIC);
+        disbandedBookClub.setDisbanded(LocalDateTime.now());
+        bookClubSearchIndex.index(privateBookClub);
+        bookClubSearchIndex.index(disbandedBookClub);
+
+        assertThat(search("mystery")).isEmpty();
+        assertThat(bookClubSearchIndex.size()).isZero();
+    }
+
+    @Test
+    void testIndex_Update() {
+        BookClub bookClub = bookClub("Mystery Readers", "Whodunits", Publicity.PUBLIC);
+        bookClubSearchIndex.index(bookClub);
+
+        bookClub.setName("Romance Readers");
+        bookClubSearchIndex.index(bookClub);
+
+        assertThat(search("mystery")).isEmpty();
+        assertThat(search("romance")).containsExactly(bookClub.getId());
+
+        bookClub.setPublicity(Publicity.PRIVATE);
+        bookClubSearchIndex.index(bookClub);
+
+        assertThat(search("romance")).isEmpty();
+    }
+
+    @Test
+    void testRemove() {
+        BookClub bookClub = bookClub("Mystery Readers", "Whodunits", Publicity.PUBLIC);
+        bookClubSearchIndex.index(bookClub);
+
+        bookClubSearchIndex.remove(bookClub.getId());
+
+        assertThat(search("mystery")).isEmpty();
+        assertThat(bookClubSearchIndex.size()).isZero();
+    }
+
+    @Test
+    void testSearch_Paged() {
+        for (int i = 0; i < 25; i++) {
+            bookClubSearchIndex.index(bookClub("Reading Group " + i, "", Publicity.PUBLIC));
+        }
+
+        Page<UUID> result = bookClubSearchIndex.search("reading", PageRequest.of(2, 10));
+
+        assertThat(result.getTotalElements()).isEqualTo(25);
+        assertThat(result.getContent()).hasSize(5);
+    }
+
+    @Test
+    void testLoad() {
+        BookClub first = bookClub("Mystery Readers", "Whodunits", Publicity.PUBLIC);
+        BookClub second = bookClub("Mystery Lovers", "Cozies", Publicity.PUBLIC);
+        when(bookClubRepo.findAllByPublicityNotAndDisbandedIsNull(any(Publicity.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(first), PageRequest.of(0, 1), true))
+                .thenReturn(new SliceImpl<>(List.of(second), PageRequest.of(1, 1), false));
+
+        bookClubSearchIndex.load();
+
+        assertThat(bookClubSearchIndex.size()).isEqualTo(2);
+        assertThat(search("mystery")).containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+
+    @Test
+    void testLoad_Failure() {
+        when(bookClubRepo.findAllByPublicityNotAndDisbandedIsNull(any(Publicity.class), any(Pageable.class)))
+                .thenThrow(new RuntimeException("Connection refused"));
+
+        bookClubSearchIndex.load();
+
+        assertThat(bookClubSearchIndex.size()).isZero();
+    }
+
+    private List<UUID> search(String query) {
+        return bookClubSearchIndex.search(query, PageRequest.of(0, 10)).getContent();
+    }
+
+    private BookClub bookClub(String name, String description, Publicity publicity) {
+        return BookClub.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .description(description)
+                .publicity(publicity)
+                .build();
+    }
+}
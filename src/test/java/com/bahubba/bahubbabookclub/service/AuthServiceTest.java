@@ -7,13 +7,13 @@ import static org.mockito.Mockito.*;
 
 import com.bahubba.bahubbabookclub.exception.UserNotFoundException;
 import com.bahubba.bahubbabookclub.model.dto.AuthDTO;
-import com.bahubba.bahubbabookclub.model.entity.Notification;
 import com.bahubba.bahubbabookclub.model.entity.RefreshToken;
 import com.bahubba.bahubbabookclub.model.entity.User;
 import com.bahubba.bahubbabookclub.model.enums.Role;
 import com.bahubba.bahubbabookclub.model.payload.AuthRequest;
 import com.bahubba.bahubbabookclub.model.payload.UserPayload;
-import com.bahubba.bahubbabookclub.repository.NotificationRepo;
+import com.bahubba.bahubbabookclub.notification.NotificationDispatcher;
+import com.bahubba.bahubbabookclub.notification.NotificationEvent;
 import com.bahubba.bahubbabookclub.repository.RefreshTokenRepo;
 import com.bahubba.bahubbabookclub.repository.UserRepo;
 import jakarta.servlet.http.HttpServletRequest;
@@ -48,7 +48,7 @@ class AuthServiceTest {
     RefreshTokenRepo refreshTokenRepo;
 
     @MockBean
-    NotificationRepo notificationRepo;
+    NotificationDispatcher notificationDispatcher;
 
     @Test
     void testRegister() {
@@ -74,7 +74,7 @@ class AuthServiceTest {
         AuthDTO result =
                 authService.register(UserPayload.builder().password("password").build());
 
-        verify(notificationRepo, times(1)).save(any(Notification.class));
+        verify(notificationDispatcher, times(1)).dispatch(any(NotificationEvent.class));
         verify(jwtService, times(1)).generateJwtCookie(any(User.class));
     }
 
@@ -138,6 +138,7 @@ class AuthServiceTest {
         AuthDTO result = authService.logout(new MockHttpServletRequest());
 
         verify(jwtService, times(1)).deleteRefreshToken(any(HttpServletRequest.class));
+        verify(jwtService, times(1)).evictToken(any());
         verify(jwtService, times(2)).generateCookie(anyString(), anyString(), anyString());
         assertThat(result.getToken()).isNotNull();
         assertThat(result.getToken().getValue()).isEmpty();
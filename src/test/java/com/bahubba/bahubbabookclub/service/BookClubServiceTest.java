@@ -7,21 +7,30 @@ import static org.mockito.Mockito.*;
 
 import com.bahubba.bahubbabookclub.exception.*;
 import com.bahubba.bahubbabookclub.model.dto.BookClubDTO;
+import com.bahubba.bahubbabookclub.model.dto.ClubRoleDTO;
+import com.bahubba.bahubbabookclub.model.dto.CursorPageDTO;
 import com.bahubba.bahubbabookclub.model.dto.S3ImageDTO;
 import com.bahubba.bahubbabookclub.model.entity.BookClub;
 import com.bahubba.bahubbabookclub.model.entity.BookClubMembership;
-import com.bahubba.bahubbabookclub.model.entity.Notification;
 import com.bahubba.bahubbabookclub.model.entity.User;
+import com.bahubba.bahubbabookclub.model.enums.BookClubRole;
 import com.bahubba.bahubbabookclub.model.enums.Publicity;
 import com.bahubba.bahubbabookclub.model.payload.BookClubPayload;
+import com.bahubba.bahubbabookclub.model.projection.BookClubProjection;
+import com.bahubba.bahubbabookclub.notification.NotificationDispatcher;
+import com.bahubba.bahubbabookclub.notification.NotificationEvent;
 import com.bahubba.bahubbabookclub.repository.BookClubMembershipRepo;
 import com.bahubba.bahubbabookclub.repository.BookClubRepo;
-import com.bahubba.bahubbabookclub.repository.NotificationRepo;
+import com.bahubba.bahubbabookclub.search.BookClubSearchIndex;
+import com.bahubba.bahubbabookclub.util.KeysetCursor;
 import com.bahubba.bahubbabookclub.util.SecurityUtil;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
@@ -30,9 +39,12 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.context.ActiveProfiles;
-import software.amazon.awssdk.services.s3.model.S3Object;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /** Unit tests for the {@link BookClubService} business logic */
 @SpringBootTest
@@ -44,6 +56,9 @@ class BookClubServiceTest {
     @MockBean
     S3Service s3Service;
 
+    @MockBean
+    StockImageService stockImageService;
+
     @MockBean
     BookClubRepo bookClubRepo;
 
@@ -51,11 +66,21 @@ class BookClubServiceTest {
     BookClubMembershipRepo bookClubMembershipRepo;
 
     @MockBean
-    NotificationRepo notificationRepo;
+    NotificationDispatcher notificationDispatcher;
+
+    @MockBean
+    BookClubSearchIndex bookClubSearchIndex;
+
+    @MockBean
+    ClubAuthorizationService clubAuthorizationService;
 
     @BeforeEach
     void setUp() {
         when(s3Service.getPreSignedURL(anyString())).thenReturn("https://test.com");
+        when(s3Service.getPreSignedURLs(anyCollection()))
+                .thenAnswer(invocation -> invocation.<Collection<String>>getArgument(0).stream()
+                        .distinct()
+                        .collect(Collectors.toMap(Function.identity(), key -> "https://test.com")));
     }
 
     @Test
@@ -69,7 +94,8 @@ class BookClubServiceTest {
                 bookClubService.create(BookClubPayload.builder().name("Test").build());
         verify(bookClubRepo, times(1)).save(any(BookClub.class));
         verify(bookClubMembershipRepo, times(1)).save(any(BookClubMembership.class));
-        verify(notificationRepo, times(1)).save(any(Notification.class));
+        verify(notificationDispatcher, times(1)).dispatch(any(NotificationEvent.class));
+        verify(bookClubSearchIndex, times(1)).index(any(BookClub.class));
         assertThat(result).isNotNull();
 
         securityUtilMockedStatic.close();
@@ -101,8 +127,8 @@ class BookClubServiceTest {
         securityUtilMockedStatic
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(UUID.randomUUID()).build());
-        when(bookClubRepo.findByIdAndUserIsAdmin(any(UUID.class), any(UUID.class)))
-                .thenReturn(Optional.of(new BookClub()));
+        when(bookClubRepo.findById(any(UUID.class)))
+                .thenReturn(Optional.of(BookClub.builder().name("Test").build()));
         when(bookClubRepo.save(any(BookClub.class))).thenReturn(new BookClub());
 
         BookClubDTO result = bookClubService.update(BookClubPayload.builder()
@@ -111,19 +137,42 @@ class BookClubServiceTest {
                 .imageFileName("foobar")
                 .build());
 
-        verify(bookClubRepo, times(1)).findByIdAndUserIsAdmin(any(UUID.class), any(UUID.class));
+        verify(clubAuthorizationService, times(1)).requireAdmin(any(UUID.class), any(UUID.class));
+        verify(bookClubRepo, times(1)).findById(any(UUID.class));
         verify(bookClubRepo, times(1)).save(any(BookClub.class));
+        verify(bookClubSearchIndex, times(1)).index(any(BookClub.class));
+        verify(clubAuthorizationService, times(0)).evictBookClubName(anyString());
         assertThat(result).isNotNull();
         securityUtilMockedStatic.close();
     }
 
+    @Test
+    void testUpdate_Rename() {
+        MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class);
+        securityUtilMockedStatic
+                .when(SecurityUtil::getCurrentUserDetails)
+                .thenReturn(User.builder().id(UUID.randomUUID()).build());
+        when(bookClubRepo.findById(any(UUID.class)))
+                .thenReturn(Optional.of(BookClub.builder().name("Old").build()));
+        when(bookClubRepo.save(any(BookClub.class))).thenReturn(new BookClub());
+
+        bookClubService.update(BookClubPayload.builder()
+                .id(UUID.randomUUID())
+                .name("New")
+                .imageFileName("foobar")
+                .build());
+
+        verify(clubAuthorizationService, times(1)).evictBookClubName("Old");
+        securityUtilMockedStatic.close();
+    }
+
     @Test
     void testUpdate_NoUser() {
         assertThrows(
                 UserNotFoundException.class,
                 () -> bookClubService.update(BookClubPayload.builder().build()));
 
-        verify(bookClubRepo, times(0)).findByIdAndUserIsAdmin(any(UUID.class), any(UUID.class));
+        verify(clubAuthorizationService, times(0)).requireAdmin(any(UUID.class), any(UUID.class));
         verify(bookClubRepo, times(0)).save(any(BookClub.class));
     }
 
@@ -133,15 +182,53 @@ class BookClubServiceTest {
         securityUtilMockedStatic
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(UUID.randomUUID()).build());
-        when(bookClubRepo.findByIdAndUserIsAdmin(any(UUID.class), any(UUID.class)))
-                .thenReturn(Optional.empty());
+        when(bookClubRepo.findById(any(UUID.class))).thenReturn(Optional.empty());
+
+        assertThrows(
+                BookClubNotFoundException.class,
+                () -> bookClubService.update(
+                        BookClubPayload.builder().id(UUID.randomUUID()).build()));
+
+        verify(bookClubRepo, times(1)).findById(any(UUID.class));
+        verify(bookClubRepo, times(0)).save(any(BookClub.class));
+        securityUtilMockedStatic.close();
+    }
+
+    @Test
+    void testUpdate_Disbanded() {
+        MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class);
+        securityUtilMockedStatic
+                .when(SecurityUtil::getCurrentUserDetails)
+                .thenReturn(User.builder().id(UUID.randomUUID()).build());
+        when(bookClubRepo.findById(any(UUID.class)))
+                .thenReturn(Optional.of(
+                        BookClub.builder().disbanded(LocalDateTime.now()).build()));
 
         assertThrows(
                 BookClubNotFoundException.class,
                 () -> bookClubService.update(
                         BookClubPayload.builder().id(UUID.randomUUID()).build()));
 
-        verify(bookClubRepo, times(1)).findByIdAndUserIsAdmin(any(UUID.class), any(UUID.class));
+        verify(bookClubRepo, times(0)).save(any(BookClub.class));
+        securityUtilMockedStatic.close();
+    }
+
+    @Test
+    void testUpdate_NotAdmin() {
+        MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class);
+        securityUtilMockedStatic
+                .when(SecurityUtil::getCurrentUserDetails)
+                .thenReturn(User.builder().id(UUID.randomUUID()).build());
+        doThrow(new UnauthorizedBookClubActionException())
+                .when(clubAuthorizationService)
+                .requireAdmin(any(UUID.class), any(UUID.class));
+
+        assertThrows(
+                UnauthorizedBookClubActionException.class,
+                () -> bookClubService.update(
+                        BookClubPayload.builder().id(UUID.randomUUID()).build()));
+
+        verify(bookClubRepo, times(0)).findById(any(UUID.class));
         verify(bookClubRepo, times(0)).save(any(BookClub.class));
         securityUtilMockedStatic.close();
     }
@@ -168,8 +255,8 @@ class BookClubServiceTest {
                         .id(UUID.randomUUID())
                         .publicity(Publicity.PRIVATE)
                         .build()));
-        when(bookClubMembershipRepo.existsByBookClubIdAndUserId(any(UUID.class), any(UUID.class)))
-                .thenReturn(true);
+        when(clubAuthorizationService.getClubRole(any(UUID.class), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.USER, false));
         BookClubDTO result = bookClubService.findByID(UUID.randomUUID());
         verify(bookClubRepo, times(1)).findById(any(UUID.class));
         assertThat(result).isNotNull();
@@ -203,8 +290,8 @@ class BookClubServiceTest {
                         .id(UUID.randomUUID())
                         .publicity(Publicity.PRIVATE)
                         .build()));
-        when(bookClubMembershipRepo.existsByBookClubIdAndUserId(any(UUID.class), any(UUID.class)))
-                .thenReturn(true);
+        when(clubAuthorizationService.getClubRole(any(UUID.class), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.USER, false));
         BookClubDTO result = bookClubService.findByName("foo");
         verify(bookClubRepo, times(1)).findByName(anyString());
         assertThat(result).isNotNull();
@@ -225,9 +312,7 @@ class BookClubServiceTest {
                 .thenReturn(User.builder().id(UUID.randomUUID()).build());
         // Book clubs filled in here to add coverage for BookClubAspect
         when(bookClubRepo.findAllForUser(any(UUID.class), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(
-                        BookClub.builder().build(),
-                        BookClub.builder().name("Test").build())));
+                .thenReturn(new PageImpl<>(List.of(bookClubDTO().build(), bookClubDTO().name("Test").build())));
         Page<BookClubDTO> result = bookClubService.findAllForUser(1, 1);
         verify(bookClubRepo, times(1)).findAllForUser(any(UUID.class), any(Pageable.class));
         assertThat(result).isNotNull();
@@ -247,8 +332,8 @@ class BookClubServiceTest {
                 .thenReturn(User.builder().id(UUID.randomUUID()).build());
         when(bookClubRepo.findAllForUser(any(UUID.class), any(Pageable.class))).thenReturn(Page.empty());
 
-        assertThrows(PageSizeTooSmallException.class, () -> bookClubService.findAllForUser(1, -1));
-        verify(bookClubRepo, times(1)).findAllForUser(any(UUID.class), any(Pageable.class));
+        bookClubService.findAllForUser(1, -1);
+        verify(bookClubRepo, times(1)).findAllForUser(any(UUID.class), eq(PageRequest.of(1, 10)));
 
         securityUtilMockedStatic.close();
     }
@@ -261,56 +346,54 @@ class BookClubServiceTest {
                 .thenReturn(User.builder().id(UUID.randomUUID()).build());
         when(bookClubRepo.findAllForUser(any(UUID.class), any(Pageable.class))).thenReturn(Page.empty());
 
-        assertThrows(PageSizeTooLargeException.class, () -> bookClubService.findAllForUser(1, 51));
-        verify(bookClubRepo, times(1)).findAllForUser(any(UUID.class), any(Pageable.class));
+        bookClubService.findAllForUser(1, 51);
+        verify(bookClubRepo, times(1)).findAllForUser(any(UUID.class), eq(PageRequest.of(1, 50)));
 
         securityUtilMockedStatic.close();
     }
 
     @Test
     void testFindAll() {
-        when(bookClubRepo.findAll(any(Pageable.class))).thenReturn(Page.empty());
+        when(bookClubRepo.findAllDTOs(any(Pageable.class))).thenReturn(Page.empty());
         Page<BookClubDTO> result = bookClubService.findAll(1, 1);
-        verify(bookClubRepo, times(1)).findAll(any(Pageable.class));
+        verify(bookClubRepo, times(1)).findAllDTOs(any(Pageable.class));
+        verify(bookClubRepo, times(0)).findAll(any(Pageable.class));
         assertThat(result).isNotNull();
     }
 
     @Test
     void testFindAll_NegativePageSize() {
-        when(bookClubRepo.findAll(any(Pageable.class))).thenReturn(Page.empty());
+        when(bookClubRepo.findAllDTOs(any(Pageable.class))).thenReturn(Page.empty());
 
-        assertThrows(PageSizeTooSmallException.class, () -> bookClubService.findAll(1, -1));
-        verify(bookClubRepo, times(1)).findAll(any(Pageable.class));
+        bookClubService.findAll(1, -1);
+        verify(bookClubRepo, times(1)).findAllDTOs(PageRequest.of(1, 10));
     }
 
     @Test
     void testFindAll_TooLargePageSize() {
-        when(bookClubRepo.findAll(any(Pageable.class))).thenReturn(Page.empty());
+        when(bookClubRepo.findAllDTOs(any(Pageable.class))).thenReturn(Page.empty());
 
-        assertThrows(PageSizeTooLargeException.class, () -> bookClubService.findAll(1, 51));
-        verify(bookClubRepo, times(1)).findAll(any(Pageable.class));
+        bookClubService.findAll(1, 51);
+        verify(bookClubRepo, times(1)).findAllDTOs(PageRequest.of(1, 50));
     }
 
     @Test
     void testDisbandBookClubByID() {
-        UUID testID = UUID.randomUUID();
-
         MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class);
         securityUtilMockedStatic
                 .when(SecurityUtil::getCurrentUserDetails)
-                .thenReturn(User.builder().id(testID).build());
-        when(bookClubMembershipRepo.findByBookClubIdAndUserId(any(UUID.class), any(UUID.class)))
-                .thenReturn(Optional.of(BookClubMembership.builder()
-                        .user(User.builder().id(testID).build())
-                        .bookClub(BookClub.builder().id(UUID.randomUUID()).build())
-                        .isOwner(true)
-                        .build()));
+                .thenReturn(User.builder().id(UUID.randomUUID()).build());
+        when(clubAuthorizationService.getClubRole(any(UUID.class), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.ADMIN, true));
+        when(bookClubRepo.findById(any(UUID.class)))
+                .thenReturn(Optional.of(BookClub.builder().id(UUID.randomUUID()).build()));
         when(bookClubRepo.save(any(BookClub.class))).thenReturn(new BookClub());
 
         BookClubDTO result = bookClubService.disbandBookClubByID(UUID.randomUUID());
 
-        verify(bookClubMembershipRepo, times(1)).findByBookClubIdAndUserId(any(UUID.class), any(UUID.class));
+        verify(clubAuthorizationService, times(1)).getClubRole(any(UUID.class), any(UUID.class));
         verify(bookClubRepo, times(1)).save(any(BookClub.class));
+        verify(bookClubSearchIndex, times(1)).remove(any(UUID.class));
         assertThat(result).isNotNull();
         securityUtilMockedStatic.close();
     }
@@ -321,7 +404,7 @@ class BookClubServiceTest {
         securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(null);
 
         assertThrows(UserNotFoundException.class, () -> bookClubService.disbandBookClubByID(UUID.randomUUID()));
-        verify(bookClubMembershipRepo, times(0)).findByBookClubIdAndUserId(any(UUID.class), any(UUID.class));
+        verify(clubAuthorizationService, times(0)).getClubRole(any(UUID.class), any(UUID.class));
         verify(bookClubRepo, times(0)).save(any(BookClub.class));
 
         securityUtilMockedStatic.close();
@@ -333,87 +416,72 @@ class BookClubServiceTest {
         securityUtilMockedStatic
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(UUID.randomUUID()).build());
-        when(bookClubMembershipRepo.findByBookClubIdAndUserId(any(UUID.class), any(UUID.class)))
-                .thenReturn(Optional.empty());
+        when(clubAuthorizationService.getClubRole(any(UUID.class), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.NONE, false));
 
         assertThrows(MembershipNotFoundException.class, () -> bookClubService.disbandBookClubByID(UUID.randomUUID()));
 
-        verify(bookClubMembershipRepo, times(1)).findByBookClubIdAndUserId(any(UUID.class), any(UUID.class));
+        verify(clubAuthorizationService, times(1)).getClubRole(any(UUID.class), any(UUID.class));
         verify(bookClubRepo, times(0)).save(any(BookClub.class));
-
         securityUtilMockedStatic.close();
     }
 
     @Test
     void testDisbandBookClub_UserNotOwner() {
-        UUID testID = UUID.randomUUID();
-
         MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class);
         securityUtilMockedStatic
                 .when(SecurityUtil::getCurrentUserDetails)
-                .thenReturn(User.builder().id(testID).build());
-
-        when(bookClubMembershipRepo.findByBookClubIdAndUserId(any(UUID.class), any(UUID.class)))
-                .thenReturn(Optional.of(BookClubMembership.builder()
-                        .user(User.builder().id(testID).build())
-                        .bookClub(BookClub.builder().id(UUID.randomUUID()).build())
-                        .isOwner(false)
-                        .build()));
+                .thenReturn(User.builder().id(UUID.randomUUID()).build());
+        when(clubAuthorizationService.getClubRole(any(UUID.class), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.ADMIN, false));
 
         assertThrows(
                 UnauthorizedBookClubActionException.class,
                 () -> bookClubService.disbandBookClubByID(UUID.randomUUID()));
-        verify(bookClubMembershipRepo, times(1)).findByBookClubIdAndUserId(any(UUID.class), any(UUID.class));
-        verify(bookClubRepo, times(0)).save(any(BookClub.class));
 
+        verify(clubAuthorizationService, times(1)).getClubRole(any(UUID.class), any(UUID.class));
+        verify(bookClubRepo, times(0)).save(any(BookClub.class));
         securityUtilMockedStatic.close();
     }
 
     @Test
     void testDisbandBookClub_AlreadyDisbanded() {
-        UUID testID = UUID.randomUUID();
-
         MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class);
         securityUtilMockedStatic
                 .when(SecurityUtil::getCurrentUserDetails)
-                .thenReturn(User.builder().id(testID).build());
-        when(bookClubMembershipRepo.findByBookClubIdAndUserId(any(UUID.class), any(UUID.class)))
-                .thenReturn(Optional.of(BookClubMembership.builder()
-                        .user(User.builder().id(testID).build())
-                        .bookClub(BookClub.builder()
-                                .id(UUID.randomUUID())
-                                .disbanded(LocalDateTime.now())
-                                .build())
-                        .isOwner(true)
+                .thenReturn(User.builder().id(UUID.randomUUID()).build());
+        when(clubAuthorizationService.getClubRole(any(UUID.class), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.ADMIN, true));
+        when(bookClubRepo.findById(any(UUID.class)))
+                .thenReturn(Optional.of(BookClub.builder()
+                        .id(UUID.randomUUID())
+                        .disbanded(LocalDateTime.now())
                         .build()));
 
         assertThrows(BadBookClubActionException.class, () -> bookClubService.disbandBookClubByID(UUID.randomUUID()));
 
-        verify(bookClubMembershipRepo, times(1)).findByBookClubIdAndUserId(any(UUID.class), any(UUID.class));
+        verify(clubAuthorizationService, times(1)).getClubRole(any(UUID.class), any(UUID.class));
         verify(bookClubRepo, times(0)).save(any(BookClub.class));
         securityUtilMockedStatic.close();
     }
 
     @Test
     void testDisbandBookClubByName() {
-        UUID testID = UUID.randomUUID();
-
         MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class);
         securityUtilMockedStatic
                 .when(SecurityUtil::getCurrentUserDetails)
-                .thenReturn(User.builder().id(testID).build());
-        when(bookClubMembershipRepo.findByBookClubNameAndUserId(anyString(), any(UUID.class)))
-                .thenReturn(Optional.of(BookClubMembership.builder()
-                        .user(User.builder().id(testID).build())
-                        .bookClub(BookClub.builder().id(UUID.randomUUID()).build())
-                        .isOwner(true)
-                        .build()));
+                .thenReturn(User.builder().id(UUID.randomUUID()).build());
+        when(clubAuthorizationService.getClubRole(anyString(), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.ADMIN, true));
+        when(bookClubRepo.findByName(anyString()))
+                .thenReturn(Optional.of(BookClub.builder().id(UUID.randomUUID()).build()));
         when(bookClubRepo.save(any(BookClub.class))).thenReturn(new BookClub());
 
         BookClubDTO result = bookClubService.disbandBookClubByName("foo");
 
-        verify(bookClubMembershipRepo, times(1)).findByBookClubNameAndUserId(anyString(), any(UUID.class));
+        verify(clubAuthorizationService, times(1)).getClubRole(anyString(), any(UUID.class));
         verify(bookClubRepo, times(1)).save(any(BookClub.class));
+        verify(bookClubSearchIndex, times(1)).remove(any(UUID.class));
         assertThat(result).isNotNull();
         securityUtilMockedStatic.close();
     }
@@ -424,7 +492,7 @@ class BookClubServiceTest {
         securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(null);
 
         assertThrows(UserNotFoundException.class, () -> bookClubService.disbandBookClubByName("foo"));
-        verify(bookClubMembershipRepo, times(0)).findByBookClubNameAndUserId(anyString(), any(UUID.class));
+        verify(clubAuthorizationService, times(0)).getClubRole(anyString(), any(UUID.class));
         verify(bookClubRepo, times(0)).save(any(BookClub.class));
 
         securityUtilMockedStatic.close();
@@ -436,50 +504,114 @@ class BookClubServiceTest {
         securityUtilMockedStatic
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(UUID.randomUUID()).build());
-        when(bookClubMembershipRepo.findByBookClubNameAndUserId(anyString(), any(UUID.class)))
-                .thenReturn(Optional.empty());
+        when(clubAuthorizationService.getClubRole(anyString(), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.NONE, false));
 
         assertThrows(MembershipNotFoundException.class, () -> bookClubService.disbandBookClubByName("foo"));
 
-        verify(bookClubMembershipRepo, times(1)).findByBookClubNameAndUserId(anyString(), any(UUID.class));
+        verify(clubAuthorizationService, times(1)).getClubRole(anyString(), any(UUID.class));
         verify(bookClubRepo, times(0)).save(any(BookClub.class));
-
         securityUtilMockedStatic.close();
     }
 
     @Test
     void testSearch() {
-        when(bookClubRepo.findAllByPublicityNotAndNameContainsIgnoreCase(
-                        any(Publicity.class), anyString(), any(Pageable.class)))
+        when(bookClubRepo.searchByNameRelevance(any(Publicity.class), anyString(), anyString(), any(Pageable.class)))
                 .thenReturn(Page.empty());
 
         Page<BookClubDTO> result = bookClubService.search("foo", 1, 1);
 
         verify(bookClubRepo, times(1))
-                .findAllByPublicityNotAndNameContainsIgnoreCase(any(Publicity.class), anyString(), any(Pageable.class));
+                .searchByNameRelevance(any(Publicity.class), anyString(), anyString(), any(Pageable.class));
         assertThat(result).isNotNull();
     }
 
+    @Test
+    void testSearch_Trigram() {
+        BookClubService target = AopTestUtils.getTargetObject(bookClubService);
+        ReflectionTestUtils.setField(target, "trigramSearchEnabled", true);
+        BookClubProjection projection = mock(BookClubProjection.class);
+        when(projection.getName()).thenReturn("foo club");
+        when(projection.getImageFileName()).thenReturn("image.jpg");
+        when(bookClubRepo.searchByNameSimilarity(anyString(), anyString(), anyString(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(projection)));
+
+        Page<BookClubDTO> result = bookClubService.search("foo", 1, 1);
+        ReflectionTestUtils.setField(target, "trigramSearchEnabled", false);
+
+        assertThat(result.getContent()).extracting(BookClubDTO::getName).containsExactly("foo club");
+        assertThat(result.getContent().get(0).getImage().getFileName()).isEqualTo("image.jpg");
+        assertThat(result.getContent().get(0).getImage().getUrl()).isEqualTo("https://test.com");
+
+        verify(bookClubRepo, times(1))
+                .searchByNameSimilarity(Publicity.PRIVATE.name(), "foo", "foo", PageRequest.of(1, 1));
+        verify(bookClubRepo, times(0))
+                .searchByNameRelevance(any(Publicity.class), anyString(), anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void testSearch_EscapesWildcards() {
+        when(bookClubRepo.searchByNameRelevance(any(Publicity.class), anyString(), anyString(), any(Pageable.class)))
+                .thenReturn(Page.empty());
+
+        bookClubService.search(" 100%_club ", 1, 1);
+
+        verify(bookClubRepo, times(1))
+                .searchByNameRelevance(Publicity.PRIVATE, "100%_club", "100\\%\\_club", PageRequest.of(1, 1));
+    }
+
+    @Test
+    void testSearch_TooShort() {
+        assertThrows(SearchTermTooShortException.class, () -> bookClubService.search(" fo ", 1, 1));
+        assertThrows(SearchTermTooShortException.class, () -> bookClubService.search(null, 1, 1));
+        verify(bookClubRepo, times(0))
+                .searchByNameRelevance(any(Publicity.class), anyString(), anyString(), any(Pageable.class));
+    }
+
     @Test
     void testSearch_NegativePageSize() {
-        when(bookClubRepo.findAllByPublicityNotAndNameContainsIgnoreCase(
-                        any(Publicity.class), anyString(), any(Pageable.class)))
+        when(bookClubRepo.searchByNameRelevance(any(Publicity.class), anyString(), anyString(), any(Pageable.class)))
                 .thenReturn(Page.empty());
 
-        assertThrows(PageSizeTooSmallException.class, () -> bookClubService.search("foo", 1, -1));
+        bookClubService.search("foo", 1, -1);
         verify(bookClubRepo, times(1))
-                .findAllByPublicityNotAndNameContainsIgnoreCase(any(Publicity.class), anyString(), any(Pageable.class));
+                .searchByNameRelevance(any(Publicity.class), anyString(), anyString(), eq(PageRequest.of(1, 10)));
     }
 
     @Test
     void testSearch_TooLargePageSize() {
-        when(bookClubRepo.findAllByPublicityNotAndNameContainsIgnoreCase(
-                        any(Publicity.class), anyString(), any(Pageable.class)))
+        when(bookClubRepo.searchByNameRelevance(any(Publicity.class), anyString(), anyString(), any(Pageable.class)))
                 .thenReturn(Page.empty());
 
-        assertThrows(PageSizeTooLargeException.class, () -> bookClubService.search("foo", 1, 51));
+        bookClubService.search("foo", 1, 51);
         verify(bookClubRepo, times(1))
-                .findAllByPublicityNotAndNameContainsIgnoreCase(any(Publicity.class), anyString(), any(Pageable.class));
+                .searchByNameRelevance(any(Publicity.class), anyString(), anyString(), eq(PageRequest.of(1, 50)));
+    }
+
+    @Test
+    void testFullTextSearch() {
+        BookClubDTO first = bookClubDTO().id(UUID.randomUUID()).name("First").build();
+        BookClubDTO second = bookClubDTO().id(UUID.randomUUID()).name("Second").build();
+        when(bookClubSearchIndex.search(anyString(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(first.getId(), second.getId()), PageRequest.of(0, 2), 3));
+        when(bookClubRepo.findAllDTOsById(anyCollection())).thenReturn(List.of(second, first));
+
+        Page<BookClubDTO> result = bookClubService.fullTextSearch("foo", 0, 2);
+
+        verify(bookClubSearchIndex, times(1)).search("foo", PageRequest.of(0, 2));
+        verify(bookClubRepo, times(1)).findAllDTOsById(List.of(first.getId(), second.getId()));
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).extracting(BookClubDTO::getName).containsExactly("First", "Second");
+    }
+
+    @Test
+    void testFullTextSearch_NoMatches() {
+        when(bookClubSearchIndex.search(anyString(), any(Pageable.class))).thenReturn(Page.empty());
+
+        Page<BookClubDTO> result = bookClubService.fullTextSearch("foo", 0, 10);
+
+        verify(bookClubRepo, times(0)).findAllDTOsById(anyCollection());
+        assertThat(result.getContent()).isEmpty();
     }
 
     @Test
@@ -502,27 +634,140 @@ class BookClubServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(UUID.randomUUID()).build());
         when(bookClubRepo.findById(any(UUID.class)))
-                .thenReturn(Optional.of(
-                        BookClub.builder().publicity(Publicity.PRIVATE).build()));
-        when(bookClubMembershipRepo.existsByBookClubIdAndUserId(any(UUID.class), any(UUID.class)))
-                .thenReturn(false);
+                .thenReturn(Optional.of(BookClub.builder()
+                        .id(UUID.randomUUID())
+                        .publicity(Publicity.PRIVATE)
+                        .build()));
+        when(clubAuthorizationService.getClubRole(any(UUID.class), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.NONE, false));
 
         assertThrows(MembershipNotFoundException.class, () -> bookClubService.findByID(UUID.randomUUID()));
 
         securityUtilMockedStatic.close();
     }
 
+    @Test
+    void testFindAllByCursor() {
+        UUID lastID = UUID.randomUUID();
+        LocalDateTime lastCreated = LocalDateTime.now();
+        when(bookClubRepo.findFirstSlice(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(
+                        List.of(
+                                bookClubDTO().build(),
+                                bookClubDTO().id(lastID).created(lastCreated).build()),
+                        PageRequest.of(0, 2),
+                        true));
+
+        CursorPageDTO<BookClubDTO> result = bookClubService.findAllByCursor(null, 2);
+
+        verify(bookClubRepo, times(1)).findFirstSlice(any(Pageable.class));
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.isHasNext()).isTrue();
+        KeysetCursor nextCursor = KeysetCursor.decode(result.getNextCursor());
+        assertThat(nextCursor.getId()).isEqualTo(lastID);
+        assertThat(nextCursor.getCreated()).isEqualTo(lastCreated);
+    }
+
+    @Test
+    void testFindAllByCursor_NextPage() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.now(), UUID.randomUUID());
+        when(bookClubRepo.findSliceAfter(any(LocalDateTime.class), any(UUID.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(bookClubDTO().build()), PageRequest.of(0, 2), false));
+
+        CursorPageDTO<BookClubDTO> result = bookClubService.findAllByCursor(cursor.encode(), 2);
+
+        verify(bookClubRepo, times(1)).findSliceAfter(cursor.getCreated(), cursor.getId(), PageRequest.of(0, 2));
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void testFindAllByCursor_BadCursor() {
+        assertThrows(BadCursorException.class, () -> bookClubService.findAllByCursor("not-a-cursor", 10));
+    }
+
+    @Test
+    void testFindAllByCursor_PageSizeClamped() {
+        when(bookClubRepo.findFirstSlice(any(Pageable.class))).thenReturn(new SliceImpl<>(List.of()));
+
+        bookClubService.findAllByCursor(null, 500);
+        bookClubService.findAllByCursor(null, 0);
+
+        verify(bookClubRepo, times(1)).findFirstSlice(PageRequest.of(0, 50));
+        verify(bookClubRepo, times(1)).findFirstSlice(PageRequest.of(0, 10));
+    }
+
+    @Test
+    void testFindAllForUserByCursor() {
+        MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class);
+        securityUtilMockedStatic
+                .when(SecurityUtil::getCurrentUserDetails)
+                .thenReturn(User.builder().id(UUID.randomUUID()).build());
+        when(bookClubRepo.findSliceForUserAfter(
+                        any(UUID.class), any(LocalDateTime.class), any(UUID.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(bookClubDTO().build())));
+
+        CursorPageDTO<BookClubDTO> result = bookClubService.findAllForUserByCursor(
+                new KeysetCursor(LocalDateTime.now(), UUID.randomUUID()).encode(), 10);
+
+        verify(bookClubRepo, times(1))
+                .findSliceForUserAfter(
+                        any(UUID.class), any(LocalDateTime.class), any(UUID.class), any(Pageable.class));
+        assertThat(result.getContent()).hasSize(1);
+        securityUtilMockedStatic.close();
+    }
+
+    @Test
+    void testFindAllForUserByCursor_NoUser() {
+        assertThrows(UserNotFoundException.class, () -> bookClubService.findAllForUserByCursor(null, 10));
+    }
+
+    @Test
+    void testSearchByCursor() {
+        when(bookClubRepo.findFirstSearchSlice(any(Publicity.class), anyString(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(bookClubDTO().build())));
+
+        CursorPageDTO<BookClubDTO> result = bookClubService.searchByCursor("foo", null, 10);
+
+        verify(bookClubRepo, times(1)).findFirstSearchSlice(Publicity.PRIVATE, "foo", PageRequest.of(0, 10));
+        assertThat(result.getContent()).hasSize(1);
+    }
+
+    @Test
+    void testSearchByCursor_EscapesWildcards() {
+        when(bookClubRepo.findFirstSearchSlice(any(Publicity.class), anyString(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of()));
+
+        bookClubService.searchByCursor("100%_club", null, 10);
+
+        verify(bookClubRepo, times(1))
+                .findFirstSearchSlice(Publicity.PRIVATE, "100\\%\\_club", PageRequest.of(0, 10));
+    }
+
+    @Test
+    void testSearchByCursor_TooShort() {
+        assertThrows(SearchTermTooShortException.class, () -> bookClubService.searchByCursor("fo", null, 10));
+        verify(bookClubRepo, times(0)).findFirstSearchSlice(any(Publicity.class), anyString(), any(Pageable.class));
+    }
+
     @Test
     void testGetPreSignedStockBookClubImageURLs() {
-        when(s3Service.listS3ObjectsAtPrefix(anyString()))
-                .thenReturn(List.of(
-                        S3Object.builder().key("test").size(1L).build(),
-                        S3Object.builder().key("test2").size(0L).build()));
+        when(stockImageService.getStockImages())
+                .thenReturn(List.of(S3ImageDTO.builder()
+                        .fileName("test")
+                        .url("https://test.com")
+                        .build()));
 
         List<S3ImageDTO> result = bookClubService.getStockBookClubImages();
 
-        verify(s3Service, times(1)).listS3ObjectsAtPrefix(anyString());
+        verify(stockImageService, times(1)).getStockImages();
         assertThat(result).isNotNull();
         assertThat(result.size()).isEqualTo(1);
     }
+
+    /** Starts a book club DTO as the repository's projections return it, with the image file name filled in */
+    private static BookClubDTO.BookClubDTOBuilder bookClubDTO() {
+        return BookClubDTO.builder().image(S3ImageDTO.builder().fileName("image.jpg").build());
+    }
 }
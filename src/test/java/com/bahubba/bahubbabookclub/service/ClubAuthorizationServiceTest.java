@@ -0,0 +1,149 @@
+package com.bahubba.bahubbabookclub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.bahubba.bahubbabookclub.cache.ClubRoleCache;
+import com.bahubba.bahubbabookclub.exception.UnauthorizedBookClubActionException;
+import com.bahubba.bahubbabookclub.model.dto.ClubRoleDTO;
+import com.bahubba.bahubbabookclub.model.enums.BookClubRole;
+import com.bahubba.bahubbabookclub.repository.BookClubMembershipRepo;
+import com.bahubba.bahubbabookclub.repository.BookClubRepo;
+import com.bahubba.bahubbabookclub.service.impl.ClubAuthorizationServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the {@link ClubAuthorizationService} and its caching */
+class ClubAuthorizationServiceTest {
+    private BookClubMembershipRepo bookClubMembershipRepo;
+    private BookClubRepo bookClubRepo;
+    private ClubAuthorizationService clubAuthorizationService;
+
+    @BeforeEach
+    void setUp() {
+        bookClubMembershipRepo = mock(BookClubMembershipRepo.class);
+        bookClubRepo = mock(BookClubRepo.class);
+        clubAuthorizationService = new ClubAuthorizationServiceImpl(
+                new ClubRoleCache(100, 60, new SimpleMeterRegistry()), bookClubMembershipRepo, bookClubRepo);
+    }
+
+    @Test
+    void testGetClubRole_Cached() {
+        UUID bookClubID = UUID.randomUUID();
+        UUID userID = UUID.randomUUID();
+        when(bookClubMembershipRepo.findActiveRoleByBookClubIdAndUserId(bookClubID, userID))
+                .thenReturn(Optional.of(new ClubRoleDTO(BookClubRole.ADMIN, false)));
+
+        assertDoesNotThrow(() -> clubAuthorizationService.requireAdmin(bookClubID, userID));
+        assertThat(clubAuthorizationService.getClubRole(bookClubID, userID).getClubRole())
+                .isEqualTo(BookClubRole.ADMIN);
+
+        verify(bookClubMembershipRepo, times(1)).findActiveRoleByBookClubIdAndUserId(bookClubID, userID);
+    }
+
+    @Test
+    void testGetClubRole_NotMember() {
+        when(bookClubMembershipRepo.findActiveRoleByBookClubIdAndUserId(any(UUID.class), any(UUID.class)))
+                .thenReturn(Optional.empty());
+
+        ClubRoleDTO result = clubAuthorizationService.getClubRole(UUID.randomUUID(), UUID.randomUUID());
+
+        assertThat(result.getClubRole()).isEqualTo(BookClubRole.NONE);
+        assertThat(result.isOwner()).isFalse();
+    }
+
+    @Test
+    void testGetClubRole_ByName() {
+        UUID bookClubID = UUID.randomUUID();
+        UUID userID = UUID.randomUUID();
+        when(bookClubRepo.findIdByName("foo")).thenReturn(Optional.of(bookClubID));
+        when(bookClubMembershipRepo.findActiveRoleByBookClubIdAndUserId(bookClubID, userID))
+                .thenReturn(Optional.of(new ClubRoleDTO(BookClubRole.USER, false)));
+
+        clubAuthorizationService.getClubRole("foo", userID);
+        ClubRoleDTO result = clubAuthorizationService.getClubRole("foo", userID);
+
+        assertThat(result.getClubRole()).isEqualTo(BookClubRole.USER);
+        verify(bookClubRepo, times(1)).findIdByName("foo");
+        verify(bookClubMembershipRepo, times(1)).findActiveRoleByBookClubIdAndUserId(bookClubID, userID);
+    }
+
+    @Test
+    void testGetClubRole_UnknownBookClub() {
+        when(bookClubRepo.findIdByName(anyString())).thenReturn(Optional.empty());
+
+        assertThat(clubAuthorizationService.getClubRole("foo", UUID.randomUUID()).getClubRole())
+                .isEqualTo(BookClubRole.NONE);
+        assertThrows(
+                UnauthorizedBookClubActionException.class,
+                () -> clubAuthorizationService.requireAdmin("foo", UUID.randomUUID()));
+        verify(bookClubMembershipRepo, times(0)).findActiveRoleByBookClubIdAndUserId(any(UUID.class), any(UUID.class));
+    }
+
+    @Test
+    void testRequireAdmin_NotAdmin() {
+        when(bookClubMembershipRepo.findActiveRoleByBookClubIdAndUserId(any(UUID.class), any(UUID.class)))
+                .thenReturn(Optional.of(new ClubRoleDTO(BookClubRole.USER, false)));
+
+        assertThrows(
+                UnauthorizedBookClubActionException.class,
+                () -> clubAuthorizationService.requireAdmin(UUID.randomUUID(), UUID.randomUUID()));
+    }
+
+    @Test
+    void testRequireOwner() {
+        UUID ownerClubID = UUID.randomUUID();
+        UUID adminClubID = UUID.randomUUID();
+        UUID userID = UUID.randomUUID();
+        when(bookClubMembershipRepo.findActiveRoleByBookClubIdAndUserId(ownerClubID, userID))
+                .thenReturn(Optional.of(new ClubRoleDTO(BookClubRole.ADMIN, true)));
+        when(bookClubMembershipRepo.findActiveRoleByBookClubIdAndUserId(adminClubID, userID))
+                .thenReturn(Optional.of(new ClubRoleDTO(BookClubRole.ADMIN, false)));
+
+        assertDoesNotThrow(() -> clubAuthorizationService.requireOwner(ownerClubID, userID));
+        assertThrows(
+                UnauthorizedBookClubActionException.class,
+                () -> clubAuthorizationService.requireOwner(adminClubID, userID));
+    }
+
+    @Test
+    void testEvict() {
+        UUID bookClubID = UUID.randomUUID();
+        UUID userID = UUID.randomUUID();
+        when(bookClubMembershipRepo.findActiveRoleByBookClubIdAndUserId(bookClubID, userID))
+                .thenReturn(Optional.of(new ClubRoleDTO(BookClubRole.ADMIN, false)))
+                .thenReturn(Optional.empty());
+
+        clubAuthorizationService.requireAdmin(bookClubID, userID);
+        clubAuthorizationService.evict(bookClubID, userID);
+
+        assertThrows(
+                UnauthorizedBookClubActionException.class,
+                () -> clubAuthorizationService.requireAdmin(bookClubID, userID));
+        verify(bookClubMembershipRepo, times(2)).findActiveRoleByBookClubIdAndUserId(bookClubID, userID);
+    }
+
+    @Test
+    void testEvictBookClubName() {
+        UUID oldID = UUID.randomUUID();
+        UUID newID = UUID.randomUUID();
+        when(bookClubRepo.findIdByName("foo")).thenReturn(Optional.of(oldID)).thenReturn(Optional.of(newID));
+        when(bookClubMembershipRepo.findActiveRoleByBookClubIdAndUserId(any(UUID.class), any(UUID.class)))
+                .thenReturn(Optional.empty());
+
+        UUID userID = UUID.randomUUID();
+        clubAuthorizationService.getClubRole("foo", userID);
+        clubAuthorizationService.evictBookClubName("foo");
+        clubAuthorizationService.getClubRole("foo", userID);
+
+        verify(bookClubMembershipRepo, times(1)).findActiveRoleByBookClubIdAndUserId(oldID, userID);
+        verify(bookClubMembershipRepo, times(1)).findActiveRoleByBookClubIdAndUserId(newID, userID);
+    }
+}
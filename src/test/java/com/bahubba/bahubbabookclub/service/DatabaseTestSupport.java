@@ -0,0 +1,74 @@
+package com.bahubba.bahubbabookclub.service;
+
+import com.bahubba.bahubbabookclub.model.entity.User;
+import com.bahubba.bahubbabookclub.notification.NotificationDispatcher;
+import com.bahubba.bahubbabookclub.repository.BookClubMembershipRepo;
+import com.bahubba.bahubbabookclub.repository.BookClubRepo;
+import com.bahubba.bahubbabookclub.repository.UserRepo;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Shared fixture for tests that seed the database and count the SQL their calls issue. Hibernate statistics are on for
+ * each test and set back afterwards, since the context is shared with tests that rely on the configured setting.
+ * Memberships, book clubs and users are deleted after each test, once the test's own cleanup has deleted anything
+ * referencing them
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+abstract class DatabaseTestSupport {
+    @Autowired
+    BookClubRepo bookClubRepo;
+
+    @Autowired
+    BookClubMembershipRepo bookClubMembershipRepo;
+
+    @Autowired
+    UserRepo userRepo;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    // Notifications are written off the request path; keep the writer's statements out of the counts
+    @MockBean
+    NotificationDispatcher notificationDispatcher;
+
+    Statistics statistics;
+    private boolean statisticsWereEnabled;
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statisticsWereEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void restoreStatisticsAndDeleteSeeds() {
+        statistics.setStatisticsEnabled(statisticsWereEnabled);
+        bookClubMembershipRepo.deleteAll();
+        bookClubRepo.deleteAll();
+        userRepo.deleteAll();
+    }
+
+    /**
+     * Saves a user with the given username and an email derived from it
+     *
+     * @param username The username
+     * @return The saved user
+     */
+    User saveUser(String username) {
+        return userRepo.save(User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password("password")
+                .build());
+    }
+}
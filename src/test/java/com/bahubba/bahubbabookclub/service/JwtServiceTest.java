@@ -8,13 +8,16 @@ import static org.mockito.Mockito.*;
 import com.bahubba.bahubbabookclub.exception.TokenRefreshException;
 import com.bahubba.bahubbabookclub.exception.UserNotFoundException;
 import com.bahubba.bahubbabookclub.model.dto.AuthDTO;
+import com.bahubba.bahubbabookclub.model.dto.VerifiedTokenDTO;
 import com.bahubba.bahubbabookclub.model.entity.RefreshToken;
 import com.bahubba.bahubbabookclub.model.entity.User;
 import com.bahubba.bahubbabookclub.repository.RefreshTokenRepo;
 import com.bahubba.bahubbabookclub.repository.UserRepo;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.Cookie;
 import java.time.Instant;
 import java.util.Date;
@@ -43,6 +46,9 @@ class JwtServiceTest {
     @MockBean
     private UserRepo userRepo;
 
+    @Autowired
+    MeterRegistry meterRegistry;
+
     @Value("${app.properties.auth_cookie_name}")
     private String authCookieName;
 
@@ -142,6 +148,98 @@ class JwtServiceTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    void testIsTokenValid_Expired() {
+        boolean result = jwtService.isTokenValid(
+                Jwts.builder()
+                        .setSubject("someuser")
+                        .setExpiration(new Date(System.currentTimeMillis() - 1000 * 60))
+                        .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
+                        .compact(),
+                User.builder().username("someuser").build());
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void testValidateToken() {
+        Date expiration = new Date(System.currentTimeMillis() + 1000 * 60 * 60);
+
+        Optional<VerifiedTokenDTO> result = jwtService.validateToken(Jwts.builder()
+                .setSubject("someuser")
+                .setExpiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
+                .compact());
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getUsername()).isEqualTo("someuser");
+        assertThat(result.get().getExpiration().getEpochSecond()).isEqualTo(expiration.getTime() / 1000);
+    }
+
+    @Test
+    void testValidateToken_Expired() {
+        Optional<VerifiedTokenDTO> result = jwtService.validateToken(Jwts.builder()
+                .setSubject("someuser")
+                .setExpiration(new Date(System.currentTimeMillis() - 1000 * 60))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
+                .compact());
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void testValidateToken_WrongKey() {
+        Optional<VerifiedTokenDTO> result = jwtService.validateToken(Jwts.builder()
+                .setSubject("someuser")
+                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60))
+                .signWith(Keys.secretKeyFor(SignatureAlgorithm.HS256))
+                .compact());
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void testValidateToken_NoExpiration() {
+        Optional<VerifiedTokenDTO> result = jwtService.validateToken(Jwts.builder()
+                .setSubject("someuser")
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
+                .compact());
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void testValidateToken_Malformed() {
+        assertThat(jwtService.validateToken("not.a.jwt")).isEmpty();
+    }
+
+    @Test
+    void testValidateToken_Empty() {
+        assertThat(jwtService.validateToken(null)).isEmpty();
+        assertThat(jwtService.validateToken("")).isEmpty();
+    }
+
+    @Test
+    void testEvictToken() {
+        String token = Jwts.builder()
+                .setSubject("someuser")
+                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
+                .compact();
+
+        assertThat(jwtService.validateToken(token)).isPresent();
+        double missesBefore = verifiedTokenCacheMisses();
+
+        // Cached, so a repeat lookup doesn't verify the token again
+        assertThat(jwtService.validateToken(token)).isPresent();
+        assertThat(verifiedTokenCacheMisses()).isEqualTo(missesBefore);
+
+        // Evicted, so the next lookup misses and verifies the token again
+        jwtService.evictToken(token);
+        assertThat(jwtService.validateToken(token)).isPresent();
+        assertThat(verifiedTokenCacheMisses()).isEqualTo(missesBefore + 1);
+    }
+
     @Test
     void testRefreshTokenFromReq() {
         when(refreshTokenRepo.findByToken(anyString()))
@@ -276,4 +374,13 @@ class JwtServiceTest {
         verify(refreshTokenRepo, times(1)).findByToken(anyString());
         verify(refreshTokenRepo, times(1)).delete(any(RefreshToken.class));
     }
+
+    private double verifiedTokenCacheMisses() {
+        return meterRegistry
+                .get("cache.gets")
+                .tag("cache", "verifiedTokens")
+                .tag("result", "miss")
+                .functionCounter()
+                .count();
+    }
 }
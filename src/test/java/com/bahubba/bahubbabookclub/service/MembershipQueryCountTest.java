@@ -0,0 +1,81 @@
+package com.bahubba.bahubbabookclub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mockStatic;
+
+import com.bahubba.bahubbabookclub.model.dto.BookClubMembershipDTO;
+import com.bahubba.bahubbabookclub.model.entity.BookClub;
+import com.bahubba.bahubbabookclub.model.entity.BookClubMembership;
+import com.bahubba.bahubbabookclub.model.entity.User;
+import com.bahubba.bahubbabookclub.model.enums.BookClubRole;
+import com.bahubba.bahubbabookclub.util.SecurityUtil;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+
+/**
+ * Regression tests for the SQL issued when listing a book club's members. A page of memberships must come with its
+ * users and book club, so the statement count doesn't grow with the number of members on the page
+ */
+class MembershipQueryCountTest extends DatabaseTestSupport {
+    private static final int SMALL_PAGE = 2;
+    private static final int LARGE_PAGE = 40;
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    MembershipService membershipService;
+
+    private int clubCount;
+
+    @Test
+    void testGetAll_StatementCountIndependentOfRowsOnPage() {
+        long small = getPageOfMembers(SMALL_PAGE);
+        long large = getPageOfMembers(LARGE_PAGE);
+
+        assertThat(large).isEqualTo(small);
+        assertThat(large).isLessThanOrEqualTo(4);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    /**
+     * Lists the members of a freshly seeded book club, recording the statements it issued
+     *
+     * @param memberCount The number of members, including the admin, all fitting on one page
+     * @return The number of statements issued by the listing alone
+     */
+    private long getPageOfMembers(int memberCount) {
+        String prefix = "club" + (++clubCount) + "-";
+        BookClub bookClub = bookClubRepo.save(BookClub.builder()
+                .name(prefix + "name")
+                .imageFileName("image.jpg")
+                .build());
+
+        User admin = saveUser(prefix + "admin");
+        bookClubMembershipRepo.save(BookClubMembership.builder()
+                .bookClub(bookClub)
+                .user(admin)
+                .clubRole(BookClubRole.ADMIN)
+                .isOwner(true)
+                .build());
+        for (int i = 1; i < memberCount; i++) {
+            bookClubMembershipRepo.save(BookClubMembership.builder()
+                    .bookClub(bookClub)
+                    .user(saveUser(prefix + "member" + i))
+                    .build());
+        }
+
+        try (MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class)) {
+            securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(admin);
+
+            statistics.clear();
+            Page<BookClubMembershipDTO> page = membershipService.getAll(bookClub.getName(), 0, PAGE_SIZE);
+            assertThat(page.getContent()).hasSize(memberCount);
+            assertThat(page.getContent())
+                    .extracting(membership -> membership.getUser().getUsername())
+                    .allMatch(username -> username.startsWith(prefix));
+        }
+
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,197 @@
+package com.bahubba.bahubbabookclub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mockStatic;
+
+import com.bahubba.bahubbabookclub.model.dto.MembershipRequestDTO;
+import com.bahubba.bahubbabookclub.model.entity.BookClub;
+import com.bahubba.bahubbabookclub.model.entity.BookClubMembership;
+import com.bahubba.bahubbabookclub.model.entity.MembershipRequest;
+import com.bahubba.bahubbabookclub.model.entity.User;
+import com.bahubba.bahubbabookclub.model.enums.BookClubRole;
+import com.bahubba.bahubbabookclub.model.enums.RequestAction;
+import com.bahubba.bahubbabookclub.model.payload.MembershipRequestAction;
+import com.bahubba.bahubbabookclub.repository.MembershipRequestRepo;
+import com.bahubba.bahubbabookclub.util.SecurityUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+
+/**
+ * Regression tests for the SQL issued by membership request review and listing. Admin and membership checks must be
+ * targeted queries, and a page of requests must come with its users, so the statement count doesn't grow with the
+ * number of members in the book club or of requests on the page
+ */
+class MembershipRequestQueryCountTest extends DatabaseTestSupport {
+    private static final int SMALL_CLUB = 3;
+    private static final int LARGE_CLUB = 150;
+    private static final int SMALL_PAGE = 2;
+    private static final int LARGE_PAGE = 40;
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    MembershipRequestService membershipRequestService;
+
+    @Autowired
+    MembershipRequestRepo membershipRequestRepo;
+
+    private int clubCount;
+
+    @AfterEach
+    void tearDown() {
+        membershipRequestRepo.deleteAll();
+    }
+
+    @Test
+    void testReviewMembershipRequest_StatementCountIndependentOfMembers() {
+        QueryCounts small = reviewRequestInClubOf(SMALL_CLUB);
+        QueryCounts large = reviewRequestInClubOf(LARGE_CLUB);
+
+        assertThat(large.statements()).isEqualTo(small.statements());
+        assertThat(large.statements()).isLessThanOrEqualTo(6);
+        assertThat(large.entityLoads()).isLessThanOrEqualTo(4);
+        assertThat(large.collectionLoads()).isZero();
+    }
+
+    @Test
+    void testGetMembershipRequestsForBookClub_StatementCountIndependentOfMembers() {
+        QueryCounts small = getRequestsInClubOf(SMALL_CLUB);
+        QueryCounts large = getRequestsInClubOf(LARGE_CLUB);
+
+        assertThat(large.statements()).isEqualTo(small.statements());
+        assertThat(large.statements()).isLessThanOrEqualTo(4);
+        assertThat(large.collectionLoads()).isZero();
+    }
+
+    @Test
+    void testGetMembershipRequestsForBookClub_StatementCountIndependentOfRowsOnPage() {
+        QueryCounts small = getPageOfRequests(SMALL_PAGE);
+        QueryCounts large = getPageOfRequests(LARGE_PAGE);
+
+        assertThat(large.statements()).isEqualTo(small.statements());
+        assertThat(large.statements()).isLessThanOrEqualTo(4);
+        assertThat(large.collectionLoads()).isZero();
+    }
+
+    /**
+     * Approves a membership request in a freshly seeded book club, recording the statements it issued
+     *
+     * @param memberCount The number of members in the book club besides its admin
+     * @return The query counts for the review alone
+     */
+    private QueryCounts reviewRequestInClubOf(int memberCount) {
+        SeededClub club = seedClub(memberCount);
+
+        try (MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class)) {
+            securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(club.admin());
+
+            statistics.clear();
+            membershipRequestService.reviewMembershipRequest(MembershipRequestAction.builder()
+                    .membershipRequest(MembershipRequestDTO.builder()
+                            .id(club.request().getId())
+                            .build())
+                    .action(RequestAction.APPROVE)
+                    .role(BookClubRole.USER)
+                    .build());
+        }
+
+        return snapshot();
+    }
+
+    /**
+     * Lists a freshly seeded book club's membership requests, recording the statements it issued
+     *
+     * @param memberCount The number of members in the book club besides its admin
+     * @return The query counts for the listing alone
+     */
+    private QueryCounts getRequestsInClubOf(int memberCount) {
+        SeededClub club = seedClub(memberCount);
+
+        try (MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class)) {
+            securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(club.admin());
+
+            statistics.clear();
+            membershipRequestService.getMembershipRequestsForBookClub(club.bookClub().getName(), 0, 10);
+        }
+
+        return snapshot();
+    }
+
+    /**
+     * Lists a page of requests in a freshly seeded book club, from distinct users and half of them reviewed, recording
+     * the statements it issued
+     *
+     * @param requestCount The number of requests in the book club, all fitting on one page
+     * @return The query counts for the listing alone
+     */
+    private QueryCounts getPageOfRequests(int requestCount) {
+        SeededClub club = seedClub(0);
+        for (int i = 1; i < requestCount; i++) {
+            membershipRequestRepo.save(MembershipRequest.builder()
+                    .bookClub(club.bookClub())
+                    .user(saveUser(club.bookClub().getName() + "-requester" + i))
+                    .reviewer(i % 2 == 0 ? club.admin() : null)
+                    .build());
+        }
+
+        try (MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class)) {
+            securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(club.admin());
+
+            statistics.clear();
+            Page<MembershipRequestDTO> page = membershipRequestService.getMembershipRequestsForBookClub(
+                    club.bookClub().getName(), 0, PAGE_SIZE);
+            assertThat(page.getContent()).hasSize(requestCount);
+        }
+
+        return snapshot();
+    }
+
+    /**
+     * Seeds a book club with an admin, the given number of other members, and an open request from a non-member
+     *
+     * @param memberCount The number of members besides the admin
+     * @return The seeded entities
+     */
+    private SeededClub seedClub(int memberCount) {
+        String prefix = "club" + (++clubCount) + "-";
+        BookClub bookClub = bookClubRepo.save(BookClub.builder()
+                .name(prefix + "name")
+                .imageFileName("image.jpg")
+                .build());
+
+        User admin = saveUser(prefix + "admin");
+        bookClubMembershipRepo.save(BookClubMembership.builder()
+                .bookClub(bookClub)
+                .user(admin)
+                .clubRole(BookClubRole.ADMIN)
+                .isOwner(true)
+                .build());
+        for (int i = 0; i < memberCount; i++) {
+            bookClubMembershipRepo.save(BookClubMembership.builder()
+                    .bookClub(bookClub)
+                    .user(saveUser(prefix + "member" + i))
+                    .build());
+        }
+
+        MembershipRequest request = membershipRequestRepo.save(MembershipRequest.builder()
+                .bookClub(bookClub)
+                .user(saveUser(prefix + "requester"))
+                .build());
+
+        return new SeededClub(bookClub, admin, request);
+    }
+
+    /** Copies the counters this test compares, since the statistics are cleared between runs */
+    private QueryCounts snapshot() {
+        return new QueryCounts(
+                statistics.getPrepareStatementCount(),
+                statistics.getEntityLoadCount(),
+                statistics.getCollectionLoadCount());
+    }
+
+    private record SeededClub(BookClub bookClub, User admin, MembershipRequest request) {}
+
+    private record QueryCounts(long statements, long entityLoads, long collectionLoads) {}
+}
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 
 import com.bahubba.bahubbabookclub.exception.*;
 import com.bahubba.bahubbabookclub.model.dto.BookClubDTO;
+import com.bahubba.bahubbabookclub.model.dto.ClubRoleDTO;
 import com.bahubba.bahubbabookclub.model.dto.MembershipRequestDTO;
 import com.bahubba.bahubbabookclub.model.dto.UserDTO;
 import com.bahubba.bahubbabookclub.model.entity.BookClub;
@@ -14,16 +15,19 @@ import com.bahubba.bahubbabookclub.model.entity.BookClubMembership;
 import com.bahubba.bahubbabookclub.model.entity.MembershipRequest;
 import com.bahubba.bahubbabookclub.model.entity.User;
 import com.bahubba.bahubbabookclub.model.enums.BookClubRole;
+import com.bahubba.bahubbabookclub.model.enums.NotificationType;
 import com.bahubba.bahubbabookclub.model.enums.RequestAction;
 import com.bahubba.bahubbabookclub.model.enums.RequestStatus;
 import com.bahubba.bahubbabookclub.model.payload.MembershipRequestAction;
 import com.bahubba.bahubbabookclub.model.payload.NewMembershipRequest;
+import com.bahubba.bahubbabookclub.notification.NotificationDispatcher;
+import com.bahubba.bahubbabookclub.notification.NotificationEvent;
 import com.bahubba.bahubbabookclub.repository.BookClubMembershipRepo;
 import com.bahubba.bahubbabookclub.repository.BookClubRepo;
 import com.bahubba.bahubbabookclub.repository.MembershipRequestRepo;
 import com.bahubba.bahubbabookclub.util.SecurityUtil;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
@@ -31,6 +35,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -49,18 +54,27 @@ class MembershipRequestServiceTest {
     @MockBean
     BookClubMembershipRepo bookClubMembershipRepo;
 
+    @MockBean
+    ClubAuthorizationService clubAuthorizationService;
+
+    @MockBean
+    NotificationDispatcher notificationDispatcher;
+
     @Test
     void testRequestMembership() {
         MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class);
         securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(new User());
         when(bookClubRepo.findByName(anyString())).thenReturn(Optional.of(new BookClub()));
         when(membershipRequestRepo.save(any(MembershipRequest.class))).thenReturn(new MembershipRequest());
+        when(bookClubMembershipRepo.findActiveUserIdsByBookClubIdAndClubRole(any(), eq(BookClubRole.ADMIN)))
+                .thenReturn(List.of(UUID.randomUUID(), UUID.randomUUID()));
 
         MembershipRequestDTO result = membershipRequestService.requestMembership(
                 NewMembershipRequest.builder().bookClubName("foo").build());
 
         verify(bookClubRepo, times(1)).findByName(anyString());
         verify(membershipRequestRepo, times(1)).save(any(MembershipRequest.class));
+        verify(notificationDispatcher, times(2)).dispatch(any(NotificationEvent.class));
         assertThat(result).isNotNull();
         securityUtilMockedStatic.close();
     }
@@ -117,13 +131,11 @@ class MembershipRequestServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testID).build());
 
+        when(clubAuthorizationService.getClubRole(any(UUID.class), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.ADMIN, false));
         when(bookClubRepo.findByName(anyString()))
                 .thenReturn(Optional.of(BookClub.builder()
                         .id(UUID.randomUUID())
-                        .members(Set.of(BookClubMembership.builder()
-                                .clubRole(BookClubRole.ADMIN)
-                                .user(User.builder().id(testID).build())
-                                .build()))
                         .build()));
         when(membershipRequestRepo.findAllByBookClubIdOrderByRequestedDesc(any(UUID.class), any(Pageable.class)))
                 .thenReturn(Page.empty());
@@ -185,13 +197,11 @@ class MembershipRequestServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testID).build());
 
+        when(clubAuthorizationService.getClubRole(any(UUID.class), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.NONE, false));
         when(bookClubRepo.findByName(anyString()))
                 .thenReturn(Optional.of(BookClub.builder()
                         .id(UUID.randomUUID())
-                        .members(Set.of(BookClubMembership.builder()
-                                .clubRole(BookClubRole.ADMIN)
-                                .user(User.builder().id(UUID.randomUUID()).build())
-                                .build()))
                         .build()));
 
         assertThrows(
@@ -214,13 +224,11 @@ class MembershipRequestServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testID).build());
 
+        when(clubAuthorizationService.getClubRole(any(UUID.class), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.USER, false));
         when(bookClubRepo.findByName(anyString()))
                 .thenReturn(Optional.of(BookClub.builder()
                         .id(UUID.randomUUID())
-                        .members(Set.of(BookClubMembership.builder()
-                                .clubRole(BookClubRole.USER)
-                                .user(User.builder().id(testID).build())
-                                .build()))
                         .build()));
 
         assertThrows(
@@ -243,24 +251,20 @@ class MembershipRequestServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testID).build());
 
+        when(clubAuthorizationService.getClubRole(any(UUID.class), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.ADMIN, false));
         when(bookClubRepo.findByName(anyString()))
                 .thenReturn(Optional.of(BookClub.builder()
                         .id(UUID.randomUUID())
-                        .members(Set.of(BookClubMembership.builder()
-                                .clubRole(BookClubRole.ADMIN)
-                                .user(User.builder().id(testID).build())
-                                .build()))
                         .build()));
         when(membershipRequestRepo.findAllByBookClubIdOrderByRequestedDesc(any(UUID.class), any(Pageable.class)))
                 .thenReturn(Page.empty());
 
-        assertThrows(
-                PageSizeTooSmallException.class,
-                () -> membershipRequestService.getMembershipRequestsForBookClub("foo", 1, -1));
+        membershipRequestService.getMembershipRequestsForBookClub("foo", 1, -1);
 
         verify(bookClubRepo, times(1)).findByName(anyString());
         verify(membershipRequestRepo, times(1))
-                .findAllByBookClubIdOrderByRequestedDesc(any(UUID.class), any(Pageable.class));
+                .findAllByBookClubIdOrderByRequestedDesc(any(UUID.class), eq(PageRequest.of(1, 10)));
 
         securityUtilMockedStatic.close();
     }
@@ -274,24 +278,20 @@ class MembershipRequestServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testID).build());
 
+        when(clubAuthorizationService.getClubRole(any(UUID.class), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.ADMIN, false));
         when(bookClubRepo.findByName(anyString()))
                 .thenReturn(Optional.of(BookClub.builder()
                         .id(UUID.randomUUID())
-                        .members(Set.of(BookClubMembership.builder()
-                                .clubRole(BookClubRole.ADMIN)
-                                .user(User.builder().id(testID).build())
-                                .build()))
                         .build()));
         when(membershipRequestRepo.findAllByBookClubIdOrderByRequestedDesc(any(UUID.class), any(Pageable.class)))
                 .thenReturn(Page.empty());
 
-        assertThrows(
-                PageSizeTooLargeException.class,
-                () -> membershipRequestService.getMembershipRequestsForBookClub("foo", 1, 51));
+        membershipRequestService.getMembershipRequestsForBookClub("foo", 1, 51);
 
         verify(bookClubRepo, times(1)).findByName(anyString());
         verify(membershipRequestRepo, times(1))
-                .findAllByBookClubIdOrderByRequestedDesc(any(UUID.class), any(Pageable.class));
+                .findAllByBookClubIdOrderByRequestedDesc(any(UUID.class), eq(PageRequest.of(1, 50)));
 
         securityUtilMockedStatic.close();
     }
@@ -304,16 +304,13 @@ class MembershipRequestServiceTest {
         securityUtilMockedStatic
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testID).username("foo").build());
+        when(clubAuthorizationService.getClubRole(any(UUID.class), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.ADMIN, false));
         when(membershipRequestRepo.findById(any(UUID.class)))
                 .thenReturn(Optional.of(MembershipRequest.builder()
                         .id(UUID.randomUUID())
                         .user(User.builder().id(UUID.randomUUID()).build())
-                        .bookClub(BookClub.builder()
-                                .members(Set.of(BookClubMembership.builder()
-                                        .clubRole(BookClubRole.ADMIN)
-                                        .user(User.builder().id(testID).build())
-                                        .build()))
-                                .build())
+                        .bookClub(BookClub.builder().id(UUID.randomUUID()).build())
                         .status(RequestStatus.OPEN)
                         .build()));
         when(membershipRequestRepo.save(any(MembershipRequest.class))).thenReturn(new MembershipRequest());
@@ -334,7 +331,10 @@ class MembershipRequestServiceTest {
 
         verify(membershipRequestRepo, times(1)).findById(any(UUID.class));
         verify(bookClubMembershipRepo, times(1)).save(any(BookClubMembership.class));
+        verify(clubAuthorizationService, times(1)).evict(any(UUID.class), any(UUID.class));
         verify(membershipRequestRepo, times(1)).save(any(MembershipRequest.class));
+        verify(notificationDispatcher, times(1))
+                .dispatch(argThat(event -> event.getType() == NotificationType.MEMBERSHIP_APPROVED));
         assertThat(result).isNotNull();
 
         securityUtilMockedStatic.close();
@@ -348,16 +348,13 @@ class MembershipRequestServiceTest {
         securityUtilMockedStatic
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testID).username("foo").build());
+        when(clubAuthorizationService.getClubRole(any(UUID.class), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.ADMIN, false));
         when(membershipRequestRepo.findById(any(UUID.class)))
                 .thenReturn(Optional.of(MembershipRequest.builder()
                         .id(UUID.randomUUID())
                         .user(User.builder().id(UUID.randomUUID()).build())
-                        .bookClub(BookClub.builder()
-                                .members(Set.of(BookClubMembership.builder()
-                                        .clubRole(BookClubRole.ADMIN)
-                                        .user(User.builder().id(testID).build())
-                                        .build()))
-                                .build())
+                        .bookClub(BookClub.builder().id(UUID.randomUUID()).build())
                         .status(RequestStatus.OPEN)
                         .build()));
         when(membershipRequestRepo.save(any(MembershipRequest.class))).thenReturn(new MembershipRequest());
@@ -379,6 +376,8 @@ class MembershipRequestServiceTest {
         verify(membershipRequestRepo, times(1)).findById(any(UUID.class));
         verify(bookClubMembershipRepo, times(0)).save(any(BookClubMembership.class));
         verify(membershipRequestRepo, times(1)).save(any(MembershipRequest.class));
+        verify(notificationDispatcher, times(1))
+                .dispatch(argThat(event -> event.getType() == NotificationType.MEMBERSHIP_DECLINED));
         assertThat(result).isNotNull();
 
         securityUtilMockedStatic.close();
@@ -425,18 +424,13 @@ class MembershipRequestServiceTest {
         securityUtilMockedStatic
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testID).username("foo").build());
+        when(clubAuthorizationService.getClubRole(any(UUID.class), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.NONE, false));
         when(membershipRequestRepo.findById(any(UUID.class)))
                 .thenReturn(Optional.of(MembershipRequest.builder()
                         .id(UUID.randomUUID())
                         .user(User.builder().id(UUID.randomUUID()).build())
-                        .bookClub(BookClub.builder()
-                                .members(Set.of(BookClubMembership.builder()
-                                        .clubRole(BookClubRole.ADMIN)
-                                        .user(User.builder()
-                                                .id(UUID.randomUUID())
-                                                .build())
-                                        .build()))
-                                .build())
+                        .bookClub(BookClub.builder().id(UUID.randomUUID()).build())
                         .status(RequestStatus.OPEN)
                         .build()));
 
@@ -471,16 +465,13 @@ class MembershipRequestServiceTest {
         securityUtilMockedStatic
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testID).username("foo").build());
+        when(clubAuthorizationService.getClubRole(any(UUID.class), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.USER, false));
         when(membershipRequestRepo.findById(any(UUID.class)))
                 .thenReturn(Optional.of(MembershipRequest.builder()
                         .id(UUID.randomUUID())
                         .user(User.builder().id(UUID.randomUUID()).build())
-                        .bookClub(BookClub.builder()
-                                .members(Set.of(BookClubMembership.builder()
-                                        .clubRole(BookClubRole.USER)
-                                        .user(User.builder().id(testID).build())
-                                        .build()))
-                                .build())
+                        .bookClub(BookClub.builder().id(UUID.randomUUID()).build())
                         .status(RequestStatus.OPEN)
                         .build()));
 
@@ -515,16 +506,13 @@ class MembershipRequestServiceTest {
         securityUtilMockedStatic
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testID).username("foo").build());
+        when(clubAuthorizationService.getClubRole(any(UUID.class), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.ADMIN, false));
         when(membershipRequestRepo.findById(any(UUID.class)))
                 .thenReturn(Optional.of(MembershipRequest.builder()
                         .id(UUID.randomUUID())
                         .user(User.builder().id(UUID.randomUUID()).build())
-                        .bookClub(BookClub.builder()
-                                .members(Set.of(BookClubMembership.builder()
-                                        .clubRole(BookClubRole.ADMIN)
-                                        .user(User.builder().id(testID).build())
-                                        .build()))
-                                .build())
+                        .bookClub(BookClub.builder().id(UUID.randomUUID()).build())
                         .status(RequestStatus.APPROVED)
                         .build()));
 
@@ -560,25 +548,15 @@ class MembershipRequestServiceTest {
         securityUtilMockedStatic
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testReviewerID).username("foo").build());
+        when(clubAuthorizationService.getClubRole(any(UUID.class), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.ADMIN, false));
+        when(bookClubMembershipRepo.existsByBookClubIdAndUserId(any(UUID.class), any(UUID.class)))
+                .thenReturn(true);
         when(membershipRequestRepo.findById(any(UUID.class)))
                 .thenReturn(Optional.of(MembershipRequest.builder()
                         .id(UUID.randomUUID())
                         .user(User.builder().id(testMemberID).build())
-                        .bookClub(BookClub.builder()
-                                .members(Set.of(
-                                        BookClubMembership.builder()
-                                                .clubRole(BookClubRole.ADMIN)
-                                                .user(User.builder()
-                                                        .id(testReviewerID)
-                                                        .build())
-                                                .build(),
-                                        BookClubMembership.builder()
-                                                .clubRole(BookClubRole.USER)
-                                                .user(User.builder()
-                                                        .id(testMemberID)
-                                                        .build())
-                                                .build()))
-                                .build())
+                        .bookClub(BookClub.builder().id(UUID.randomUUID()).build())
                         .status(RequestStatus.OPEN)
                         .build()));
 
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.*;
 
 import com.bahubba.bahubbabookclub.exception.*;
 import com.bahubba.bahubbabookclub.model.dto.BookClubMembershipDTO;
+import com.bahubba.bahubbabookclub.model.dto.ClubRoleDTO;
 import com.bahubba.bahubbabookclub.model.entity.BookClub;
 import com.bahubba.bahubbabookclub.model.entity.BookClubMembership;
 import com.bahubba.bahubbabookclub.model.entity.User;
@@ -18,7 +19,6 @@ import com.bahubba.bahubbabookclub.model.payload.NewOwner;
 import com.bahubba.bahubbabookclub.repository.BookClubMembershipRepo;
 import com.bahubba.bahubbabookclub.repository.BookClubRepo;
 import com.bahubba.bahubbabookclub.util.SecurityUtil;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
@@ -27,6 +27,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -43,6 +44,9 @@ class MembershipServiceTest {
     @MockBean
     BookClubMembershipRepo bookClubMembershipRepo;
 
+    @MockBean
+    ClubAuthorizationService clubAuthorizationService;
+
     @Test
     void testGetAll() {
         UUID testID = UUID.randomUUID();
@@ -52,20 +56,12 @@ class MembershipServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testID).build());
 
-        when(bookClubMembershipRepo.findByBookClubNameAndClubRoleAndUserId(
-                        anyString(), any(BookClubRole.class), any(UUID.class)))
-                .thenReturn(Optional.of(BookClubMembership.builder()
-                        .user(User.builder().id(testID).build())
-                        .bookClub(BookClub.builder().id(UUID.randomUUID()).build())
-                        .clubRole(BookClubRole.ADMIN)
-                        .build()));
         when(bookClubMembershipRepo.findAllByBookClubNameOrderByJoined(anyString(), any(Pageable.class)))
                 .thenReturn(Page.empty());
 
         Page<BookClubMembershipDTO> result = membershipService.getAll("foo", 1, 1);
 
-        verify(bookClubMembershipRepo, times(1))
-                .findByBookClubNameAndClubRoleAndUserId(anyString(), any(BookClubRole.class), any(UUID.class));
+        verify(clubAuthorizationService, times(1)).requireAdmin(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(1)).findAllByBookClubNameOrderByJoined(anyString(), any(Pageable.class));
 
         securityUtilMockedStatic.close();
@@ -78,8 +74,7 @@ class MembershipServiceTest {
 
         assertThrows(UserNotFoundException.class, () -> membershipService.getAll("foo", 1, 1));
 
-        verify(bookClubMembershipRepo, times(0))
-                .findByBookClubNameAndClubRoleAndUserId(anyString(), any(BookClubRole.class), any(UUID.class));
+        verify(clubAuthorizationService, times(0)).requireAdmin(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0)).findAllByBookClubNameOrderByJoined(anyString(), any(Pageable.class));
 
         securityUtilMockedStatic.close();
@@ -92,13 +87,12 @@ class MembershipServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(UUID.randomUUID()).build());
 
-        when(bookClubMembershipRepo.findByBookClubNameAndClubRoleAndUserId(
-                        anyString(), any(BookClubRole.class), any(UUID.class)))
-                .thenReturn(Optional.empty());
+        doThrow(new UnauthorizedBookClubActionException())
+                .when(clubAuthorizationService)
+                .requireAdmin(anyString(), any(UUID.class));
 
         assertThrows(UnauthorizedBookClubActionException.class, () -> membershipService.getAll("foo", 1, 1));
-        verify(bookClubMembershipRepo, times(1))
-                .findByBookClubNameAndClubRoleAndUserId(anyString(), any(BookClubRole.class), any(UUID.class));
+        verify(clubAuthorizationService, times(1)).requireAdmin(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0)).findAllByBookClubNameOrderByJoined(anyString(), any(Pageable.class));
 
         securityUtilMockedStatic.close();
@@ -113,20 +107,13 @@ class MembershipServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testID).build());
 
-        when(bookClubMembershipRepo.findByBookClubNameAndClubRoleAndUserId(
-                        anyString(), any(BookClubRole.class), any(UUID.class)))
-                .thenReturn(Optional.of(BookClubMembership.builder()
-                        .user(User.builder().id(testID).build())
-                        .bookClub(BookClub.builder().id(UUID.randomUUID()).build())
-                        .clubRole(BookClubRole.ADMIN)
-                        .build()));
         when(bookClubMembershipRepo.findAllByBookClubNameOrderByJoined(anyString(), any(Pageable.class)))
                 .thenReturn(Page.empty());
 
-        assertThrows(PageSizeTooSmallException.class, () -> membershipService.getAll("foo", 1, -1));
+        membershipService.getAll("foo", 1, -1);
+        verify(clubAuthorizationService, times(1)).requireAdmin(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(1))
-                .findByBookClubNameAndClubRoleAndUserId(anyString(), any(BookClubRole.class), any(UUID.class));
-        verify(bookClubMembershipRepo, times(1)).findAllByBookClubNameOrderByJoined(anyString(), any(Pageable.class));
+                .findAllByBookClubNameOrderByJoined(anyString(), eq(PageRequest.of(1, 10)));
 
         securityUtilMockedStatic.close();
     }
@@ -140,20 +127,13 @@ class MembershipServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testID).build());
 
-        when(bookClubMembershipRepo.findByBookClubNameAndClubRoleAndUserId(
-                        anyString(), any(BookClubRole.class), any(UUID.class)))
-                .thenReturn(Optional.of(BookClubMembership.builder()
-                        .user(User.builder().id(testID).build())
-                        .bookClub(BookClub.builder().id(UUID.randomUUID()).build())
-                        .clubRole(BookClubRole.ADMIN)
-                        .build()));
         when(bookClubMembershipRepo.findAllByBookClubNameOrderByJoined(anyString(), any(Pageable.class)))
                 .thenReturn(Page.empty());
 
-        assertThrows(PageSizeTooLargeException.class, () -> membershipService.getAll("foo", 1, 51));
+        membershipService.getAll("foo", 1, 51);
+        verify(clubAuthorizationService, times(1)).requireAdmin(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(1))
-                .findByBookClubNameAndClubRoleAndUserId(anyString(), any(BookClubRole.class), any(UUID.class));
-        verify(bookClubMembershipRepo, times(1)).findAllByBookClubNameOrderByJoined(anyString(), any(Pageable.class));
+                .findAllByBookClubNameOrderByJoined(anyString(), eq(PageRequest.of(1, 50)));
 
         securityUtilMockedStatic.close();
     }
@@ -164,13 +144,27 @@ class MembershipServiceTest {
         securityUtilMockedStatic
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(UUID.randomUUID()).build());
-        when(bookClubMembershipRepo.findByBookClubNameAndUserId(anyString(), any(UUID.class)))
-                .thenReturn(Optional.of(new BookClubMembership()));
+        when(clubAuthorizationService.getClubRole(anyString(), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.PARTICIPANT, false));
 
         BookClubRole result = membershipService.getRole("foo");
 
-        verify(bookClubMembershipRepo, times(1)).findByBookClubNameAndUserId(anyString(), any(UUID.class));
-        assertThat(result).isNotNull();
+        verify(clubAuthorizationService, times(1)).getClubRole(anyString(), any(UUID.class));
+        assertThat(result).isEqualTo(BookClubRole.PARTICIPANT);
+        securityUtilMockedStatic.close();
+    }
+
+    @Test
+    void testGetRole_NotMember() {
+        MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class);
+        securityUtilMockedStatic
+                .when(SecurityUtil::getCurrentUserDetails)
+                .thenReturn(User.builder().id(UUID.randomUUID()).build());
+        when(clubAuthorizationService.getClubRole(anyString(), any(UUID.class)))
+                .thenReturn(new ClubRoleDTO(BookClubRole.NONE, false));
+
+        assertThrows(MembershipNotFoundException.class, () -> membershipService.getRole("foo"));
+
         securityUtilMockedStatic.close();
     }
 
@@ -230,9 +224,6 @@ class MembershipServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testUserID).build());
 
-        when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class)))
-                .thenReturn(Optional.of(BookClubMembership.builder().build()));
         when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class)))
                 .thenReturn(Optional.of(BookClubMembership.builder()
                         .bookClub(BookClub.builder().id(UUID.randomUUID()).build())
@@ -247,12 +238,11 @@ class MembershipServiceTest {
                 .role(BookClubRole.ADMIN)
                 .build());
 
-        verify(bookClubMembershipRepo, times(1))
-                .findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class));
+        verify(clubAuthorizationService, times(1)).requireAdmin(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(1))
                 .findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(1)).save(any(BookClubMembership.class));
+        verify(clubAuthorizationService, times(1)).evict(any(), eq(testUpdateUserID));
         assertThat(result).isNotNull();
 
         securityUtilMockedStatic.close();
@@ -267,9 +257,7 @@ class MembershipServiceTest {
                 UserNotFoundException.class,
                 () -> membershipService.updateMembership(
                         MembershipUpdate.builder().build()));
-        verify(bookClubMembershipRepo, times(0))
-                .findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class));
+        verify(clubAuthorizationService, times(0)).requireAdmin(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0))
                 .findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0)).save(any(BookClubMembership.class));
@@ -294,9 +282,7 @@ class MembershipServiceTest {
                         .role(BookClubRole.ADMIN)
                         .build()));
 
-        verify(bookClubMembershipRepo, times(0))
-                .findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class));
+        verify(clubAuthorizationService, times(0)).requireAdmin(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0))
                 .findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0)).save(any(BookClubMembership.class));
@@ -314,9 +300,9 @@ class MembershipServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testUserID).build());
 
-        when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class)))
-                .thenReturn(Optional.empty());
+        doThrow(new UnauthorizedBookClubActionException())
+                .when(clubAuthorizationService)
+                .requireAdmin(anyString(), any(UUID.class));
 
         assertThrows(
                 UnauthorizedBookClubActionException.class,
@@ -326,9 +312,7 @@ class MembershipServiceTest {
                         .role(BookClubRole.ADMIN)
                         .build()));
 
-        verify(bookClubMembershipRepo, times(1))
-                .findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class));
+        verify(clubAuthorizationService, times(1)).requireAdmin(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0))
                 .findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0)).save(any(BookClubMembership.class));
@@ -346,9 +330,6 @@ class MembershipServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testUserID).build());
 
-        when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class)))
-                .thenReturn(Optional.of(BookClubMembership.builder().build()));
         when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class)))
                 .thenReturn(Optional.empty());
 
@@ -360,9 +341,7 @@ class MembershipServiceTest {
                         .role(BookClubRole.ADMIN)
                         .build()));
 
-        verify(bookClubMembershipRepo, times(1))
-                .findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class));
+        verify(clubAuthorizationService, times(1)).requireAdmin(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(1))
                 .findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0)).save(any(BookClubMembership.class));
@@ -380,9 +359,6 @@ class MembershipServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testUserID).build());
 
-        when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class)))
-                .thenReturn(Optional.of(BookClubMembership.builder().build()));
         when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class)))
                 .thenReturn(Optional.of(BookClubMembership.builder()
                         .bookClub(BookClub.builder().id(UUID.randomUUID()).build())
@@ -398,9 +374,7 @@ class MembershipServiceTest {
                         .role(BookClubRole.ADMIN)
                         .build()));
 
-        verify(bookClubMembershipRepo, times(1))
-                .findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class));
+        verify(clubAuthorizationService, times(1)).requireAdmin(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(1))
                 .findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0)).save(any(BookClubMembership.class));
@@ -418,9 +392,6 @@ class MembershipServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testUserID).build());
 
-        when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class)))
-                .thenReturn(Optional.of(BookClubMembership.builder().build()));
         when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class)))
                 .thenReturn(Optional.of(BookClubMembership.builder()
                         .bookClub(BookClub.builder().id(UUID.randomUUID()).build())
@@ -438,9 +409,7 @@ class MembershipServiceTest {
                         .role(BookClubRole.ADMIN)
                         .build()));
 
-        verify(bookClubMembershipRepo, times(1))
-                .findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class));
+        verify(clubAuthorizationService, times(1)).requireAdmin(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(1))
                 .findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0)).save(any(BookClubMembership.class));
@@ -458,9 +427,6 @@ class MembershipServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testUserID).build());
 
-        when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class)))
-                .thenReturn(Optional.of(BookClubMembership.builder().build()));
         when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class)))
                 .thenReturn(Optional.of(BookClubMembership.builder()
                         .bookClub(BookClub.builder().id(UUID.randomUUID()).build())
@@ -471,12 +437,11 @@ class MembershipServiceTest {
 
         BookClubMembershipDTO result = membershipService.deleteMembership("foo", testDeleteUserID);
 
-        verify(bookClubMembershipRepo, times(1))
-                .findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class));
+        verify(clubAuthorizationService, times(1)).requireAdmin(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(1))
                 .findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(1)).save(any(BookClubMembership.class));
+        verify(clubAuthorizationService, times(1)).evict(any(), eq(testDeleteUserID));
         assertThat(result).isNotNull();
 
         securityUtilMockedStatic.close();
@@ -489,9 +454,7 @@ class MembershipServiceTest {
 
         assertThrows(UserNotFoundException.class, () -> membershipService.deleteMembership("foo", UUID.randomUUID()));
 
-        verify(bookClubMembershipRepo, times(0))
-                .findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class));
+        verify(clubAuthorizationService, times(0)).requireAdmin(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0))
                 .findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0)).save(any(BookClubMembership.class));
@@ -510,9 +473,7 @@ class MembershipServiceTest {
 
         assertThrows(BadBookClubActionException.class, () -> membershipService.deleteMembership("foo", testUserID));
 
-        verify(bookClubMembershipRepo, times(0))
-                .findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class));
+        verify(clubAuthorizationService, times(0)).requireAdmin(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0))
                 .findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0)).save(any(BookClubMembership.class));
@@ -530,17 +491,15 @@ class MembershipServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testUserID).build());
 
-        when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class)))
-                .thenReturn(Optional.empty());
+        doThrow(new UnauthorizedBookClubActionException())
+                .when(clubAuthorizationService)
+                .requireAdmin(anyString(), any(UUID.class));
 
         assertThrows(
                 UnauthorizedBookClubActionException.class,
                 () -> membershipService.deleteMembership("foo", testDeleteUserID));
 
-        verify(bookClubMembershipRepo, times(1))
-                .findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class));
+        verify(clubAuthorizationService, times(1)).requireAdmin(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0))
                 .findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0)).save(any(BookClubMembership.class));
@@ -558,18 +517,13 @@ class MembershipServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testUserID).build());
 
-        when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class)))
-                .thenReturn(Optional.of(BookClubMembership.builder().build()));
         when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class)))
                 .thenReturn(Optional.empty());
 
         assertThrows(
                 MembershipNotFoundException.class, () -> membershipService.deleteMembership("foo", testDeleteUserID));
 
-        verify(bookClubMembershipRepo, times(1))
-                .findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class));
+        verify(clubAuthorizationService, times(1)).requireAdmin(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(1))
                 .findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0)).save(any(BookClubMembership.class));
@@ -587,9 +541,6 @@ class MembershipServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testUserID).build());
 
-        when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class)))
-                .thenReturn(Optional.of(BookClubMembership.builder().build()));
         when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class)))
                 .thenReturn(Optional.of(BookClubMembership.builder()
                         .bookClub(BookClub.builder().id(UUID.randomUUID()).build())
@@ -600,9 +551,7 @@ class MembershipServiceTest {
         assertThrows(
                 BadBookClubActionException.class, () -> membershipService.deleteMembership("foo", testDeleteUserID));
 
-        verify(bookClubMembershipRepo, times(1))
-                .findByBookClubNameAndUserIdAndClubRoleAndDepartedIsNull(
-                        anyString(), any(UUID.class), any(BookClubRole.class));
+        verify(clubAuthorizationService, times(1)).requireAdmin(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(1))
                 .findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0)).save(any(BookClubMembership.class));
@@ -620,8 +569,6 @@ class MembershipServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testUserID).build());
 
-        when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndIsOwnerTrue(anyString(), any(UUID.class)))
-                .thenReturn(Optional.of(BookClubMembership.builder().build()));
         when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class)))
                 .thenReturn(Optional.of(BookClubMembership.builder()
                         .bookClub(BookClub.builder().build())
@@ -635,11 +582,11 @@ class MembershipServiceTest {
                 .newOwnerID(testNewOwnerID)
                 .build());
 
-        verify(bookClubMembershipRepo, times(1))
-                .findByBookClubNameAndUserIdAndIsOwnerTrue(anyString(), any(UUID.class));
+        verify(clubAuthorizationService, times(1)).requireOwner(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(1))
                 .findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(1)).save(any(BookClubMembership.class));
+        verify(clubAuthorizationService, times(1)).evict(any(), eq(testNewOwnerID));
         assertThat(result).isTrue();
 
         securityUtilMockedStatic.close();
@@ -657,8 +604,7 @@ class MembershipServiceTest {
                         .newOwnerID(UUID.randomUUID())
                         .build()));
 
-        verify(bookClubMembershipRepo, times(0))
-                .findByBookClubNameAndUserIdAndIsOwnerTrue(anyString(), any(UUID.class));
+        verify(clubAuthorizationService, times(0)).requireOwner(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0))
                 .findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0)).save(any(BookClubMembership.class));
@@ -682,8 +628,7 @@ class MembershipServiceTest {
                         .newOwnerID(testUserID)
                         .build()));
 
-        verify(bookClubMembershipRepo, times(0))
-                .findByBookClubNameAndUserIdAndIsOwnerTrue(anyString(), any(UUID.class));
+        verify(clubAuthorizationService, times(0)).requireOwner(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0))
                 .findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0)).save(any(BookClubMembership.class));
@@ -701,8 +646,9 @@ class MembershipServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testUserID).build());
 
-        when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndIsOwnerTrue(anyString(), any(UUID.class)))
-                .thenReturn(Optional.empty());
+        doThrow(new UnauthorizedBookClubActionException())
+                .when(clubAuthorizationService)
+                .requireOwner(anyString(), any(UUID.class));
 
         assertThrows(
                 UnauthorizedBookClubActionException.class,
@@ -711,8 +657,7 @@ class MembershipServiceTest {
                         .newOwnerID(testNewOwnerID)
                         .build()));
 
-        verify(bookClubMembershipRepo, times(1))
-                .findByBookClubNameAndUserIdAndIsOwnerTrue(anyString(), any(UUID.class));
+        verify(clubAuthorizationService, times(1)).requireOwner(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0))
                 .findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0)).save(any(BookClubMembership.class));
@@ -730,8 +675,6 @@ class MembershipServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testUserID).build());
 
-        when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndIsOwnerTrue(anyString(), any(UUID.class)))
-                .thenReturn(Optional.of(BookClubMembership.builder().build()));
         when(bookClubMembershipRepo.findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class)))
                 .thenReturn(Optional.empty());
 
@@ -742,8 +685,7 @@ class MembershipServiceTest {
                         .newOwnerID(testNewOwnerID)
                         .build()));
 
-        verify(bookClubMembershipRepo, times(1))
-                .findByBookClubNameAndUserIdAndIsOwnerTrue(anyString(), any(UUID.class));
+        verify(clubAuthorizationService, times(1)).requireOwner(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(1))
                 .findByBookClubNameAndUserIdAndDepartedIsNull(anyString(), any(UUID.class));
         verify(bookClubMembershipRepo, times(0)).save(any(BookClubMembership.class));
@@ -761,16 +703,12 @@ class MembershipServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testUserID).build());
 
-        when(bookClubMembershipRepo.findAllByBookClubIdAndIsOwnerTrueAndDepartedIsNullAndUserIdIn(
-                        any(UUID.class), anyList()))
-                .thenReturn(List.of(
-                        BookClubMembership.builder()
-                                .user(User.builder().id(testUserID).build())
-                                .build(),
-                        BookClubMembership.builder()
-                                .user(User.builder().id(targetOwnerID).build())
-                                .isOwner(true)
-                                .build()));
+        when(bookClubMembershipRepo.findByBookClubIdAndUserIdAndIsOwnerTrueAndDepartedIsNull(
+                        any(UUID.class), any(UUID.class)))
+                .thenReturn(Optional.of(BookClubMembership.builder()
+                        .user(User.builder().id(targetOwnerID).build())
+                        .isOwner(true)
+                        .build()));
 
         when(bookClubMembershipRepo.save(any(BookClubMembership.class)))
                 .thenReturn(BookClubMembership.builder().build());
@@ -780,8 +718,10 @@ class MembershipServiceTest {
                 .userID(targetOwnerID)
                 .build());
 
+        verify(clubAuthorizationService, times(1)).requireOwner(any(UUID.class), eq(testUserID));
         verify(bookClubMembershipRepo, times(1))
-                .findAllByBookClubIdAndIsOwnerTrueAndDepartedIsNullAndUserIdIn(any(UUID.class), anyList());
+                .findByBookClubIdAndUserIdAndIsOwnerTrueAndDepartedIsNull(any(UUID.class), eq(targetOwnerID));
+        verify(clubAuthorizationService, times(1)).evict(any(UUID.class), eq(targetOwnerID));
 
         assertThat(result).isNotNull();
 
@@ -828,12 +768,9 @@ class MembershipServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testUserID).build());
 
-        when(bookClubMembershipRepo.findAllByBookClubIdAndIsOwnerTrueAndDepartedIsNullAndUserIdIn(
-                        any(UUID.class), anyList()))
-                .thenReturn(List.of(BookClubMembership.builder()
-                        .user(User.builder().id(targetOwnerID).build())
-                        .isOwner(false)
-                        .build()));
+        doThrow(new UnauthorizedBookClubActionException())
+                .when(clubAuthorizationService)
+                .requireOwner(any(UUID.class), any(UUID.class));
 
         assertThrows(
                 UnauthorizedBookClubActionException.class,
@@ -855,11 +792,9 @@ class MembershipServiceTest {
                 .when(SecurityUtil::getCurrentUserDetails)
                 .thenReturn(User.builder().id(testUserID).build());
 
-        when(bookClubMembershipRepo.findAllByBookClubIdAndIsOwnerTrueAndDepartedIsNullAndUserIdIn(
-                        any(UUID.class), anyList()))
-                .thenReturn(List.of(BookClubMembership.builder()
-                        .user(User.builder().id(testUserID).build())
-                        .build()));
+        when(bookClubMembershipRepo.findByBookClubIdAndUserIdAndIsOwnerTrueAndDepartedIsNull(
+                        any(UUID.class), any(UUID.class)))
+                .thenReturn(Optional.empty());
 
         assertThrows(
                 MembershipNotFoundException.class,
@@ -0,0 +1,95 @@
+package com.bahubba.bahubbabookclub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mockStatic;
+
+import com.bahubba.bahubbabookclub.model.entity.Notification;
+import com.bahubba.bahubbabookclub.model.entity.NotificationCounter;
+import com.bahubba.bahubbabookclub.model.entity.User;
+import com.bahubba.bahubbabookclub.model.enums.NotificationType;
+import com.bahubba.bahubbabookclub.repository.NotificationCounterRepo;
+import com.bahubba.bahubbabookclub.repository.NotificationRepo;
+import com.bahubba.bahubbabookclub.util.SecurityUtil;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Tests marking all notifications read from several requests at once, against the database. The calls race to insert
+ * the same view rows, so all but one collide on the primary key and must retry rather than fail
+ */
+class NotificationReadConcurrencyTest extends DatabaseTestSupport {
+    private static final int NOTIFICATIONS = 20;
+    private static final int CALLERS = 4;
+
+    @Autowired
+    NotificationService notificationService;
+
+    @Autowired
+    NotificationRepo notificationRepo;
+
+    @Autowired
+    NotificationCounterRepo notificationCounterRepo;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    private User reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = saveUser("reader");
+        User other = saveUser("other");
+        notificationRepo.saveAll(IntStream.range(0, NOTIFICATIONS)
+                .mapToObj(i -> Notification.builder()
+                        .sourceUser(other)
+                        .targetUser(reader)
+                        .type(NotificationType.BOOK_CLUB_UPDATED)
+                        .build())
+                .toList());
+        notificationCounterRepo.save(new NotificationCounter(reader.getId(), NOTIFICATIONS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        jdbcTemplate.update("DELETE FROM notification_views");
+        jdbcTemplate.update("DELETE FROM notification_counter");
+        notificationRepo.deleteAll();
+    }
+
+    @Test
+    void testMarkAllRead_Concurrent() throws Exception {
+        CyclicBarrier start = new CyclicBarrier(CALLERS);
+        List<Future<Integer>> calls = IntStream.range(0, CALLERS)
+                .mapToObj(i -> executor.submit(() -> {
+                    // Static mocks only apply to the thread that opened them
+                    try (MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class)) {
+                        securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(reader);
+                        start.await();
+                        return notificationService.markAllRead();
+                    }
+                }))
+                .toList();
+
+        int marked = 0;
+        for (Future<Integer> call : calls) {
+            marked += call.get();
+        }
+
+        // Each notification was marked by exactly one of the calls, and subtracted from the counter once
+        assertThat(marked).isEqualTo(NOTIFICATIONS);
+        assertThat(notificationCounterRepo.findUnreadByUserId(reader.getId())).contains(0L);
+    }
+}
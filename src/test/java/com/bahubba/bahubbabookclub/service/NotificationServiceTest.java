@@ -0,0 +1,187 @@
+package com.bahubba.bahubbabookclub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.bahubba.bahubbabookclub.exception.BadCursorException;
+import com.bahubba.bahubbabookclub.exception.UserNotFoundException;
+import com.bahubba.bahubbabookclub.model.dto.CursorPageDTO;
+import com.bahubba.bahubbabookclub.model.dto.NotificationDTO;
+import com.bahubba.bahubbabookclub.model.entity.User;
+import com.bahubba.bahubbabookclub.notification.NotificationStreamRegistry;
+import com.bahubba.bahubbabookclub.repository.NotificationCounterRepo;
+import com.bahubba.bahubbabookclub.repository.NotificationRepo;
+import com.bahubba.bahubbabookclub.util.KeysetCursor;
+import com.bahubba.bahubbabookclub.util.SecurityUtil;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/** Unit tests for the {@link NotificationService} business logic */
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificationServiceTest {
+    @Autowired
+    NotificationService notificationService;
+
+    @MockBean
+    NotificationRepo notificationRepo;
+
+    @MockBean
+    NotificationCounterRepo notificationCounterRepo;
+
+    @MockBean
+    NotificationStreamRegistry notificationStreamRegistry;
+
+    @Test
+    void testGetFeed() {
+        try (MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class)) {
+            securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(newUser());
+
+            NotificationDTO notification = NotificationDTO.builder()
+                    .id(UUID.randomUUID())
+                    .generated(LocalDateTime.now())
+                    .build();
+            when(notificationRepo.findFirstFeedSlice(any(UUID.class), any(Pageable.class)))
+                    .thenReturn(new SliceImpl<>(List.of(notification), Pageable.ofSize(1), true));
+
+            CursorPageDTO<NotificationDTO> result = notificationService.getFeed(null, 1);
+
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(KeysetCursor.decode(result.getNextCursor()))
+                    .isEqualTo(new KeysetCursor(notification.getGenerated(), notification.getId()));
+            verify(notificationRepo, never())
+                    .findFeedSliceAfter(any(UUID.class), any(LocalDateTime.class), any(UUID.class), any());
+        }
+    }
+
+    @Test
+    void testGetFeed_AfterCursor() {
+        try (MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class)) {
+            securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(newUser());
+            when(notificationRepo.findFeedSliceAfter(
+                            any(UUID.class), any(LocalDateTime.class), any(UUID.class), any(Pageable.class)))
+                    .thenReturn(new SliceImpl<>(List.of()));
+
+            String cursor = new KeysetCursor(LocalDateTime.now(), UUID.randomUUID()).encode();
+            CursorPageDTO<NotificationDTO> result = notificationService.getFeed(cursor, 10);
+
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+        }
+    }
+
+    @Test
+    void testGetFeed_BadCursor() {
+        try (MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class)) {
+            securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(newUser());
+            assertThrows(BadCursorException.class, () -> notificationService.getFeed("not a cursor", 10));
+        }
+    }
+
+    @Test
+    void testGetFeed_NoUser() {
+        try (MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class)) {
+            securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(null);
+            assertThrows(UserNotFoundException.class, () -> notificationService.getFeed(null, 10));
+        }
+    }
+
+    @Test
+    void testGetUnreadCount() {
+        try (MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class)) {
+            securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(newUser());
+            when(notificationCounterRepo.findUnreadByUserId(any(UUID.class))).thenReturn(Optional.of(7L));
+
+            assertThat(notificationService.getUnreadCount()).isEqualTo(7L);
+            verifyNoInteractions(notificationRepo);
+        }
+    }
+
+    @Test
+    void testGetUnreadCount_NoCounter() {
+        try (MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class)) {
+            securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(newUser());
+            when(notificationCounterRepo.findUnreadByUserId(any(UUID.class))).thenReturn(Optional.empty());
+
+            assertThat(notificationService.getUnreadCount()).isZero();
+        }
+    }
+
+    @Test
+    void testMarkAllRead() {
+        try (MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class)) {
+            User user = newUser();
+            securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(user);
+            when(notificationRepo.markAllRead(user.getId())).thenReturn(3);
+
+            assertThat(notificationService.markAllRead()).isEqualTo(3);
+            verify(notificationCounterRepo, times(1)).decrementUnread(user.getId(), 3);
+        }
+    }
+
+    @Test
+    void testMarkAllRead_NothingUnread() {
+        try (MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class)) {
+            securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(newUser());
+            when(notificationRepo.markAllRead(any(UUID.class))).thenReturn(0);
+
+            assertThat(notificationService.markAllRead()).isZero();
+            verify(notificationCounterRepo, never()).decrementUnread(any(UUID.class), anyLong());
+        }
+    }
+
+    @Test
+    void testMarkAllRead_RetriedAfterConcurrentInsert() {
+        try (MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class)) {
+            User user = newUser();
+            securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(user);
+            when(notificationRepo.markAllRead(user.getId()))
+                    .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                    .thenReturn(2);
+
+            assertThat(notificationService.markAllRead()).isEqualTo(2);
+            verify(notificationRepo, times(2)).markAllRead(user.getId());
+            verify(notificationCounterRepo, times(1)).decrementUnread(user.getId(), 2);
+        }
+    }
+
+    @Test
+    void testOpenStream() {
+        try (MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class)) {
+            User user = newUser();
+            securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(user);
+            SseEmitter emitter = new SseEmitter();
+            when(notificationStreamRegistry.connect(user.getId())).thenReturn(emitter);
+
+            assertThat(notificationService.openStream()).isSameAs(emitter);
+        }
+    }
+
+    @Test
+    void testOpenStream_NoUser() {
+        try (MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class)) {
+            securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(null);
+
+            assertThrows(UserNotFoundException.class, () -> notificationService.openStream());
+            verifyNoInteractions(notificationStreamRegistry);
+        }
+    }
+
+    private User newUser() {
+        return User.builder().id(UUID.randomUUID()).build();
+    }
+}
@@ -1,19 +1,22 @@
 package com.bahubba.bahubbabookclub.service;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -45,6 +48,23 @@ class S3ServiceTest {
         assertThat(result).isNotNull();
     }
 
+    @Test
+    void testListS3ObjectsAtPrefix_Paginated() {
+        when(s3Client.listObjectsV2(any(Consumer.class)))
+                .thenReturn(ListObjectsV2Response.builder()
+                        .contents(List.of(S3Object.builder().key("a").build()))
+                        .isTruncated(true)
+                        .nextContinuationToken("a")
+                        .build())
+                .thenReturn(ListObjectsV2Response.builder()
+                        .contents(List.of(S3Object.builder().key("b").build()))
+                        .isTruncated(false)
+                        .build());
+        List<S3Object> result = s3Service.listS3ObjectsAtPrefix("test");
+        verify(s3Client, times(2)).listObjectsV2(any(Consumer.class));
+        assertThat(result.size()).isEqualTo(2);
+    }
+
     @Test
     void testGetPreSignedURL() {
         when(s3PreSigner.presignGetObject(any(GetObjectPresignRequest.class)))
@@ -61,4 +81,96 @@ class S3ServiceTest {
         String result = s3Service.getPreSignedURL("test");
         assertThat(result).isNotNull();
     }
+
+    @Test
+    void testGetPreSignedURL_Cached() {
+        when(s3PreSigner.presignGetObject(any(GetObjectPresignRequest.class)))
+                .thenReturn(PresignedGetObjectRequest.builder()
+                        .httpRequest(SdkHttpRequest.builder()
+                                .method(SdkHttpMethod.GET)
+                                .host("localhost")
+                                .protocol("https")
+                                .build())
+                        .signedHeaders(Map.of("someHeader", List.of("someVal")))
+                        .isBrowserExecutable(false)
+                        .expiration(Instant.now().plus(Duration.ofSeconds(1)))
+                        .build());
+        String first = s3Service.getPreSignedURL("cached");
+        String second = s3Service.getPreSignedURL("cached");
+        verify(s3PreSigner, times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void testGetPreSignedURLs_SignsEachDistinctKeyOnce() {
+        when(s3PreSigner.presignGetObject(any(GetObjectPresignRequest.class)))
+                .thenReturn(PresignedGetObjectRequest.builder()
+                        .httpRequest(SdkHttpRequest.builder()
+                                .method(SdkHttpMethod.GET)
+                                .host("localhost")
+                                .protocol("https")
+                                .build())
+                        .signedHeaders(Map.of("someHeader", List.of("someVal")))
+                        .isBrowserExecutable(false)
+                        .expiration(Instant.now().plus(Duration.ofSeconds(1)))
+                        .build());
+        s3Service.getPreSignedURL("batch-cached");
+
+        Map<String, String> result =
+                s3Service.getPreSignedURLs(List.of("batch-a", "batch-b", "batch-a", "batch-c", "batch-cached"));
+
+        // The cached key isn't signed again, and the repeated one is signed once
+        verify(s3PreSigner, times(4)).presignGetObject(any(GetObjectPresignRequest.class));
+        assertThat(result).containsOnlyKeys("batch-a", "batch-b", "batch-c", "batch-cached");
+        assertThat(result).doesNotContainValue(null);
+    }
+
+    @Test
+    void testGetPreSignedURLs_SingleKeySignedInline() {
+        List<Thread> signingThreads = new CopyOnWriteArrayList<>();
+        when(s3PreSigner.presignGetObject(any(GetObjectPresignRequest.class))).thenAnswer(invocation -> {
+            signingThreads.add(Thread.currentThread());
+            return presignedRequest();
+        });
+
+        Map<String, String> result = s3Service.getPreSignedURLs(List.of("inline", "inline"));
+
+        // One distinct key isn't handed off to the presigning pool
+        assertThat(result).containsOnlyKeys("inline");
+        assertThat(signingThreads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    void testGetPreSignedURLs_FailedKey() {
+        when(s3PreSigner.presignGetObject(any(GetObjectPresignRequest.class))).thenAnswer(invocation -> {
+            GetObjectPresignRequest request = invocation.getArgument(0);
+            if (request.getObjectRequest().key().equals("failed-bad")) {
+                throw SdkClientException.create("Signing failed");
+            }
+            return presignedRequest();
+        });
+
+        // The signer's own exception surfaces, not the pool's wrapper
+        assertThatThrownBy(() -> s3Service.getPreSignedURLs(List.of("failed-a", "failed-bad", "failed-b")))
+                .isInstanceOf(SdkClientException.class)
+                .hasMessageContaining("Signing failed");
+
+        // Nothing from the failed batch is cached, and the other keys still sign
+        Map<String, String> result = s3Service.getPreSignedURLs(List.of("failed-a", "failed-b"));
+        assertThat(result).containsOnlyKeys("failed-a", "failed-b");
+        assertThat(result).doesNotContainValue(null);
+    }
+
+    private static PresignedGetObjectRequest presignedRequest() {
+        return PresignedGetObjectRequest.builder()
+                .httpRequest(SdkHttpRequest.builder()
+                        .method(SdkHttpMethod.GET)
+                        .host("localhost")
+                        .protocol("https")
+                        .build())
+                .signedHeaders(Map.of("someHeader", List.of("someVal")))
+                .isBrowserExecutable(false)
+                .expiration(Instant.now().plus(Duration.ofSeconds(1)))
+                .build();
+    }
 }
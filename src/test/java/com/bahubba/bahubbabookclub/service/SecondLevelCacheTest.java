@@ -0,0 +1,158 @@
+package com.bahubba.bahubbabookclub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mockStatic;
+
+import com.bahubba.bahubbabookclub.model.entity.BookClub;
+import com.bahubba.bahubbabookclub.model.entity.BookClubMembership;
+import com.bahubba.bahubbabookclub.model.entity.User;
+import com.bahubba.bahubbabookclub.model.enums.BookClubRole;
+import com.bahubba.bahubbabookclub.model.enums.Publicity;
+import com.bahubba.bahubbabookclub.model.payload.BookClubPayload;
+import com.bahubba.bahubbabookclub.util.SecurityUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+/**
+ * Tests for the second-level cache over book clubs and users. Repeat lookups by id or name must not reach the
+ * database, and renaming or disbanding a book club must replace what the cache holds for it
+ */
+class SecondLevelCacheTest extends DatabaseTestSupport {
+    private static final String BOOK_CLUB_REGION = "bookClubs";
+    private static final String BOOK_CLUB_NAME_REGION = "bookClubNames";
+    private static final String USER_REGION = "users";
+
+    @Autowired
+    BookClubService bookClubService;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @MockBean
+    S3Service s3Service;
+
+    private User owner;
+    private BookClub bookClub;
+
+    @BeforeEach
+    void setUp() {
+        owner = saveUser("owner");
+        bookClub = bookClubRepo.save(BookClub.builder()
+                .name("Cached Book Club")
+                .description("A book club")
+                .imageFileName("image.jpg")
+                .publicity(Publicity.PUBLIC)
+                .build());
+        bookClubMembershipRepo.save(BookClubMembership.builder()
+                .bookClub(bookClub)
+                .user(owner)
+                .clubRole(BookClubRole.ADMIN)
+                .isOwner(true)
+                .build());
+    }
+
+    @Test
+    void testFindById_ServedFromCache() {
+        bookClubRepo.findById(bookClub.getId());
+
+        statistics.clear();
+        assertThat(bookClubRepo.findById(bookClub.getId())).isPresent();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getCacheRegionStatistics(BOOK_CLUB_REGION).getHitCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testFindUserById_ServedFromCache() {
+        userRepo.findById(owner.getId());
+
+        statistics.clear();
+        assertThat(userRepo.findById(owner.getId())).isPresent();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getCacheRegionStatistics(USER_REGION).getHitCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testFindByName_ServedFromNaturalIdCache() {
+        bookClubRepo.findByName(bookClub.getName());
+
+        statistics.clear();
+        assertThat(bookClubRepo.findByName(bookClub.getName())).isPresent();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getCacheRegionStatistics(BOOK_CLUB_NAME_REGION).getHitCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testUpdate_RenameReplacesCachedName() {
+        String oldName = bookClub.getName();
+        bookClubRepo.findByName(oldName);
+
+        try (MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class)) {
+            securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(owner);
+
+            bookClubService.update(BookClubPayload.builder()
+                    .id(bookClub.getId())
+                    .name("Renamed Book Club")
+                    .description("A renamed book club")
+                    .imageFileName("image.jpg")
+                    .publicity(Publicity.PUBLIC)
+                    .build());
+        }
+
+        assertThat(bookClubRepo.findByName(oldName)).isEmpty();
+        assertThat(bookClubRepo.findByName("Renamed Book Club"))
+                .hasValueSatisfying(renamed -> assertThat(renamed.getDescription())
+                        .isEqualTo("A renamed book club"));
+        assertThat(bookClubRepo.findById(bookClub.getId()))
+                .hasValueSatisfying(renamed -> assertThat(renamed.getName()).isEqualTo("Renamed Book Club"));
+    }
+
+    @Test
+    void testDisband_ReplacesCachedBookClub() {
+        bookClubRepo.findById(bookClub.getId());
+        bookClubRepo.findByName(bookClub.getName());
+
+        try (MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class)) {
+            securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(owner);
+
+            bookClubService.disbandBookClubByName(bookClub.getName());
+        }
+
+        assertThat(bookClubRepo.findById(bookClub.getId()))
+                .hasValueSatisfying(disbanded -> assertThat(disbanded.getDisbanded())
+                        .isNotNull());
+        assertThat(bookClubRepo.findByName(bookClub.getName()))
+                .hasValueSatisfying(disbanded -> assertThat(disbanded.getDisbanded())
+                        .isNotNull());
+    }
+
+    @Test
+    void testHitRatio_PublishedPerRegion() {
+        statistics.clear();
+        bookClubRepo.findById(bookClub.getId());
+        bookClubRepo.findById(bookClub.getId());
+
+        double hitRatio = meterRegistry
+                .get("cache.hit.ratio")
+                .tag("cache", BOOK_CLUB_REGION)
+                .gauge()
+                .value();
+        assertThat(hitRatio).isGreaterThan(0);
+        assertThat(meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", BOOK_CLUB_REGION)
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count())
+                .isGreaterThan(0);
+    }
+}
@@ -0,0 +1,135 @@
+package com.bahubba.bahubbabookclub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.bahubba.bahubbabookclub.model.dto.S3ImageDTO;
+import com.bahubba.bahubbabookclub.util.APIConstants;
+import com.bahubba.bahubbabookclub.util.LocalS3Client;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class StockImageServiceTest {
+    @Autowired
+    StockImageService stockImageService;
+
+    @Autowired
+    LocalS3Client localS3Client;
+
+    @MockBean
+    S3Presigner s3PreSigner;
+
+    @TestConfiguration
+    static class LocalS3Config {
+        @Bean
+        @Primary
+        LocalS3Client localS3Client() {
+            return new LocalS3Client(1000);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        localS3Client.reset();
+        when(s3PreSigner.presignGetObject(any(GetObjectPresignRequest.class)))
+                .thenReturn(PresignedGetObjectRequest.builder()
+                        .httpRequest(SdkHttpRequest.builder()
+                                .method(SdkHttpMethod.GET)
+                                .host("localhost")
+                                .protocol("https")
+                                .build())
+                        .signedHeaders(Map.of("someHeader", List.of("someVal")))
+                        .isBrowserExecutable(false)
+                        .expiration(Instant.now().plus(Duration.ofMinutes(10)))
+                        .build());
+    }
+
+    @Test
+    void testGetStockImages_AllPages() {
+        for (int i = 0; i < 2500; i++) {
+            localS3Client.putObject(APIConstants.BOOK_CLUB_STOCK_IMAGE_PREFIX + "image" + i + ".jpg", 1L);
+        }
+        localS3Client.putObject(APIConstants.BOOK_CLUB_STOCK_IMAGE_PREFIX, 0L);
+        localS3Client.putObject("book-clubs/images/custom/other.jpg", 1L);
+
+        stockImageService.refresh();
+        List<S3ImageDTO> result = stockImageService.getStockImages();
+
+        assertThat(result).hasSize(2500);
+        assertThat(result.get(0).getFileName()).startsWith("image");
+        assertThat(result.get(0).getUrl()).isNotNull();
+        assertThat(localS3Client.getListCalls()).isEqualTo(3);
+    }
+
+    @Test
+    void testGetStockImages_ServedFromMemory() {
+        localS3Client.putObject(APIConstants.BOOK_CLUB_STOCK_IMAGE_PREFIX + "image.jpg", 1L);
+        stockImageService.refresh();
+
+        stockImageService.getStockImages();
+        stockImageService.getStockImages();
+
+        assertThat(localS3Client.getListCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void testRefresh() {
+        localS3Client.putObject(APIConstants.BOOK_CLUB_STOCK_IMAGE_PREFIX + "image.jpg", 1L);
+        stockImageService.refresh();
+        localS3Client.putObject(APIConstants.BOOK_CLUB_STOCK_IMAGE_PREFIX + "image2.jpg", 1L);
+
+        stockImageService.refresh();
+
+        assertThat(stockImageService.getStockImages()).hasSize(2);
+    }
+
+    @Test
+    void testRefresh_FailureKeepsCatalog() {
+        localS3Client.putObject(APIConstants.BOOK_CLUB_STOCK_IMAGE_PREFIX + "image.jpg", 1L);
+        stockImageService.refresh();
+        localS3Client.setFailing(true);
+
+        stockImageService.refresh();
+
+        assertThat(stockImageService.getStockImages()).hasSize(1);
+    }
+
+    @Test
+    void testGetStockImages_FirstLoadFailureNotRetriedPerRequest() {
+        // Start from a service that hasn't loaded the catalog yet
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(stockImageService), "stockImageKeys", null);
+        localS3Client.putObject(APIConstants.BOOK_CLUB_STOCK_IMAGE_PREFIX + "image.jpg", 1L);
+        localS3Client.setFailing(true);
+
+        assertThat(stockImageService.getStockImages()).isEmpty();
+        assertThat(stockImageService.getStockImages()).isEmpty();
+        assertThat(localS3Client.getListCalls()).isEqualTo(1);
+
+        // The scheduled refresh picks the catalog up once S3 recovers
+        localS3Client.setFailing(false);
+        stockImageService.refresh();
+
+        assertThat(stockImageService.getStockImages()).hasSize(1);
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.test.context.ActiveProfiles;
 
 @SpringBootTest
@@ -28,6 +29,9 @@ class UserServiceTest {
     @MockBean
     UserRepo userRepo;
 
+    @MockBean
+    UserCache userCache;
+
     @Test
     void testFindByID() {
         when(userRepo.findById(any(UUID.class))).thenReturn(Optional.of(new User()));
@@ -52,11 +56,14 @@ class UserServiceTest {
 
     @Test
     void testRemoveUser() {
-        when(userRepo.findById(any(UUID.class))).thenReturn(Optional.of(new User()));
+        when(userRepo.findById(any(UUID.class)))
+                .thenReturn(Optional.of(User.builder().username("user").build()));
         when(userRepo.save(any(User.class))).thenReturn(new User());
         UserDTO result = userService.removeUser(UUID.randomUUID());
         verify(userRepo, times(1)).findById(any(UUID.class));
         verify(userRepo, times(1)).save(any(User.class));
+        // Once right away and once after the departure commits
+        verify(userCache, times(2)).removeUserFromCache("user");
         assertThat(result).isNotNull();
     }
 
@@ -0,0 +1,108 @@
+package com.bahubba.bahubbabookclub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mockStatic;
+
+import com.bahubba.bahubbabookclub.model.entity.BookClub;
+import com.bahubba.bahubbabookclub.model.entity.BookClubMembership;
+import com.bahubba.bahubbabookclub.model.entity.User;
+import com.bahubba.bahubbabookclub.model.enums.Publicity;
+import com.bahubba.bahubbabookclub.model.payload.BookClubPayload;
+import com.bahubba.bahubbabookclub.model.payload.UserPayload;
+import com.bahubba.bahubbabookclub.repository.NotificationRepo;
+import com.bahubba.bahubbabookclub.repository.RefreshTokenRepo;
+import com.bahubba.bahubbabookclub.util.SecurityUtil;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+/**
+ * Regression tests for the round trips issued by multi-entity writes. Each write must run in a single transaction, and
+ * inserts into the same table must share one batched statement
+ */
+class WriteBatchingQueryCountTest extends DatabaseTestSupport {
+    private static final int MEMBER_COUNT = 20;
+
+    @Autowired
+    BookClubService bookClubService;
+
+    @Autowired
+    AuthService authService;
+
+    @Autowired
+    NotificationRepo notificationRepo;
+
+    @Autowired
+    RefreshTokenRepo refreshTokenRepo;
+
+    @MockBean
+    S3Service s3Service;
+
+    @AfterEach
+    void tearDown() {
+        notificationRepo.deleteAll();
+        refreshTokenRepo.deleteAll();
+    }
+
+    @Test
+    void testCreate_SingleTransaction() {
+        User user = saveUser("creator");
+
+        try (MockedStatic<SecurityUtil> securityUtilMockedStatic = mockStatic(SecurityUtil.class)) {
+            securityUtilMockedStatic.when(SecurityUtil::getCurrentUserDetails).thenReturn(user);
+
+            statistics.clear();
+            bookClubService.create(BookClubPayload.builder()
+                    .name("Batched Book Club")
+                    .description("A book club")
+                    .imageFileName("image.jpg")
+                    .publicity(Publicity.PUBLIC)
+                    .build());
+        }
+
+        // One insert each for the book club and the owner's membership, committed once
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getSuccessfulTransactionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testRegister_SingleTransaction() {
+        statistics.clear();
+        authService.register(UserPayload.builder()
+                .username("registrant")
+                .email("registrant@test.com")
+                .password("password")
+                .build());
+
+        // One insert each for the user and the refresh token. The refresh token's user comes from the persistence
+        // context rather than a separate select
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getSuccessfulTransactionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testSaveAll_BatchesInserts() {
+        BookClub bookClub = bookClubRepo.save(BookClub.builder()
+                .name("Big Book Club")
+                .description("A big book club")
+                .imageFileName("image.jpg")
+                .build());
+        List<BookClubMembership> memberships = IntStream.range(0, MEMBER_COUNT)
+                .mapToObj(i -> BookClubMembership.builder()
+                        .bookClub(bookClub)
+                        .user(saveUser("member" + i))
+                        .build())
+                .toList();
+
+        statistics.clear();
+        bookClubMembershipRepo.saveAll(memberships);
+
+        // Every membership insert shares one prepared statement, executed as a batch
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(MEMBER_COUNT);
+    }
+}
@@ -0,0 +1,101 @@
+package com.bahubba.bahubbabookclub.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+/**
+ * In-memory stand-in for S3 in tests. Supports object listing with real continuation-token pagination; every other
+ * operation falls through to the SDK's default UnsupportedOperationException.
+ */
+public class LocalS3Client implements S3Client {
+    private final Map<String, Long> objects = new ConcurrentSkipListMap<>();
+    private final AtomicInteger listCalls = new AtomicInteger();
+    private final int pageSize;
+    private volatile boolean failing;
+
+    public LocalS3Client(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Adds an object to the bucket
+     *
+     * @param key The object's key
+     * @param size The object's size in bytes
+     */
+    public void putObject(String key, long size) {
+        objects.put(key, size);
+    }
+
+    /**
+     * Makes every listing call fail (or succeed again)
+     *
+     * @param failing Whether listing calls should throw
+     */
+    public void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    /**
+     * Gets the number of listing calls made so far
+     *
+     * @return The number of listObjectsV2 calls
+     */
+    public int getListCalls() {
+        return listCalls.get();
+    }
+
+    /** Empties the bucket and resets the call count and failure mode */
+    public void reset() {
+        objects.clear();
+        listCalls.set(0);
+        failing = false;
+    }
+
+    @Override
+    public ListObjectsV2Response listObjectsV2(ListObjectsV2Request request) {
+        listCalls.incrementAndGet();
+        if (failing) {
+            throw S3Exception.builder().message("Local S3 failure").build();
+        }
+
+        // Continuation tokens are the last key of the previous page, so pages pick up strictly after it
+        String prefix = request.prefix() != null ? request.prefix() : "";
+        List<String> matchingKeys = objects.keySet().stream()
+                .filter(key -> key.startsWith(prefix))
+                .filter(key -> request.continuationToken() == null
+                        || key.compareTo(request.continuationToken()) > 0)
+                .limit(pageSize + 1L)
+                .toList();
+
+        boolean truncated = matchingKeys.size() > pageSize;
+        List<String> pageKeys = truncated ? matchingKeys.subList(0, pageSize) : matchingKeys;
+
+        return ListObjectsV2Response.builder()
+                .contents(pageKeys.stream()
+                        .map(key ->
+                                S3Object.builder().key(key).size(objects.get(key)).build())
+                        .toList())
+                .isTruncated(truncated)
+                .nextContinuationToken(truncated ? pageKeys.get(pageKeys.size() - 1) : null)
+                .keyCount(pageKeys.size())
+                .build();
+    }
+
+    @Override
+    public String serviceName() {
+        return "s3";
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release
+    }
+}